@@ -0,0 +1,31 @@
+package com.dev.monkey_dev.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of a keyset (cursor) paginated result.
+ * Unlike a Spring Data Page it carries no totals, so producing it never
+ * requires a COUNT query.
+ *
+ * @param content    Rows of the current page
+ * @param size       Requested page size
+ * @param cursor     Cursor used to fetch this page (null for the first page)
+ * @param nextCursor Cursor for the following page (null when this is the last page)
+ * @param <T>        Type of the content
+ */
+public record CursorPage<T>(List<T> content, int size, String cursor, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isFirst() {
+        return cursor == null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorPage<>(converted, size, cursor, nextCursor);
+    }
+}
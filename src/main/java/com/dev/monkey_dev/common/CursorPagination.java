@@ -0,0 +1,54 @@
+package com.dev.monkey_dev.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pagination metadata for keyset (cursor) pages.
+ * Replaces total pages / total elements with the cursor needed to fetch the
+ * next page.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+public class CursorPagination {
+
+    @JsonProperty("is_first")
+    private boolean first;
+
+    @JsonProperty("is_last")
+    private boolean last;
+
+    @JsonProperty("page_size")
+    private int size;
+
+    @JsonProperty("current_total_elements")
+    private int currentTotalElements;
+
+    @JsonProperty("is_empty")
+    private boolean empty;
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @JsonProperty("cursor")
+    private String cursor;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    public CursorPagination(CursorPage<?> page) {
+        this.first = page.isFirst();
+        this.last = !page.hasNext();
+        this.size = page.size();
+        this.currentTotalElements = page.content().size();
+        this.empty = page.content().isEmpty();
+        this.hasNext = page.hasNext();
+        this.cursor = page.cursor();
+        this.nextCursor = page.nextCursor();
+    }
+}
@@ -0,0 +1,57 @@
+package com.dev.monkey_dev.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.exception.BusinessException;
+
+/**
+ * Opaque keyset pagination cursor.
+ * Holds the sort field, direction and the sort value and id of the last row
+ * of a page, so the next page can seek directly past that row instead of
+ * skipping rows with OFFSET.
+ *
+ * @param field     Sort property name (e.g. "createdAt")
+ * @param direction Sort direction
+ * @param value     String form of the last row's sort value
+ * @param id        Id of the last row, used as the tie-breaker
+ */
+public record CursorToken(String field, Sort.Direction direction, String value, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes this cursor as a URL-safe token.
+     *
+     * @return Base64 (URL-safe, unpadded) token
+     */
+    public String encode() {
+        // The value goes last because it may contain the separator (e.g. titles)
+        String raw = String.join(SEPARATOR, VERSION, field, direction.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token Encoded cursor token
+     * @return Decoded cursor
+     * @throws BusinessException if the token is malformed
+     */
+    public static CursorToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor format");
+            }
+            return new CursorToken(parts[1], Sort.Direction.fromString(parts[2]), parts[4], Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(StatusCode.INVALID_CURSOR, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.dev.monkey_dev.common;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * A page of results together with facet counts computed over all matches,
+ * e.g. {@code {"category": {"shoes": 12}, "price": {"0-25": 3}}}.
+ *
+ * @param page   Requested page
+ * @param facets Facet name to (value to number of matching rows)
+ * @param <T>    Type of the content
+ */
+public record FacetedPage<T>(Page<T> page, Map<String, Map<String, Long>> facets) {
+
+}
@@ -65,4 +65,38 @@ public class PaginatedResponse {
         response.put(paginationKey, new Pagination(page));
         return response;
     }
+
+    /**
+     * Creates a cursor paginated response map from a CursorPage.
+     * The response contains:
+     * - "data": List of content from the page
+     * - "pagination": Cursor pagination metadata (next cursor instead of totals)
+     * 
+     * @param page Cursor page
+     * @param <T> Type of the content in the page
+     * @return Map containing "data" and "pagination" keys
+     */
+    public static <T> Map<String, Object> of(CursorPage<T> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", page.content());
+        response.put("pagination", new CursorPagination(page));
+        return response;
+    }
+
+    /**
+     * Creates a paginated response map from a FacetedPage.
+     * The response contains:
+     * - "data": List of content from the page
+     * - "pagination": Pagination metadata object
+     * - "facets": Facet counts over all matches
+     * 
+     * @param facetedPage Page with facet counts
+     * @param <T> Type of the content in the page
+     * @return Map containing "data", "pagination" and "facets" keys
+     */
+    public static <T> Map<String, Object> of(FacetedPage<T> facetedPage) {
+        Map<String, Object> response = of(facetedPage.page());
+        response.put("facets", facetedPage.facets());
+        return response;
+    }
 }
@@ -0,0 +1,60 @@
+package com.dev.monkey_dev.common;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Price ranges used for price facets, defined by ascending upper bounds.
+ * Bounds 25, 50 give the buckets "0-25", "25-50" and "50+"; each bucket
+ * includes its lower bound and excludes its upper bound, matching PostgreSQL's
+ * {@code width_bucket(price, thresholds)}.
+ */
+public class PriceBuckets {
+
+    private final List<BigDecimal> bounds;
+    private final List<String> labels;
+
+    public PriceBuckets(List<BigDecimal> bounds) {
+        this.bounds = bounds.stream().sorted().toList();
+        List<String> bucketLabels = new ArrayList<>();
+        BigDecimal lower = BigDecimal.ZERO;
+        for (BigDecimal upper : this.bounds) {
+            bucketLabels.add(lower.toPlainString() + "-" + upper.toPlainString());
+            lower = upper;
+        }
+        bucketLabels.add(lower.toPlainString() + "+");
+        this.labels = List.copyOf(bucketLabels);
+    }
+
+    public List<BigDecimal> getBounds() {
+        return bounds;
+    }
+
+    /**
+     * @return Bucket labels in price order
+     */
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * @param index Bucket index as returned by {@link #indexOf(BigDecimal)} or {@code width_bucket}
+     * @return Label of the bucket
+     */
+    public String label(int index) {
+        return labels.get(index);
+    }
+
+    /**
+     * @param price Price
+     * @return Number of bounds that are less than or equal to the price
+     */
+    public int indexOf(BigDecimal price) {
+        int index = 0;
+        while (index < bounds.size() && price.compareTo(bounds.get(index)) >= 0) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -27,6 +27,7 @@ public enum StatusCode {
     INCORRECT_PASSWORD(40055, "Incorrect password", 400),
     INACTIVE_USER(40056, "Inactive user", 400),
     INVALID_TOKEN(40051, "Invalid token", 400),
+    INVALID_CURSOR(40060, "Invalid pagination cursor", 400),
 
     // 401 Unauthorized
     UNAUTHORIZED(40100, "Unauthorized", 401),
@@ -37,6 +38,11 @@ public enum StatusCode {
 
     // 409 Conflict
     USER_ID_ALREADY_EXISTS(40913, "User ID already exists", 409),
+    INSUFFICIENT_STOCK(40914, "Not enough stock available", 409),
+    FLASH_SALE_ALREADY_ACTIVE(40915, "A flash sale is already running for this inventory", 409),
+
+    // 413 Payload Too Large
+    PRODUCT_IMPORT_TOO_LARGE(41300, "Import file is too large", 413),
 
     // 452 Custom Client Errors
     PASSWORD_INCORRECT_452(45200, "Password is incorrect", 452),
@@ -55,6 +61,12 @@ public enum StatusCode {
     PRODUCT_NOT_FOUND(45306, "Product not found", 453),
     PRODUCT_NOT_ACTIVE(45307, "Product is not active", 453),
     PRODUCT_ALREADY_IN_CATEGORY(45308, "Product already in category", 453),
+    PRODUCT_IMPORT_NOT_FOUND(45309, "Product import job not found", 453),
+    INVENTORY_NOT_FOUND(45310, "Inventory not found", 453),
+    INVENTORY_RESERVATION_NOT_FOUND(45311, "Inventory reservation not found or no longer pending", 453),
+    FLASH_SALE_NOT_ACTIVE(45312, "No flash sale is running for this inventory", 453),
+    PRODUCT_VARIATION_NOT_FOUND(45313, "Product variation not found", 453),
+    FLASH_SALE_GRANT_DROPPED(45314, "Flash sale reservation could not be recorded", 453),
     // 500 Internal Server Error
     AUTHENTICATION_FAILED(50000, "Authentication failed", 500),
     INTERNAL_SERVER_ERROR(50001, "Internal server error", 500),
@@ -63,7 +75,11 @@ public enum StatusCode {
     BAD_GATEWAY(50200, "Bad gateway", 502),
 
     // 503 Service Unavailable
-    OTP_SEND_FAILED(50300, "Failed to send OTP", 503);
+    OTP_SEND_FAILED(50300, "Failed to send OTP", 503),
+    SEARCH_INDEX_NOT_READY(50301, "Search index is not ready", 503),
+    PRODUCT_IMPORT_QUEUE_FULL(50302, "Too many product imports in progress", 503),
+    LOGIN_BUSY(50303, "Too many logins in progress, please retry", 503),
+    FLASH_SALE_GRANT_PENDING(50304, "Flash sale reservation is not recorded yet, please retry", 503);
 
     private final int code;
     private final String message;
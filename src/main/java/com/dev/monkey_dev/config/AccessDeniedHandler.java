@@ -31,7 +31,7 @@ public class AccessDeniedHandler implements org.springframework.security.web.acc
             ApiStatus apiStatus = new ApiStatus(StatusCode.FORBIDDEN);
             var apiResponse = new ApiResponse<Object>(apiStatus.getMessage(), apiStatus.getCode(),
                     LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), null);
-            res.getBody().write(ObjectUtils.writeValueAsString(apiResponse).getBytes());
+            ObjectUtils.writeValue(res.getBody(), apiResponse);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.dev.monkey_dev.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.dev.monkey_dev.logging.AccessLogFilter;
+
+@Configuration
+public class AccessLogFilterConfiguration {
+    /**
+     * Runs the access log ahead of the Spring Security chain, so requests it
+     * rejects with 401 or 403 are logged and its own log lines carry the trace id.
+     */
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration(AccessLogFilter accessLogFilter) {
+        FilterRegistrationBean<AccessLogFilter> filterRegistrationBean = new FilterRegistrationBean<>(accessLogFilter);
+        filterRegistrationBean.addUrlPatterns("/*");
+        filterRegistrationBean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return filterRegistrationBean;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.dev.monkey_dev.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.exception.BusinessException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs a {@link PasswordEncoder} on a small fixed pool of threads.
+ *
+ * BCrypt is deliberately slow, so a burst of logins would otherwise keep every
+ * servlet thread busy hashing. Here at most {@code threads} hashes run at once
+ * and at most {@code queueCapacity} wait; anything beyond that, or anything that
+ * waits longer than {@code waitTimeout}, fails fast with
+ * {@link StatusCode#LOGIN_BUSY} instead of queueing without bound.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration waitTimeout) {
+        this.delegate = delegate;
+        this.waitTimeout = waitTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(StatusCode.LOGIN_BUSY);
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BusinessException(StatusCode.LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(StatusCode.LOGIN_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
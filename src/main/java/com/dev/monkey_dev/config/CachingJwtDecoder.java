@@ -0,0 +1,122 @@
+package com.dev.monkey_dev.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.dev.monkey_dev.properties.JwtCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * {@link JwtDecoder} that remembers tokens it has already verified, so a client
+ * sending the same access token on every request pays for the RSA signature
+ * check once instead of per request.
+ *
+ * Tokens are keyed by their SHA-256 hash and dropped at their {@code exp}, or
+ * after {@code app.security.jwt-cache.max-ttl} if that comes first. Tokens that
+ * fail verification are never cached. Cache hits (verifications avoided) are
+ * exported as {@code cache.gets{cache=jwt-verified,result=hit}} and actual
+ * signature checks as {@code security.jwt.verifications}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    static final String CACHE_NAME = "jwt-verified";
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+    private final Counter verifications;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtCacheProperties properties, MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, JwtCacheProperties properties, MeterRegistry meterRegistry,
+            Ticker ticker, Clock clock) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new UntilExpiresAt(properties.maxTtl(), clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.verifications = Counter.builder("security.jwt.verifications")
+                .description("JWT signature verifications not served from the verified-token cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+        Jwt jwt = verified.get(hash(token), key -> {
+            verifications.increment();
+            return delegate.decode(token);
+        });
+        // Guard against a hash collision handing out another user's token
+        return token.equals(jwt.getTokenValue()) ? jwt : delegate.decode(token);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Expires each token at its own {@code exp}, capped at the configured maximum.
+     */
+    private static final class UntilExpiresAt implements Expiry<String, Jwt> {
+
+        private final Duration maxTtl;
+        private final Clock clock;
+
+        UntilExpiresAt(Duration maxTtl, Clock clock) {
+            this.maxTtl = maxTtl;
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTtl.toNanos();
+            }
+            Duration untilExpiry = Duration.between(clock.instant(), expiresAt);
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry.toNanos() : maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,11 +7,13 @@ import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 
+import com.dev.monkey_dev.helper.CurrentPrincipal;
+
 import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,8 +60,20 @@ public class CustomJwtAuthenticationConverter implements Converter<Jwt, Abstract
             principalName = jwt.getSubject(); // fallback to "sub"
         }
 
+        // Read id, username and role once here so request handling never re-parses
+        // the claims; tokens without an id still authenticate but carry no principal
+        CurrentPrincipal currentPrincipal = null;
+        if (jwt.hasClaim("id")) {
+            try {
+                currentPrincipal = CurrentPrincipal.from(jwt);
+            } catch (IllegalStateException e) {
+                // A malformed id is the token's fault: answer 401 rather than 500
+                throw new InvalidBearerTokenException(e.getMessage(), e);
+            }
+        }
+
         // Create a new JwtAuthenticationToken with custom principal name and
         // authorities
-        return new JwtAuthenticationToken(jwt, authorities, principalName);
+        return new PrincipalJwtAuthenticationToken(jwt, authorities, principalName, currentPrincipal);
     }
 }
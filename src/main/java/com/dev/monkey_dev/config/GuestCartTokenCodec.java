@@ -0,0 +1,149 @@
+package com.dev.monkey_dev.config;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.GuestCartProperties;
+import com.dev.monkey_dev.properties.RsaKeyProperties;
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.RSADecrypter;
+import com.nimbusds.jose.crypto.RSAEncrypter;
+
+/**
+ * Turns a guest cart into a token the client keeps, so the server stores
+ * nothing for anonymous shoppers.
+ *
+ * A token is a JWT signed by the same {@link JwtEncoder} and RSA key as access
+ * tokens. Its audience is {@value #AUDIENCE} and its {@code items} claim lists
+ * {@code [productId, productVariationId, quantity]} per line, with 0 for a line
+ * without variation. With {@code app.cart.guest.encrypted} the signed JWT is
+ * also wrapped in a JWE (RSA-OAEP-256 with A256GCM) for the server's own key.
+ * Both forms are accepted whatever the setting, so it can be changed without
+ * dropping carts.
+ *
+ * The access token decoder must reject these tokens, see
+ * {@link #rejectGuestCarts()}.
+ */
+@Component
+public class GuestCartTokenCodec {
+
+    public static final String AUDIENCE = "guest-cart";
+
+    private static final String ITEMS_CLAIM = "items";
+
+    /**
+     * A line of a guest cart.
+     */
+    public record Item(Long productId, Long productVariationId, int quantity) {
+    }
+
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder jwtDecoder;
+    private final RSAEncrypter encrypter;
+    private final RSADecrypter decrypter;
+    private final GuestCartProperties properties;
+
+    public GuestCartTokenCodec(JwtEncoder jwtEncoder, RsaKeyProperties rsaKeys, GuestCartProperties properties) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(),
+                new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                        audience -> audience != null && audience.contains(AUDIENCE))));
+        this.jwtEncoder = jwtEncoder;
+        this.jwtDecoder = decoder;
+        this.encrypter = new RSAEncrypter(rsaKeys.publicKey());
+        this.decrypter = new RSADecrypter(rsaKeys.privateKey());
+        this.properties = properties;
+    }
+
+    /**
+     * Validator for the access token decoder. Guest cart tokens are signed with
+     * the same key, so without it they would authenticate requests.
+     */
+    public static OAuth2TokenValidator<Jwt> rejectGuestCarts() {
+        return new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                audience -> audience == null || !audience.contains(AUDIENCE));
+    }
+
+    public String encode(List<Item> items) {
+        List<List<Long>> lines = new ArrayList<>(items.size());
+        for (Item item : items) {
+            lines.add(List.of(item.productId(),
+                    item.productVariationId() == null ? 0L : item.productVariationId(),
+                    (long) item.quantity()));
+        }
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .audience(List.of(AUDIENCE))
+                .issuedAt(now)
+                .expiresAt(now.plus(properties.ttl()))
+                .claim(ITEMS_CLAIM, lines)
+                .build();
+        String signed = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        if (!properties.encrypted()) {
+            return signed;
+        }
+        try {
+            JWEObject jwe = new JWEObject(new JWEHeader.Builder(JWEAlgorithm.RSA_OAEP_256, EncryptionMethod.A256GCM)
+                    .contentType("JWT")
+                    .build(), new Payload(signed));
+            jwe.encrypt(encrypter);
+            return jwe.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not encrypt guest cart token", e);
+        }
+    }
+
+    /**
+     * @throws BusinessException INVALID_TOKEN if the token was not issued by
+     *                           {@link #encode(List)} or has expired
+     */
+    public List<Item> decode(String token) {
+        try {
+            String signed = token;
+            // A JWE has five parts, a JWS three
+            if (token.chars().filter(c -> c == '.').count() == 4) {
+                JWEObject jwe = JWEObject.parse(token);
+                jwe.decrypt(decrypter);
+                signed = jwe.getPayload().toString();
+            }
+            List<?> lines = jwtDecoder.decode(signed).getClaim(ITEMS_CLAIM);
+            List<Item> items = new ArrayList<>(lines == null ? 0 : lines.size());
+            if (lines != null) {
+                for (Object line : lines) {
+                    List<?> values = (List<?>) line;
+                    long variationId = ((Number) values.get(1)).longValue();
+                    items.add(new Item(((Number) values.get(0)).longValue(),
+                            variationId == 0 ? null : variationId,
+                            ((Number) values.get(2)).intValue()));
+                }
+            }
+            return items;
+        } catch (ParseException | JOSEException | JwtException | ClassCastException
+                | IndexOutOfBoundsException | NullPointerException e) {
+            throw new BusinessException(StatusCode.INVALID_TOKEN, "Guest cart is invalid or expired");
+        }
+    }
+}
@@ -71,9 +71,9 @@ public class JwtUtil {
         } catch (ExpiredJwtException e) {
             LoggerFactory.getLogger(JwtUtil.class).warn("Expired JWT token: {}", e.getMessage());
             return true; // Token is expired
-        } catch (JwtException e) {
+        } catch (JwtException | org.springframework.security.oauth2.jwt.JwtException e) {
             LoggerFactory.getLogger(JwtUtil.class).error("Invalid JWT token: {}", e.getMessage());
-            return true; // Token is invalid
+            return true; // Token is invalid, or expired and rejected by the decoder
         }
     }
 
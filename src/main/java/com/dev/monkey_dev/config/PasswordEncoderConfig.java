@@ -5,11 +5,21 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import com.dev.monkey_dev.properties.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(),
+                properties.threads(), properties.queueCapacity(), properties.waitTimeout());
+        new ExecutorServiceMetrics(encoder.getExecutor(), "password-hash", Tags.empty())
+                .bindTo(meterRegistry);
+        return encoder;
     }
 }
@@ -0,0 +1,35 @@
+package com.dev.monkey_dev.config;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.dev.monkey_dev.helper.CurrentPrincipal;
+
+/**
+ * {@link JwtAuthenticationToken} that also carries the {@link CurrentPrincipal}
+ * built from the token, so code handling the request reads the user's id,
+ * username and role without going back to the claims.
+ */
+public class PrincipalJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    private final CurrentPrincipal currentPrincipal;
+
+    /**
+     * @param currentPrincipal Principal read from the token, or null if the token has no {@code id} claim
+     */
+    public PrincipalJwtAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities,
+            String name, CurrentPrincipal currentPrincipal) {
+        super(jwt, authorities, name);
+        this.currentPrincipal = currentPrincipal;
+    }
+
+    /**
+     * @return The principal, or null if the token has no {@code id} claim
+     */
+    public CurrentPrincipal getCurrentPrincipal() {
+        return currentPrincipal;
+    }
+}
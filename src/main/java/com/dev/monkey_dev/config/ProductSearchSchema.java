@@ -0,0 +1,83 @@
+package com.dev.monkey_dev.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import com.dev.monkey_dev.logging.AppLogManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Creates products.search_vector, its GIN index and the triggers that keep it
+ * up to date, before any request is served. The column is not mapped on
+ * Products, so without this a schema built by {@code ddl-auto} would lack it
+ * and every search would fail with an SQL error.
+ *
+ * Runs {@code sql/product_search.sql} in one transaction after the entity
+ * manager factory has applied {@code ddl-auto}. The script only creates what the
+ * catalog lacks, so against an up-to-date schema it takes no lock on the
+ * tables. Rows without a search vector are then backfilled in batches of
+ * {@value #BACKFILL_BATCH_SIZE}, each in its own transaction, so the backfill
+ * neither holds the script's locks nor one long transaction. Any failure stops
+ * the application from starting. Skipped on databases other than PostgreSQL,
+ * where search is not available.
+ */
+@Component
+public class ProductSearchSchema implements InitializingBean {
+
+    private static final String SCRIPT = "sql/product_search.sql";
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    // Rows locked by an instance starting at the same time are left to it
+    private static final String BACKFILL = "UPDATE products "
+            + "SET search_vector = products_search_vector(id, title, sku, description) "
+            + "WHERE id IN (SELECT id FROM products WHERE search_vector IS NULL LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    /**
+     * @param entityManagerFactory Only required so the schema update by
+     *                             Hibernate has run before this bean
+     */
+    public ProductSearchSchema(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            AppLogManager.info(ProductSearchSchema.class, "Skipping product search schema on {}", database);
+            return;
+        }
+        String script = StreamUtils.copyToString(new ClassPathResource(SCRIPT).getInputStream(),
+                StandardCharsets.UTF_8);
+        // The driver splits the statements itself and understands the $$ bodies
+        transaction.executeWithoutResult(status -> jdbcTemplate.execute(script));
+        int backfilled = backfill();
+        AppLogManager.info(ProductSearchSchema.class, "Product search schema is up to date ({} rows backfilled)",
+                backfilled);
+    }
+
+    private int backfill() {
+        int total = 0;
+        int updated;
+        do {
+            updated = transaction.execute(status -> jdbcTemplate.update(BACKFILL, BACKFILL_BATCH_SIZE));
+            total += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+        return total;
+    }
+}
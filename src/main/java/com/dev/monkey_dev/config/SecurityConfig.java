@@ -6,9 +6,12 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.dev.monkey_dev.logging.AccessLogFilter;
+import com.dev.monkey_dev.properties.JwtCacheProperties;
 import com.dev.monkey_dev.properties.RsaKeyProperties;
 import com.dev.monkey_dev.service.users.UserAuthServiceImpl;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -22,10 +25,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import java.util.List;
@@ -76,6 +82,8 @@ public class SecurityConfig {
                                                                 "/api/wb/v1/admin/users/register",
                                                                 "/api/wb/v1/auth/encrypt",
                                                                 "/api/wb/v1/password/**",
+                                                                "/api/wb/v1/guest-cart",
+                                                                "/api/wb/v1/guest-cart/**",
                                                                 "/api/v1/auth/**",
                                                                 "/api/v1/image/**",
                                                                 "/oauth2/**",
@@ -92,13 +100,17 @@ public class SecurityConfig {
                                                                 "/swagger.json",
                                                                 "/swagger-ui/**",
                                                                 "/swagger-ui/index.html",
-                                                                "/actuator/**",
+                                                                "/actuator/health",
+                                                                "/actuator/health/**",
                                                                 "/test/**",
                                                                 "/ws/**")
                                                 .permitAll()
                                                 // ADMIN role endpoints
                                                 .requestMatchers(
-                                                                "/api/wb/v1/admin/users/**")
+                                                                "/api/wb/v1/admin/users/**",
+                                                                "/api/wb/v1/admin/flash-sales/**",
+                                                                "/api/wb/v1/admin/inventory/**",
+                                                                "/actuator/**")
                                                 .hasRole("ADMIN")
                                                 // authenticated user endpoints
                                                 .requestMatchers("/api/wb/v1/user/create").hasRole("ADMIN")
@@ -119,13 +131,19 @@ public class SecurityConfig {
                                                 .jwt(jwt -> jwt
                                                                 .jwtAuthenticationConverter(
                                                                                 customJwtAuthenticationConverter)))
+                                // The context is cleared once the chain returns, so the access log reads the user here
+                                .addFilterAfter(AccessLogFilter.userCapture(), BearerTokenAuthenticationFilter.class)
                                 .build();
         }
 
         @Bean
         @Primary
-        JwtDecoder jwtDecoder() {
-                return NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build();
+        JwtDecoder jwtDecoder(JwtCacheProperties jwtCacheProperties, MeterRegistry meterRegistry) {
+                NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build();
+                decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(),
+                                GuestCartTokenCodec.rejectGuestCarts()));
+                // Shared by the resource server filter chain and JwtUtil, so each token is verified once
+                return new CachingJwtDecoder(decoder, jwtCacheProperties, meterRegistry);
         }
 
         @Bean
@@ -29,7 +29,7 @@ public class UnauthorizedHandler implements AuthenticationEntryPoint {
             ApiResponse<Object> apiResponse = ApiResponse.error(StatusCode.UNAUTHORIZED.getMessage(),
                     StatusCode.UNAUTHORIZED.getHttpStatus());
 
-            res.getBody().write(ObjectUtils.writeValueAsString(apiResponse).getBytes());
+            ObjectUtils.writeValue(res.getBody(), apiResponse);
         }
     }
 }
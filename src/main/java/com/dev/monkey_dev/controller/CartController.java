@@ -0,0 +1,66 @@
+package com.dev.monkey_dev.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.helper.AuthHelper;
+import com.dev.monkey_dev.service.cart.ICartService;
+import com.dev.monkey_dev.service.cart.IGuestCartService;
+
+@RestController
+@RequestMapping("/api/wb/v1/cart")
+@RequiredArgsConstructor
+@Tag(name = "Cart", description = "Shopping cart API")
+public class CartController extends BaseApiRestController {
+
+    private final ICartService cartService;
+    private final IGuestCartService guestCartService;
+
+    @Operation(summary = "Get cart", description = "Get the cart of the authenticated user")
+    @GetMapping
+    public ResponseEntity<?> getCart() {
+        return success(cartService.getCart(AuthHelper.getUserId()));
+    }
+
+    @Operation(summary = "Add item", description = "Add a quantity of a product to the cart")
+    @PostMapping("/items")
+    public ResponseEntity<?> addItem(@Valid @RequestBody CartItemAddRequestDto request) {
+        return success(cartService.addItem(AuthHelper.getUserId(), request));
+    }
+
+    @Operation(summary = "Set item quantity", description = "Set the quantity of a product in the cart, 0 removes it")
+    @PutMapping("/items")
+    public ResponseEntity<?> setQuantity(@Valid @RequestBody CartItemQuantityRequestDto request) {
+        return success(cartService.setQuantity(AuthHelper.getUserId(), request));
+    }
+
+    @Operation(summary = "Remove item", description = "Remove a product from the cart")
+    @DeleteMapping("/items")
+    public ResponseEntity<?> removeItem(@RequestParam Long productId,
+            @RequestParam(required = false) Long productVariationId) {
+        return success(cartService.removeItem(AuthHelper.getUserId(), productId, productVariationId));
+    }
+
+    @Operation(summary = "Merge guest cart", description = "Merge the items of a guest cart token into the "
+            + "cart, e.g. after signing in with Google. A line in both keeps the larger quantity, so the request "
+            + "can be retried")
+    @PostMapping("/merge")
+    public ResponseEntity<?> mergeGuestCart(@RequestHeader(GuestCartController.TOKEN_HEADER) String token) {
+        return success(guestCartService.merge(AuthHelper.getUserId(), token));
+    }
+
+    @Operation(summary = "Clear cart", description = "Remove every item from the cart")
+    @DeleteMapping
+    public ResponseEntity<?> clear() {
+        return success(cartService.clear(AuthHelper.getUserId()));
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.*;
 import com.dev.monkey_dev.controller.base.BaseApiRestController;
 import com.dev.monkey_dev.dto.request.CategoryRequestDto;
 import com.dev.monkey_dev.dto.request.CategorySummaryDto;
+import com.dev.monkey_dev.dto.response.BulkCategoryMembershipResponseDto;
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
 import com.dev.monkey_dev.service.category.ICategoryService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +38,14 @@ public class CateController extends BaseApiRestController {
         return success(response);
     }
 
+    @Operation(summary = "Get category tree", description = "Get active categories as a tree, "
+            + "each with its active child categories")
+    @GetMapping("/tree")
+    public ResponseEntity<?> getCategoryTree() {
+        List<CategoryTreeDto> response = categoryService.getCategoryTree();
+        return success(response);
+    }
+
     @Operation(summary = "Get category by ID", description = "Get a category by its ID")
     @GetMapping("/{id}")
     public ResponseEntity<?> getCategoryById(@PathVariable Long id) {
@@ -71,19 +81,23 @@ public class CateController extends BaseApiRestController {
         return successMessage("Product added to category successfully");
     }
 
-    @Operation(summary = "Bulk delete products from category", description = "Bulk delete products from a category")
+    @Operation(summary = "Bulk delete products from category", description = "Bulk delete products from a category. "
+            + "Returns REMOVED or NOT_IN_CATEGORY per product id")
     @DeleteMapping("/{categoryId}/products/bulk-delete")
     public ResponseEntity<?> bulkDeleteProductsFromCategory(@PathVariable Long categoryId,
             @RequestBody List<Long> productIds) {
-        categoryService.bulkDeleteProductsFromCategory(categoryId, productIds);
-        return successMessage("Products deleted from category successfully");
+        BulkCategoryMembershipResponseDto response = categoryService.bulkDeleteProductsFromCategory(categoryId,
+                productIds);
+        return success(response);
     }
 
-    @Operation(summary = "Bulk add products to category", description = "Bulk add products to a category")
+    @Operation(summary = "Bulk add products to category", description = "Bulk add products to a category. "
+            + "Returns ADDED, ALREADY_IN_CATEGORY or PRODUCT_NOT_FOUND per product id")
     @PostMapping("/{categoryId}/products/bulk-add")
     public ResponseEntity<?> bulkAddProductsToCategory(@PathVariable Long categoryId,
             @RequestBody List<Long> productIds) {
-        categoryService.bulkAddProductsToCategory(categoryId, productIds);
-        return successMessage("Products added to category successfully");
+        BulkCategoryMembershipResponseDto response = categoryService.bulkAddProductsToCategory(categoryId,
+                productIds);
+        return success(response);
     }
 }
@@ -0,0 +1,36 @@
+package com.dev.monkey_dev.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.helper.AuthHelper;
+import com.dev.monkey_dev.service.inventory.IFlashSaleService;
+
+@RestController
+@RequestMapping("/api/wb/v1/flash-sales")
+@RequiredArgsConstructor
+@Tag(name = "Flash Sale", description = "Flash sale API")
+public class FlashSaleController extends BaseApiRestController {
+
+    private final IFlashSaleService flashSaleService;
+
+    @Operation(summary = "Get flash sale", description = "Units still available in a running sale")
+    @GetMapping("/{inventoryId}")
+    public ResponseEntity<?> get(@PathVariable Long inventoryId) {
+        return success(flashSaleService.get(inventoryId));
+    }
+
+    @Operation(summary = "Claim units", description = "Reserve units of a running sale. The reservation is "
+            + "recorded within app.inventory.flash-sale.flush-interval and expires unless it is committed")
+    @PostMapping("/{inventoryId}/grants")
+    public ResponseEntity<?> grant(@PathVariable Long inventoryId,
+            @RequestParam(defaultValue = "1") int quantity) {
+        return created(flashSaleService.grant(AuthHelper.getUserId(), inventoryId, quantity));
+    }
+}
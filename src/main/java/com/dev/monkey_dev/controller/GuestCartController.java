@@ -0,0 +1,59 @@
+package com.dev.monkey_dev.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.service.cart.IGuestCartService;
+
+/**
+ * Cart of an anonymous shopper. The client keeps the token returned by each
+ * call and sends it back in the {@value #TOKEN_HEADER} header. To move the
+ * items to the user's cart it is passed as {@code guest_cart} on password login,
+ * or sent to {@code POST /api/wb/v1/cart/merge} after signing in with Google.
+ */
+@RestController
+@RequestMapping("/api/wb/v1/guest-cart")
+@RequiredArgsConstructor
+@Tag(name = "Guest Cart", description = "Shopping cart API for anonymous shoppers")
+public class GuestCartController extends BaseApiRestController {
+
+    static final String TOKEN_HEADER = "X-Guest-Cart";
+
+    private final IGuestCartService guestCartService;
+
+    @Operation(summary = "Get guest cart", description = "Get the cart held by a guest cart token")
+    @GetMapping
+    public ResponseEntity<?> getCart(@RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        return success(guestCartService.getCart(token));
+    }
+
+    @Operation(summary = "Add item", description = "Add a quantity of a product to the guest cart")
+    @PostMapping("/items")
+    public ResponseEntity<?> addItem(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody CartItemAddRequestDto request) {
+        return success(guestCartService.addItem(token, request));
+    }
+
+    @Operation(summary = "Set item quantity", description = "Set the quantity of a product in the guest cart, 0 removes it")
+    @PutMapping("/items")
+    public ResponseEntity<?> setQuantity(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody CartItemQuantityRequestDto request) {
+        return success(guestCartService.setQuantity(token, request));
+    }
+
+    @Operation(summary = "Remove item", description = "Remove a product from the guest cart")
+    @DeleteMapping("/items")
+    public ResponseEntity<?> removeItem(@RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @RequestParam Long productId, @RequestParam(required = false) Long productVariationId) {
+        return success(guestCartService.removeItem(token, productId, productVariationId));
+    }
+}
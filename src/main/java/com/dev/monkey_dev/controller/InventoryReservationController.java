@@ -0,0 +1,44 @@
+package com.dev.monkey_dev.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.dto.request.InventoryReservationLineDto;
+import com.dev.monkey_dev.helper.AuthHelper;
+import com.dev.monkey_dev.service.inventory.IFlashSaleService;
+import com.dev.monkey_dev.service.inventory.IInventoryService;
+
+@RestController
+@RequestMapping("/api/wb/v1/inventory/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Inventory Reservation", description = "Hold stock while an order is placed")
+public class InventoryReservationController extends BaseApiRestController {
+
+    private final IInventoryService inventoryService;
+    private final IFlashSaleService flashSaleService;
+
+    @Operation(summary = "Reserve stock", description = "Reserve every line or none of them, within the "
+            + "per-line and per-user limits. The reservation expires after app.inventory.reservation.ttl unless "
+            + "it is committed or released")
+    @PostMapping
+    public ResponseEntity<?> reserve(@RequestBody List<InventoryReservationLineDto> lines) {
+        return created(inventoryService.reserve(AuthHelper.getUserId(), lines));
+    }
+
+    @Operation(summary = "Release reservation", description = "Make the stock reserved by the current user "
+            + "available again")
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<?> release(@PathVariable String reservationId) {
+        flashSaleService.awaitRecorded(reservationId);
+        inventoryService.release(AuthHelper.getUserId(), reservationId);
+        return successMessage("Reservation released");
+    }
+}
@@ -1,11 +1,15 @@
 package com.dev.monkey_dev.controller;
 
 import java.io.IOException;
+import java.time.Duration;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.web.bind.annotation.*;
 
 import com.dev.monkey_dev.service.auth.OAuth2AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,19 +26,29 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OAuth2Controller {
 
+    // Holds the OAuth2 state between the authorization redirect and the callback
+    private static final String STATE_COOKIE = "oauth2_state";
+    private static final Duration STATE_MAX_AGE = Duration.ofMinutes(10);
+
     private final OAuth2AuthService oAuth2AuthService;
 
     @GetMapping("/authorization/google")
-    public void authorizeGoogle(HttpServletResponse response) throws IOException {
-        response.sendRedirect(oAuth2AuthService.buildGoogleAuthorizationUrl());
+    public void authorizeGoogle(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String state = oAuth2AuthService.newState();
+        setStateCookie(request, response, state, STATE_MAX_AGE);
+        response.sendRedirect(oAuth2AuthService.buildGoogleAuthorizationUrl(state));
     }
 
     @GetMapping("/callback/google")
     public void callbackGoogle(
             @RequestParam(required = false) String code,
             @RequestParam(required = false) String error,
+            @RequestParam(required = false) String state,
+            @CookieValue(name = STATE_COOKIE, required = false) String expectedState,
+            HttpServletRequest request,
             HttpServletResponse response) throws IOException {
-        response.sendRedirect(oAuth2AuthService.handleGoogleCallback(code, error));
+        setStateCookie(request, response, "", Duration.ZERO);
+        response.sendRedirect(oAuth2AuthService.handleGoogleCallback(code, error, state, expectedState));
     }
 
     // If you still want to keep old path for compatibility:
@@ -42,7 +56,27 @@ public class OAuth2Controller {
     public void callbackGoogleLegacy(
             @RequestParam(required = false) String code,
             @RequestParam(required = false) String error,
+            @RequestParam(required = false) String state,
+            @CookieValue(name = STATE_COOKIE, required = false) String expectedState,
+            HttpServletRequest request,
             HttpServletResponse response) throws IOException {
-        response.sendRedirect(oAuth2AuthService.handleGoogleCallback(code, error));
+        setStateCookie(request, response, "", Duration.ZERO);
+        response.sendRedirect(oAuth2AuthService.handleGoogleCallback(code, error, state, expectedState));
+    }
+
+    /**
+     * Lax so the cookie comes back on Google's top-level redirect to the
+     * callback; a zero max age deletes it.
+     */
+    private static void setStateCookie(HttpServletRequest request, HttpServletResponse response, String value,
+            Duration maxAge) {
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(STATE_COOKIE, value)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .path("/oauth2")
+                .maxAge(maxAge)
+                .build()
+                .toString());
     }
 }
@@ -1,23 +1,36 @@
 package com.dev.monkey_dev.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
-import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
+import com.dev.monkey_dev.common.CursorPage;
+import com.dev.monkey_dev.common.FacetedPage;
 import com.dev.monkey_dev.common.PaginatedResponse;
 import com.dev.monkey_dev.controller.base.BaseApiRestController;
 import com.dev.monkey_dev.dto.request.CriteriaFilter;
 import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductFilter;
 import com.dev.monkey_dev.dto.request.ProductResponseDto;
 import com.dev.monkey_dev.dto.request.ProductUpdateRequestDto;
+import com.dev.monkey_dev.dto.response.ProductImportJobDto;
 import com.dev.monkey_dev.service.product.IProductService;
+import com.dev.monkey_dev.service.product.exporter.IProductExportService;
+import com.dev.monkey_dev.service.product.importer.IProductImportService;
 import com.dev.monkey_dev.enums.FilterProductCateType;
+import com.dev.monkey_dev.enums.ProductFileFormat;
 
 @RestController
 @RequestMapping("/api/wb/v1/products")
@@ -26,6 +39,8 @@ import com.dev.monkey_dev.enums.FilterProductCateType;
 public class ProductController extends BaseApiRestController {
 
     private final IProductService productService;
+    private final IProductImportService productImportService;
+    private final IProductExportService productExportService;
 
     @Operation(summary = "Create product", description = "Create a new product")
     @PostMapping
@@ -34,6 +49,41 @@ public class ProductController extends BaseApiRestController {
         return successMessage("Product created successfully");
     }
 
+    @Operation(summary = "Import products", description = "Bulk create products for the current seller from "
+            + "the request body (not multipart). `format=CSV`: a header row naming the columns (slug, title, "
+            + "description, price, sku, currency, weight, length, width, height, taxRate, isActive, isFeatured, "
+            + "isNew, categoryIds, imageUrls, variations), list columns separated by `|` and variations written "
+            + "as name:value:priceAdjustment:stockQuantity[:sku]. `format=NDJSON`: one product JSON object per "
+            + "line, as for create product. Files over app.import.product.max-file-size are rejected with 413. "
+            + "Returns a job whose progress and row errors are polled with GET /import/{jobId}.")
+    @PostMapping("/import")
+    public ResponseEntity<?> importProducts(@RequestParam("format") ProductFileFormat format, InputStream content) {
+        ProductImportJobDto job = productImportService.submitImport(format, content);
+        return success(job);
+    }
+
+    @Operation(summary = "Get product import status", description = "Progress and row errors of a product import")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getProductImport(@PathVariable String jobId) {
+        ProductImportJobDto job = productImportService.getImportJob(jobId);
+        return success(job);
+    }
+
+    @Operation(summary = "Export products", description = "Streams every active product as CSV (same columns "
+            + "as the import, plus `id`) or NDJSON (one product response object per line). The response is "
+            + "written while the catalog is read, so it starts immediately and has no total size.")
+    @GetMapping("/export")
+    public void exportProducts(@RequestParam("format") ProductFileFormat format, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("products." + format.getExtension())
+                .build()
+                .toString());
+        productExportService.exportActiveProducts(format, response.getOutputStream());
+    }
+
     @Operation(summary = "Get product by ID", description = "Get a product by its ID")
     @GetMapping("/{id}")
     public ResponseEntity<?> getProductById(@PathVariable Long id) {
@@ -41,28 +91,73 @@ public class ProductController extends BaseApiRestController {
         return success(response);
     }
 
-    @Operation(summary = "Get all products", description = "Get all products with optional filters")
+    @Operation(summary = "Get all products", description = "Get all products with optional filters. "
+            + "Listing by `categorySlug` includes its descendant categories. The response carries facet "
+            + "counts (category, price, featured, new) for all matching products. "
+            + "Pass `cursor` (empty for the first page, then the returned `next_cursor`) to use keyset "
+            + "pagination instead of page numbers; cursor pages carry no totals or facets.")
     @GetMapping
     public ResponseEntity<?> getAllProducts(
             @RequestParam(value = "categorySlug", required = false) String categorySlug,
             @RequestParam(value = "filterProductCateType", required = false) FilterProductCateType filterProductCateType,
+            @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "isFeatured", required = false) Boolean isFeatured,
+            @RequestParam(value = "isNew", required = false) Boolean isNew,
+            @RequestParam(value = "sellerId", required = false) Long sellerId,
+            @RequestParam(value = "currency", required = false) String currency,
             @RequestParam(value = "search", required = false) String search,
             @RequestParam(value = "sort", required = false) String sort,
             @RequestParam(value = "page", required = false) Integer page,
-            @RequestParam(value = "size", required = false) Integer size) {
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        ProductFilter productFilter = ProductFilter.builder()
+                .categoryType(filterProductCateType)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .isFeatured(isFeatured)
+                .isNew(isNew)
+                .sellerId(sellerId)
+                .currency(currency)
+                .build();
         CriteriaFilter criteriaFilter = CriteriaFilter.builder()
                 .search(search)
                 .sort(sort)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
                 .build();
 
-        Page<ProductResponseDto> productsPage = productService.getAllProducts(categorySlug, filterProductCateType,
+        if (criteriaFilter.isCursorMode()) {
+            CursorPage<ProductResponseDto> productsPage = productService.getAllProductsByCursor(categorySlug,
+                    productFilter, criteriaFilter);
+            return success(PaginatedResponse.of(productsPage));
+        }
+
+        FacetedPage<ProductResponseDto> productsPage = productService.getAllProducts(categorySlug, productFilter,
                 criteriaFilter);
         Map<String, Object> responseMap = PaginatedResponse.of(productsPage);
         return success(responseMap);
     }
 
+    @Operation(summary = "Search products", description = "Ranked search over title, SKU, category and "
+            + "description served from an in-memory index. The last word also matches as a prefix. "
+            + "Returns category and price facet counts for all matches.")
+    @GetMapping("/search")
+    public ResponseEntity<?> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "categorySlug", required = false) String categorySlug,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        CriteriaFilter criteriaFilter = CriteriaFilter.builder()
+                .page(page)
+                .size(size)
+                .build();
+        FacetedPage<ProductResponseDto> productsPage = productService.searchProducts(query, categorySlug,
+                criteriaFilter);
+        return success(PaginatedResponse.of(productsPage));
+    }
+
     @Operation(summary = "Update product", description = "Update an existing product")
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProduct(
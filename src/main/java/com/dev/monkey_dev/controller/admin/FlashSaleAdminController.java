@@ -0,0 +1,47 @@
+package com.dev.monkey_dev.controller.admin;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.dto.request.FlashSaleRequestDto;
+import com.dev.monkey_dev.service.inventory.IFlashSaleService;
+
+@RestController
+@RequestMapping("/api/wb/v1/admin/flash-sales")
+@RequiredArgsConstructor
+@Tag(name = "Admin Flash Sales", description = "Start and end flash sales")
+public class FlashSaleAdminController extends BaseApiRestController {
+
+    private final IFlashSaleService flashSaleService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Start flash sale", description = "Set units of an inventory row aside and sell them "
+            + "from memory until the sale is ended")
+    public ResponseEntity<?> start(@Valid @RequestBody FlashSaleRequestDto request) {
+        return created(flashSaleService.start(request.inventoryId(), request.quantity()));
+    }
+
+    @GetMapping("/{inventoryId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get flash sale", description = "Units allocated to and still available in a running sale")
+    public ResponseEntity<?> get(@PathVariable Long inventoryId) {
+        return success(flashSaleService.get(inventoryId));
+    }
+
+    @DeleteMapping("/{inventoryId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "End flash sale", description = "Stop the sale and give unsold units back to the inventory")
+    public ResponseEntity<?> end(@PathVariable Long inventoryId) {
+        flashSaleService.end(inventoryId);
+        return successMessage("Flash sale ended");
+    }
+}
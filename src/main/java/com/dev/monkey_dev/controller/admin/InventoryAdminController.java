@@ -0,0 +1,108 @@
+package com.dev.monkey_dev.controller.admin;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import com.dev.monkey_dev.controller.base.BaseApiRestController;
+import com.dev.monkey_dev.dto.request.StockChangeRequestDto;
+import com.dev.monkey_dev.service.inventory.IFlashSaleService;
+import com.dev.monkey_dev.service.inventory.IInventoryService;
+import com.dev.monkey_dev.service.inventory.IStockLedgerService;
+
+@RestController
+@RequestMapping("/api/wb/v1/admin/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Admin Inventory", description = "Stock levels, stock ledger and manual stock changes")
+public class InventoryAdminController extends BaseApiRestController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final IStockLedgerService stockLedgerService;
+    private final IInventoryService inventoryService;
+    private final IFlashSaleService flashSaleService;
+
+    @GetMapping("/{inventoryId}/stock")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get stock level", description = "Units on hand, reserved and available, from the newest "
+            + "snapshot plus the movements after it")
+    public ResponseEntity<?> getStockLevel(@PathVariable Long inventoryId) {
+        return success(stockLedgerService.getStockLevel(inventoryId));
+    }
+
+    @GetMapping("/{inventoryId}/movements")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get stock history", description = "Ledger entries of one inventory row in [from, to), "
+            + "oldest first. `to` defaults to now")
+    public ResponseEntity<?> getHistory(
+            @PathVariable Long inventoryId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return success(stockLedgerService.getHistory(inventoryId, from, to != null ? to : Instant.now(),
+                pageRequest(page, size)));
+    }
+
+    @GetMapping("/movements")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get stock audit", description = "Ledger entries of all inventory rows in [from, to), "
+            + "oldest first. `to` defaults to now")
+    public ResponseEntity<?> getAudit(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return success(stockLedgerService.getAudit(from, to != null ? to : Instant.now(), pageRequest(page, size)));
+    }
+
+    @PostMapping("/{inventoryId}/receipts")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Receive stock", description = "Add received units to the stock on hand")
+    public ResponseEntity<?> receive(@PathVariable Long inventoryId,
+            @Valid @RequestBody StockChangeRequestDto request) {
+        stockLedgerService.receive(inventoryId, request.quantity(), request.reference());
+        return success(stockLedgerService.getStockLevel(inventoryId));
+    }
+
+    @PostMapping("/{inventoryId}/returns")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Return stock", description = "Put returned units back on hand")
+    public ResponseEntity<?> returnStock(@PathVariable Long inventoryId,
+            @Valid @RequestBody StockChangeRequestDto request) {
+        stockLedgerService.returnStock(inventoryId, request.quantity(), request.reference());
+        return success(stockLedgerService.getStockLevel(inventoryId));
+    }
+
+    @PostMapping("/{inventoryId}/adjustments")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Adjust stock", description = "Correct the stock on hand by a positive or negative quantity")
+    public ResponseEntity<?> adjust(@PathVariable Long inventoryId,
+            @Valid @RequestBody StockChangeRequestDto request) {
+        stockLedgerService.adjust(inventoryId, request.quantity(), request.reference());
+        return success(stockLedgerService.getStockLevel(inventoryId));
+    }
+
+    @PostMapping("/reservations/{reservationId}/commit")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Commit reservation", description = "Take the reserved units off the stock on hand")
+    public ResponseEntity<?> commitReservation(@PathVariable String reservationId) {
+        flashSaleService.awaitRecorded(reservationId);
+        inventoryService.commit(reservationId);
+        return successMessage("Reservation committed");
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+}
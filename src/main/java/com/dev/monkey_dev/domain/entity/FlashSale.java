@@ -0,0 +1,66 @@
+package com.dev.monkey_dev.domain.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Stock of one inventory row set aside for a flash sale. The allocated units are
+ * counted in the row's reserved quantity for as long as the sale runs, and
+ * {@code granted} records how many of them have been handed out as reservations.
+ * This row is what the sale is recovered from after a restart.
+ *
+ * Only the instance named in {@code owner} serves the sale. It renews
+ * {@code ownerSeenAt} while it runs, and another instance takes the sale over
+ * once that is older than the owner lease.
+ */
+@Entity
+@Table(name = "flash_sales")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class FlashSale extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Column(name = "allocated", nullable = false)
+    private Integer allocated;
+
+    @Column(name = "granted", nullable = false)
+    @Builder.Default
+    private Integer granted = 0;
+
+    @Column(name = "is_active", nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+
+    @Column(name = "ended_at")
+    private Instant endedAt;
+
+    @Column(name = "owner", length = 64)
+    private String owner;
+
+    @Column(name = "owner_seen_at")
+    private Instant ownerSeenAt;
+}
@@ -0,0 +1,69 @@
+package com.dev.monkey_dev.domain.entity;
+
+import java.time.Instant;
+
+import com.dev.monkey_dev.enums.InventoryReservationStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One line of a reservation: stock of one inventory row held for a buyer.
+ * All lines of a reservation share the same reservationId and userId and
+ * change status together.
+ */
+@Entity
+@Table(name = "inventory_reservations", indexes = {
+    @Index(name = "idx_inventory_reservations_reservation_id", columnList = "reservation_id"),
+    @Index(name = "idx_inventory_reservations_status_expires_at", columnList = "status, expires_at"),
+    @Index(name = "idx_inventory_reservations_user_id_status", columnList = "user_id, status")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class InventoryReservation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_reservations_id_seq")
+    @SequenceGenerator(name = "inventory_reservations_id_seq", sequenceName = "inventory_reservations_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false, length = 36)
+    private String reservationId;
+
+    // The buyer holding the stock; only they may release it
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private InventoryReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
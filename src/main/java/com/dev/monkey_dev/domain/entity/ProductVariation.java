@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -25,7 +26,8 @@ import lombok.ToString;
 @ToString
 public class ProductVariation extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_variations_id_seq")
+    @SequenceGenerator(name = "product_variations_id_seq", sequenceName = "product_variations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -44,6 +46,8 @@ public class ProductVariation extends BaseEntity {
     @Column(name = "sku", nullable = false)
     private String sku; // e.g. "1234567890" or "RED-L-10"
 
+    // Initial stock on create; afterwards the available stock of the variation's
+    // inventory rows, reconciled from the stock ledger by StockSnapshotScheduler
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity; // e.g. 100
 
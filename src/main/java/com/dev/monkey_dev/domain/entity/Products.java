@@ -2,6 +2,7 @@ package com.dev.monkey_dev.domain.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,8 +13,11 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.annotations.BatchSize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,24 +32,32 @@ import lombok.ToString;
 @Builder
 @Getter
 @Setter
-@ToString
+@ToString(exclude = { "user", "categories", "images", "variations" })
 public class Products extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // LAZY: the response only needs user.id, which the proxy returns without a query
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private Users user;
 
+    // Collections not fetched explicitly are loaded for up to 50 products per query
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(name = "product_categories", joinColumns = @JoinColumn(name = "product_id"), inverseJoinColumns = @JoinColumn(name = "category_id"))
     private Set<Category> categories;
 
     @OneToMany(mappedBy = "product")
+    @BatchSize(size = 50)
+    @OrderBy("displayOrder ASC")
     private List<ProductImage> images;
 
     @OneToMany(mappedBy = "product")
+    @BatchSize(size = 50)
+    @OrderBy("id ASC")
     private List<ProductVariation> variations;
 
     @Column(name = "slug", nullable = false)
@@ -11,8 +11,8 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-    @Index(name = "idx_refresh_token_token", columnList = "token"),
-    @Index(name = "idx_refresh_token_user_id", columnList = "user_id")
+    @Index(name = "idx_refresh_tokens_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,8 +29,9 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private Users user;
 
-    @Column(name = "token", nullable = false, unique = true, length = 500)
-    private String token;
+    // Hex SHA-256 of the token; the token itself is only ever held by the client
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
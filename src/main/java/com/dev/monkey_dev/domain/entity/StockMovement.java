@@ -0,0 +1,79 @@
+package com.dev.monkey_dev.domain.entity;
+
+import java.time.Instant;
+
+import com.dev.monkey_dev.enums.StockMovementType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One entry of the append-only stock ledger: a change of the on-hand and
+ * reserved quantities of one inventory row. Rows are only ever inserted.
+ */
+@Entity
+@Table(name = "stock_movements", indexes = {
+    @Index(name = "idx_stock_movements_inventory_id_occurred_at", columnList = "inventory_id, occurred_at"),
+    @Index(name = "idx_stock_movements_occurred_at", columnList = "occurred_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class StockMovement extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movements_id_seq")
+    @SequenceGenerator(name = "stock_movements_id_seq", sequenceName = "stock_movements_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 30)
+    private StockMovementType type;
+
+    @Column(name = "quantity_delta", nullable = false)
+    private Integer quantityDelta;
+
+    @Column(name = "reserved_delta", nullable = false)
+    private Integer reservedDelta;
+
+    // e.g. the reservation id; null for manual adjustments
+    @Column(name = "reference", length = 64)
+    private String reference;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public static StockMovement of(Inventory inventory, StockMovementType type, int quantityDelta,
+            int reservedDelta, String reference) {
+        return StockMovement.builder()
+                .inventory(inventory)
+                .type(type)
+                .quantityDelta(quantityDelta)
+                .reservedDelta(reservedDelta)
+                .reference(reference)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dev.monkey_dev.domain.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Stock of one inventory row summed over every movement that occurred before
+ * {@code coversUntil}. Current stock is the newest snapshot plus the movements
+ * from {@code coversUntil} on.
+ */
+@Entity
+@Table(name = "stock_snapshots", indexes = {
+    @Index(name = "idx_stock_snapshots_inventory_id_covers_until", columnList = "inventory_id, covers_until"),
+    @Index(name = "idx_stock_snapshots_covers_until", columnList = "covers_until")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class StockSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_snapshots_id_seq")
+    @SequenceGenerator(name = "stock_snapshots_id_seq", sequenceName = "stock_snapshots_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "reserved_quantity", nullable = false)
+    private Long reservedQuantity;
+
+    @Column(name = "covers_until", nullable = false)
+    private Instant coversUntil;
+}
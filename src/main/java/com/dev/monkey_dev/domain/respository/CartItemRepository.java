@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.CartItem;
+
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    /**
+     * Items of one cart with the product and variation needed to display them.
+     */
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product LEFT JOIN FETCH ci.productVariation "
+            + "WHERE ci.cart.id = :cartId ORDER BY ci.id")
+    List<CartItem> findByCartIdWithProduct(@Param("cartId") Long cartId);
+
+    /**
+     * Items of many carts, without their associations. Only the foreign key ids
+     * are read from them, which does not initialize the proxies.
+     */
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart.id IN :cartIds")
+    List<CartItem> findByCartIdIn(@Param("cartIds") Collection<Long> cartIds);
+}
@@ -1,9 +1,28 @@
 package com.dev.monkey_dev.domain.respository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dev.monkey_dev.domain.entity.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    /**
+     * Loads the columns needed for the in-memory category tree, without entities.
+     *
+     * @return Rows of (id, parent id, name, slug, is active)
+     */
+    @Query("SELECT c.id, c.parent.id, c.name, c.slug, c.isActive FROM Category c")
+    List<Object[]> findAllTreeRows();
+
+    /**
+     * @return The subset of the given ids that belong to an existing category
+     */
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,42 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.FlashSale;
+
+public interface FlashSaleRepository extends JpaRepository<FlashSale, Long> {
+
+    boolean existsByInventoryIdAndActiveTrue(Long inventoryId);
+
+    @Query("SELECT f.id FROM FlashSale f WHERE f.active = true")
+    List<Long> findActiveIds();
+
+    /**
+     * Makes the given instance the owner of an active sale if it already is, if
+     * the sale has no owner, or if its owner has not renewed the lease since
+     * {@code staleBefore}. Also renews the lease of the owner.
+     *
+     * @return 1 if the instance owns the sale, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE FlashSale f SET f.owner = :owner, f.ownerSeenAt = :now, f.updatedAt = LOCAL DATETIME "
+            + "WHERE f.id = :id AND f.active = true "
+            + "AND (f.owner IS NULL OR f.owner = :owner OR f.ownerSeenAt < :staleBefore)")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * @return 1 if the grants were recorded, 0 if they exceed the allocation or
+     *         the sale is owned by another instance
+     */
+    @Modifying
+    @Query("UPDATE FlashSale f SET f.granted = f.granted + :quantity, f.updatedAt = LOCAL DATETIME "
+            + "WHERE f.id = :id AND f.owner = :owner AND f.granted + :quantity <= f.allocated")
+    int addGranted(@Param("id") Long id, @Param("owner") String owner, @Param("quantity") int quantity);
+}
@@ -0,0 +1,62 @@
+package com.dev.monkey_dev.domain.respository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.Inventory;
+
+/**
+ * Stock changes are single conditional UPDATEs: the database checks and changes
+ * the quantities in one statement, so concurrent buyers queue on the row lock
+ * instead of failing the optimistic lock and retrying. The version is still
+ * bumped so that a stale Inventory entity saved elsewhere cannot overwrite
+ * these changes.
+ */
+public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+
+    /**
+     * @return 1 if the quantity was reserved, 0 if not enough stock is available
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.reservedQuantity = COALESCE(i.reservedQuantity, 0) + :quantity, "
+            + "i.version = i.version + 1, i.updatedAt = LOCAL DATETIME "
+            + "WHERE i.id = :id AND i.quantity - COALESCE(i.reservedQuantity, 0) >= :quantity")
+    int reserve(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Takes reserved stock off the inventory once it is sold.
+     *
+     * @return 1 if the stock was taken, 0 if that much is not reserved
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, "
+            + "i.reservedQuantity = i.reservedQuantity - :quantity, "
+            + "i.version = i.version + 1, i.updatedAt = LOCAL DATETIME "
+            + "WHERE i.id = :id AND i.reservedQuantity >= :quantity")
+    int commitReserved(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Makes reserved stock available again.
+     *
+     * @return 1 if the stock was released, 0 if that much is not reserved
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.reservedQuantity = i.reservedQuantity - :quantity, "
+            + "i.version = i.version + 1, i.updatedAt = LOCAL DATETIME "
+            + "WHERE i.id = :id AND i.reservedQuantity >= :quantity")
+    int releaseReserved(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Adds to (or, with a negative quantity, takes from) the on-hand stock,
+     * never below what is reserved.
+     *
+     * @return 1 if the stock was changed, 0 if it would drop below the reserved quantity
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity + :quantity, "
+            + "i.version = i.version + 1, i.updatedAt = LOCAL DATETIME "
+            + "WHERE i.id = :id AND i.quantity + :quantity >= COALESCE(i.reservedQuantity, 0)")
+    int addQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+}
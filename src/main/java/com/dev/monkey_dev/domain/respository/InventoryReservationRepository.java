@@ -0,0 +1,49 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.InventoryReservation;
+import com.dev.monkey_dev.enums.InventoryReservationStatus;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+
+    List<InventoryReservation> findByReservationIdAndStatusOrderByInventoryIdAsc(String reservationId,
+            InventoryReservationStatus status);
+
+    /**
+     * Moves every line of a reservation from one status to another. The lines are
+     * locked by this statement, so of two concurrent transitions of the same
+     * reservation only the first one changes any rows.
+     *
+     * @param userId       Only moves the lines if they belong to this user, or
+     *                     regardless of the user if null
+     * @param expiresAfter Only moves the lines if they expire after this instant
+     * @return Number of lines moved
+     */
+    @Modifying
+    @Query("UPDATE InventoryReservation r SET r.status = :to, r.updatedAt = LOCAL DATETIME "
+            + "WHERE r.reservationId = :reservationId AND r.status = :from "
+            + "AND (:userId IS NULL OR r.userId = :userId) AND r.expiresAt > :expiresAfter")
+    int transition(@Param("reservationId") String reservationId,
+            @Param("from") InventoryReservationStatus from,
+            @Param("to") InventoryReservationStatus to,
+            @Param("userId") Long userId,
+            @Param("expiresAfter") Instant expiresAfter);
+
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) FROM InventoryReservation r "
+            + "WHERE r.userId = :userId AND r.status = :status")
+    long sumQuantityByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") InventoryReservationStatus status);
+
+    @Query("SELECT DISTINCT r.reservationId FROM InventoryReservation r "
+            + "WHERE r.status = :status AND r.expiresAt < :now")
+    List<String> findReservationIdsExpiredBefore(@Param("status") InventoryReservationStatus status,
+            @Param("now") Instant now, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.util.Map;
+
+/**
+ * Facet counts over all products matching a listing filter.
+ *
+ * @param total      Number of matching products
+ * @param categories Matching products per category slug, most frequent first
+ * @param prices     Matching products per price bucket label, in price order
+ * @param featured   Matching products per is_featured value ("true"/"false")
+ * @param isNew      Matching products per is_new value ("true"/"false")
+ */
+public record ProductFacets(long total, Map<String, Long> categories, Map<String, Long> prices,
+        Map<String, Long> featured, Map<String, Long> isNew) {
+
+    /**
+     * @return Facets keyed by name, as returned by the listing API
+     */
+    public Map<String, Map<String, Long>> toMap() {
+        return Map.of("category", categories, "price", prices, "featured", featured, "new", isNew);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.dev.monkey_dev.dto.request.ProductFilter;
+import com.dev.monkey_dev.enums.FilterProductCateType;
+
+import jakarta.persistence.Query;
+
+/**
+ * Renders a {@link ProductFilter} as a native SQL condition over {@code products p}
+ * with named parameters, so the id, keyset and facet queries share one definition
+ * of the filters. Only set filters become conditions, keeping the SQL minimal.
+ */
+class ProductFilterClause {
+
+    private final StringBuilder sql = new StringBuilder("p.is_active = true");
+    private final Map<String, Object> parameters = new HashMap<>();
+
+    ProductFilterClause(ProductFilter filter) {
+        if (filter.getSearchQuery() != null) {
+            and("p.search_vector @@ to_tsquery('simple', :searchQuery)", "searchQuery", filter.getSearchQuery());
+        }
+        if (filter.getCategoryIds() != null) {
+            if (filter.getCategoryIds().isEmpty()) {
+                sql.append(" AND false");
+            } else {
+                // EXISTS keeps one row per product without DISTINCT, so ORDER BY stays index friendly
+                and("EXISTS (SELECT 1 FROM product_categories pc"
+                        + " WHERE pc.product_id = p.id AND pc.category_id IN (:categoryIds))",
+                        "categoryIds", filter.getCategoryIds());
+            }
+        }
+        if (filter.getCategoryType() == FilterProductCateType.ALL) {
+            sql.append(" AND EXISTS (SELECT 1 FROM product_categories pc WHERE pc.product_id = p.id)");
+        } else if (filter.getCategoryType() == FilterProductCateType.NO_CATEGORY) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM product_categories pc WHERE pc.product_id = p.id)");
+        }
+        if (filter.getMinPrice() != null) {
+            and("p.price >= :minPrice", "minPrice", filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            and("p.price <= :maxPrice", "maxPrice", filter.getMaxPrice());
+        }
+        if (filter.getIsFeatured() != null) {
+            and("p.is_featured = :isFeatured", "isFeatured", filter.getIsFeatured());
+        }
+        if (filter.getIsNew() != null) {
+            and("p.is_new = :isNew", "isNew", filter.getIsNew());
+        }
+        if (filter.getSellerId() != null) {
+            and("p.user_id = :sellerId", "sellerId", filter.getSellerId());
+        }
+        if (filter.getCurrency() != null) {
+            and("p.currency = :currency", "currency", filter.getCurrency());
+        }
+    }
+
+    /**
+     * Adds another condition, e.g. a keyset seek predicate.
+     */
+    ProductFilterClause and(String condition, String parameter, Object value) {
+        sql.append(" AND ").append(condition);
+        parameters.put(parameter, value);
+        return this;
+    }
+
+    /**
+     * Binds a parameter used by a condition added with {@link #and}.
+     */
+    ProductFilterClause parameter(String parameter, Object value) {
+        parameters.put(parameter, value);
+        return this;
+    }
+
+    String getSql() {
+        return sql.toString();
+    }
+
+    void bind(Query query) {
+        parameters.forEach(query::setParameter);
+    }
+}
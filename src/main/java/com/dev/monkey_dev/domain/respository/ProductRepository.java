@@ -3,30 +3,61 @@ package com.dev.monkey_dev.domain.respository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import com.dev.monkey_dev.domain.entity.Products;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Products, Long> {
+public interface ProductRepository extends JpaRepository<Products, Long>, ProductRepositoryCustom {
+
+    // One row per (product, category); rows of a product are adjacent because of the ORDER BY
+    String SEARCH_DOCUMENT_ROWS = "SELECT p.id, p.title, p.description, p.sku, p.price, c.slug " +
+            "FROM Products p LEFT JOIN p.categories c WHERE p.isActive = true ";
+
+    /**
+     * Streams the searchable fields of every active product for building the
+     * in-memory search index. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SEARCH_DOCUMENT_ROWS + "ORDER BY p.id")
+    Stream<Object[]> streamActiveSearchDocumentRows();
+
+    /**
+     * Streams every active product in id order over a forward-only cursor for the
+     * catalog export. Entities are loaded read-only; must be consumed inside a
+     * transaction and closed.
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT p FROM Products p WHERE p.isActive = true ORDER BY p.id")
+    Stream<Products> streamActiveProducts();
 
-    @Query("SELECT DISTINCT p FROM Products p " +
-            "LEFT JOIN FETCH p.categories c " +
-            "WHERE p.isActive = true " +
-            "AND (:categorySlug IS NULL OR c.slug = :categorySlug) " +
-            "AND (:filterProductCateType IS NULL OR " +
-            "     (:filterProductCateType = 'ALL' AND SIZE(p.categories) > 0) OR " +
-            "     (:filterProductCateType = 'NO_CATEGORY' AND SIZE(p.categories) = 0))")
-    Page<Products> findAllByCategorySlug(@Param("categorySlug") String categorySlug,
-            @Param("filterProductCateType") String filterProductCateType, Pageable pageable);
+    @Query(SEARCH_DOCUMENT_ROWS + "AND p.id IN :ids ORDER BY p.id")
+    List<Object[]> findActiveSearchDocumentRowsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT p FROM Products p WHERE p.slug = :slug AND p.isActive = true")
     Optional<Products> findBySlug(@Param("slug") String slug);
 
+    @Query("SELECT p.id FROM Products p WHERE p.slug = :slug AND p.isActive = true")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    /**
+     * @return The subset of the given slugs already used by a product, active or not
+     */
+    @Query("SELECT p.slug FROM Products p WHERE p.slug IN :slugs")
+    Set<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
     // remove product from category
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = "DELETE FROM product_categories WHERE product_id = :productId AND category_id = :categoryId", nativeQuery = true)
@@ -37,4 +68,35 @@ public interface ProductRepository extends JpaRepository<Products, Long> {
     @Query(value = "INSERT INTO product_categories (product_id, category_id) VALUES (:productId, :categoryId) ON CONFLICT DO NOTHING", nativeQuery = true)
     void addProductToCategory(@Param("categoryId") Long categoryId, @Param("productId") Long productId);
 
+    /**
+     * Adds all given products to a category in one statement.
+     * Unknown product ids are skipped instead of failing the whole statement.
+     *
+     * @return Rows of (product id, {@code CategoryMembershipStatus} name), one per distinct requested id
+     */
+    @Query(value = "WITH requested AS (SELECT DISTINCT unnest(CAST(:productIds AS bigint[])) AS product_id), " +
+            "inserted AS (INSERT INTO product_categories (product_id, category_id) " +
+            "    SELECT r.product_id, :categoryId FROM requested r JOIN products p ON p.id = r.product_id " +
+            "    ON CONFLICT DO NOTHING RETURNING product_id) " +
+            "SELECT r.product_id, CASE WHEN i.product_id IS NOT NULL THEN 'ADDED' " +
+            "    WHEN p.id IS NULL THEN 'PRODUCT_NOT_FOUND' ELSE 'ALREADY_IN_CATEGORY' END " +
+            "FROM requested r LEFT JOIN inserted i ON i.product_id = r.product_id " +
+            "LEFT JOIN products p ON p.id = r.product_id", nativeQuery = true)
+    List<Object[]> addProductsToCategory(@Param("categoryId") Long categoryId, @Param("productIds") Long[] productIds);
+
+    /**
+     * Removes all given products from a category in one statement.
+     *
+     * @return Rows of (product id, {@code CategoryMembershipStatus} name), one per distinct requested id
+     */
+    @Query(value = "WITH requested AS (SELECT DISTINCT unnest(CAST(:productIds AS bigint[])) AS product_id), " +
+            "deleted AS (DELETE FROM product_categories " +
+            "    WHERE category_id = :categoryId AND product_id = ANY(CAST(:productIds AS bigint[])) " +
+            "    RETURNING product_id) " +
+            "SELECT r.product_id, CASE WHEN d.product_id IS NOT NULL THEN 'REMOVED' " +
+            "    ELSE 'NOT_IN_CATEGORY' END " +
+            "FROM requested r LEFT JOIN deleted d ON d.product_id = r.product_id", nativeQuery = true)
+    List<Object[]> removeProductsFromCategory(@Param("categoryId") Long categoryId,
+            @Param("productIds") Long[] productIds);
+
 }
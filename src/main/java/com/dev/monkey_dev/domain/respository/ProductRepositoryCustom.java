@@ -0,0 +1,78 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.dev.monkey_dev.common.PriceBuckets;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.dto.request.ProductFilter;
+import com.dev.monkey_dev.enums.ProductSortField;
+
+/**
+ * Product queries that cannot be expressed as static {@code @Query} methods.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * First phase of the product listing: pages over the ids of active products
+     * matching the filter, so LIMIT/OFFSET are applied in SQL. Details are loaded
+     * afterwards with {@link #findAllWithDetailsByIdIn(List)}.
+     * When the filter has a search query the sort is ignored and ids are ordered
+     * by relevance.
+     *
+     * @param filter    Listing filters
+     * @param sortField Sort key
+     * @param direction Sort direction (also used for the id tie-breaker)
+     * @param offset    Number of rows to skip
+     * @param limit     Maximum number of rows to return
+     * @return Product ids of the requested page, in sort order
+     */
+    List<Long> findActiveProductIds(ProductFilter filter, ProductSortField sortField, Sort.Direction direction,
+            long offset, int limit);
+
+    /**
+     * Keyset (seek) query for active product ids.
+     * Returns up to {@code limit} ids ordered by the sort field and id,
+     * starting strictly after the row identified by {@code lastValue}/{@code lastId}.
+     * No COUNT query is executed.
+     *
+     * @param filter    Listing filters (a search query is not supported)
+     * @param sortField Sort key
+     * @param direction Sort direction (also used for the id tie-breaker)
+     * @param lastValue Sort value of the last row of the previous page, or null for the first page
+     * @param lastId    Id of the last row of the previous page, or null for the first page
+     * @param limit     Maximum number of rows to return
+     * @return Product ids of the requested page, in sort order
+     */
+    List<Long> findActiveProductIdsAfter(ProductFilter filter, ProductSortField sortField, Sort.Direction direction,
+            Object lastValue, Long lastId, int limit);
+
+    /**
+     * Counts active products matching the filter in total and per category, price
+     * bucket, featured flag and new flag, all in a single aggregate query.
+     *
+     * @param filter       Listing filters
+     * @param priceBuckets Price ranges to count
+     * @return Facet counts; {@link ProductFacets#total()} doubles as the page total
+     */
+    ProductFacets countActiveProductFacets(ProductFilter filter, PriceBuckets priceBuckets);
+
+    /**
+     * Second phase of the product listing: loads the given products together with
+     * their categories, images and variations using a fixed number of queries
+     * (one per association) regardless of how many ids are passed.
+     *
+     * @param ids Product ids, typically one page
+     * @return Products in the same order as {@code ids}
+     */
+    List<Products> findAllWithDetailsByIdIn(List<Long> ids);
+
+    /**
+     * Initializes categories, images and variations of products that are already
+     * managed, such as a window of a streamed result, with one query per association.
+     *
+     * @param products Managed products
+     */
+    void fetchDetails(List<Products> products);
+}
@@ -0,0 +1,185 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+
+import com.dev.monkey_dev.common.PriceBuckets;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.dto.request.ProductFilter;
+import com.dev.monkey_dev.enums.ProductSortField;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findActiveProductIds(ProductFilter filter, ProductSortField sortField,
+            Sort.Direction direction, long offset, int limit) {
+        ProductFilterClause clause = new ProductFilterClause(filter);
+        String orderBy = filter.getSearchQuery() != null
+                ? "ts_rank_cd(p.search_vector, to_tsquery('simple', :searchQuery)) DESC, p.id DESC"
+                : orderBy(sortField, direction);
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.id FROM products p WHERE " + clause.getSql() + " ORDER BY " + orderBy);
+        clause.bind(query);
+        return toIds(query.setFirstResult(Math.toIntExact(offset)).setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    public List<Long> findActiveProductIdsAfter(ProductFilter filter, ProductSortField sortField,
+            Sort.Direction direction, Object lastValue, Long lastId, int limit) {
+        ProductFilterClause clause = new ProductFilterClause(filter);
+
+        // Seek predicate: (sortValue, id) strictly after the last row of the previous page
+        if (lastId != null) {
+            String column = "p." + sortField.getColumn();
+            String comparator = direction.isAscending() ? ">" : "<";
+            if (sortField == ProductSortField.ID) {
+                clause.and("p.id " + comparator + " :lastId", "lastId", lastId);
+            } else {
+                clause.and("(" + column + " " + comparator + " :lastValue OR (" + column
+                        + " = :lastValue AND p.id " + comparator + " :lastId))", "lastValue", lastValue)
+                        .parameter("lastId", lastId);
+            }
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.id FROM products p WHERE " + clause.getSql() + " ORDER BY " + orderBy(sortField, direction));
+        clause.bind(query);
+        return toIds(query.setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    public ProductFacets countActiveProductFacets(ProductFilter filter, PriceBuckets priceBuckets) {
+        ProductFilterClause clause = new ProductFilterClause(filter);
+        // Bounds come from configuration, not from the request, so they are inlined as literals
+        String priceBucket = priceBuckets.getBounds().isEmpty()
+                ? "0"
+                : priceBuckets.getBounds().stream()
+                        .map(BigDecimal::toPlainString)
+                        .collect(Collectors.joining(", ", "width_bucket(p.price, CAST(ARRAY[", "] AS numeric[]))"));
+
+        // One row per product and category; COUNT(DISTINCT) undoes the fan-out of the join.
+        // Each grouping set produces one facet, the empty set produces the total.
+        Query query = entityManager.createNativeQuery(
+                "SELECT f.slug, f.price_bucket, f.is_featured, f.is_new,"
+                        + " GROUPING(f.slug, f.price_bucket, f.is_featured, f.is_new), COUNT(DISTINCT f.id)"
+                        + " FROM (SELECT p.id, c.slug, p.is_featured, p.is_new, " + priceBucket + " AS price_bucket"
+                        + "       FROM products p"
+                        + "       LEFT JOIN product_categories membership ON membership.product_id = p.id"
+                        + "       LEFT JOIN categories c ON c.id = membership.category_id"
+                        + "       WHERE " + clause.getSql() + ") f"
+                        + " GROUP BY GROUPING SETS ((f.slug), (f.price_bucket), (f.is_featured), (f.is_new), ())");
+        clause.bind(query);
+
+        long total = 0;
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> prices = new LinkedHashMap<>();
+        priceBuckets.getLabels().forEach(label -> prices.put(label, 0L));
+        Map<String, Long> featured = new HashMap<>();
+        Map<String, Long> isNew = new HashMap<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            long count = ((Number) row[5]).longValue();
+            // GROUPING() sets a bit for every column that is not part of the row's grouping set
+            switch (((Number) row[4]).intValue()) {
+                case 0b0111 -> {
+                    if (row[0] != null) {
+                        categories.put((String) row[0], count);
+                    }
+                }
+                case 0b1011 -> {
+                    if (row[1] != null) {
+                        prices.put(priceBuckets.label(((Number) row[1]).intValue()), count);
+                    }
+                }
+                case 0b1101 -> featured.put(String.valueOf(row[2]), count);
+                case 0b1110 -> isNew.put(String.valueOf(row[3]), count);
+                case 0b1111 -> total = count;
+                default -> {
+                }
+            }
+        }
+        return new ProductFacets(total, sortByCountDesc(categories), prices, featured, isNew);
+    }
+
+    @Override
+    public List<Products> findAllWithDetailsByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Products> products = entityManager.createQuery(
+                "SELECT DISTINCT p FROM Products p LEFT JOIN FETCH p.categories WHERE p.id IN :ids", Products.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        fetchImagesAndVariations(products);
+
+        Map<Long, Integer> positions = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        return products.stream()
+                .sorted(Comparator.comparing((Products product) -> positions.get(product.getId())))
+                .toList();
+    }
+
+    @Override
+    public void fetchDetails(List<Products> products) {
+        if (products == null || products.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery(
+                "SELECT DISTINCT p FROM Products p LEFT JOIN FETCH p.categories WHERE p IN :products", Products.class)
+                .setParameter("products", products)
+                .getResultList();
+        fetchImagesAndVariations(products);
+    }
+
+    // images and variations are both bags, so they cannot be join fetched in one
+    // query; each association gets its own query over the same managed instances
+    private void fetchImagesAndVariations(List<Products> products) {
+        entityManager.createQuery(
+                "SELECT DISTINCT p FROM Products p LEFT JOIN FETCH p.images WHERE p IN :products", Products.class)
+                .setParameter("products", products)
+                .getResultList();
+        entityManager.createQuery(
+                "SELECT DISTINCT p FROM Products p LEFT JOIN FETCH p.variations WHERE p IN :products", Products.class)
+                .setParameter("products", products)
+                .getResultList();
+    }
+
+    private static String orderBy(ProductSortField sortField, Sort.Direction direction) {
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        String orderBy = "p." + sortField.getColumn() + " " + order;
+        return sortField == ProductSortField.ID ? orderBy : orderBy + ", p.id " + order;
+    }
+
+    private static List<Long> toIds(List<?> rows) {
+        return rows.stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+    }
+
+    private static Map<String, Long> sortByCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
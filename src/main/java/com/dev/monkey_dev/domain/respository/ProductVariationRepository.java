@@ -1,14 +1,42 @@
 package com.dev.monkey_dev.domain.respository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.dev.monkey_dev.domain.entity.ProductVariation;
 
 public interface ProductVariationRepository extends JpaRepository<ProductVariation, Long> {
+
+    // Available stock of variation pv over all its inventory rows
+    String AVAILABLE_STOCK = "(SELECT COALESCE(SUM(i.quantity - COALESCE(i.reservedQuantity, 0)), 0) "
+            + "FROM Inventory i WHERE i.productVariation = pv)";
+
     @Query("SELECT pv FROM ProductVariation pv WHERE pv.product.id = :productId ORDER BY pv.id ASC")
     List<ProductVariation> findByProductId(@Param("productId") Long productId);
+
+    /**
+     * @return Ids of the products with a variation among the given inventory
+     *         rows whose stockQuantity differs from its available stock
+     */
+    @Query("SELECT DISTINCT pv.product.id FROM ProductVariation pv "
+            + "WHERE pv.id IN (SELECT i.productVariation.id FROM Inventory i WHERE i.id IN :inventoryIds) "
+            + "AND pv.stockQuantity <> " + AVAILABLE_STOCK)
+    List<Long> findProductIdsWithStaleStock(@Param("inventoryIds") Collection<Long> inventoryIds);
+
+    /**
+     * Sets stockQuantity of the variations of the given inventory rows to their
+     * available stock over all locations, i.e. quantity minus reserved quantity.
+     *
+     * @return Number of variations updated
+     */
+    @Modifying
+    @Query("UPDATE ProductVariation pv SET pv.stockQuantity = " + AVAILABLE_STOCK + " "
+            + "WHERE pv.id IN (SELECT i.productVariation.id FROM Inventory i WHERE i.id IN :inventoryIds) "
+            + "AND pv.stockQuantity <> " + AVAILABLE_STOCK)
+    int syncStockQuantity(@Param("inventoryIds") Collection<Long> inventoryIds);
 }
@@ -7,24 +7,43 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    
-    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * Finds a token together with its user, provided it is still the user's newest
+     * token. Issuing a token supersedes every older token of the same user, so
+     * neither login nor rotation has to update the old rows.
+     */
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user WHERE rt.tokenHash = :tokenHash "
+            + "AND NOT EXISTS (SELECT 1 FROM RefreshToken newer WHERE newer.user = rt.user AND newer.id > rt.id)")
+    Optional<RefreshToken> findCurrentByTokenHash(@Param("tokenHash") String tokenHash);
     
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
     void deleteByUser(@Param("user") Users user);
     
-    @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now") Instant now);
-    
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.user = :user")
     void revokeAllUserTokens(@Param("user") Users user);
+
+    /**
+     * Deletes up to {@code limit} tokens that can no longer be used: expired,
+     * revoked, or superseded by a newer token of the same user.
+     *
+     * @return Number of rows deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN ("
+            + "SELECT rt.id FROM refresh_tokens rt "
+            + "WHERE rt.expires_at < :now OR rt.is_revoked "
+            + "OR EXISTS (SELECT 1 FROM refresh_tokens newer WHERE newer.user_id = rt.user_id AND newer.id > rt.id) "
+            + "LIMIT :limit)", nativeQuery = true)
+    int deleteUnusableTokens(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -0,0 +1,12 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dev.monkey_dev.domain.entity.ShoppingCart;
+
+public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long> {
+
+    Optional<ShoppingCart> findFirstByUserIdOrderByIdAsc(Long userId);
+}
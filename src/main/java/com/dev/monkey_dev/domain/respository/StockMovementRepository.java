@@ -0,0 +1,43 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.StockMovement;
+
+/**
+ * Every query here is a range scan on occurred_at, served by
+ * idx_stock_movements_inventory_id_occurred_at or idx_stock_movements_occurred_at.
+ */
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    /**
+     * Sums the movements of one inventory row from {@code from} on: the tail
+     * after its newest snapshot.
+     */
+    @Query("SELECT new com.dev.monkey_dev.domain.respository.StockTotals(m.inventory.id, "
+            + "SUM(m.quantityDelta), SUM(m.reservedDelta)) FROM StockMovement m "
+            + "WHERE m.inventory.id = :inventoryId AND m.occurredAt >= :from GROUP BY m.inventory.id")
+    Optional<StockTotals> sumSince(@Param("inventoryId") Long inventoryId, @Param("from") Instant from);
+
+    @Query("SELECT new com.dev.monkey_dev.domain.respository.StockTotals(m.inventory.id, "
+            + "SUM(m.quantityDelta), SUM(m.reservedDelta)) FROM StockMovement m "
+            + "WHERE m.occurredAt >= :from AND m.occurredAt < :to GROUP BY m.inventory.id")
+    List<StockTotals> sumBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT m FROM StockMovement m WHERE m.inventory.id = :inventoryId "
+            + "AND m.occurredAt >= :from AND m.occurredAt < :to ORDER BY m.occurredAt, m.id")
+    Slice<StockMovement> findHistory(@Param("inventoryId") Long inventoryId, @Param("from") Instant from,
+            @Param("to") Instant to, Pageable pageable);
+
+    @Query("SELECT m FROM StockMovement m WHERE m.occurredAt >= :from AND m.occurredAt < :to "
+            + "ORDER BY m.occurredAt, m.id")
+    Slice<StockMovement> findAudit(@Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+}
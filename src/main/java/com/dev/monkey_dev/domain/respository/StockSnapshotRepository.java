@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.domain.respository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.monkey_dev.domain.entity.StockSnapshot;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+
+    Optional<StockSnapshot> findFirstByInventoryIdOrderByCoversUntilDesc(Long inventoryId);
+
+    @Query("SELECT s FROM StockSnapshot s WHERE s.inventory.id IN :inventoryIds AND s.coversUntil = "
+            + "(SELECT MAX(newest.coversUntil) FROM StockSnapshot newest WHERE newest.inventory = s.inventory)")
+    List<StockSnapshot> findNewestByInventoryIds(@Param("inventoryIds") Collection<Long> inventoryIds);
+
+    /**
+     * @return End of the period covered by the last snapshot run
+     */
+    @Query("SELECT MAX(s.coversUntil) FROM StockSnapshot s")
+    Optional<Instant> findLastCoveredUntil();
+}
@@ -0,0 +1,11 @@
+package com.dev.monkey_dev.domain.respository;
+
+/**
+ * Sum of the stock movements of one inventory row.
+ *
+ * @param inventoryId      Inventory row
+ * @param quantity         Sum of the on-hand changes
+ * @param reservedQuantity Sum of the reserved changes
+ */
+public record StockTotals(Long inventoryId, Long quantity, Long reservedQuantity) {
+}
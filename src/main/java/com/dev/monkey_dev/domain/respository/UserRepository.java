@@ -20,6 +20,11 @@ public interface UserRepository extends JpaRepository<Users, Long> {
 
     List<Users> findByUsername(String username);
 
+    /**
+     * Single-row lookup through the uk_users_username unique index.
+     */
+    Optional<Users> findOneByUsername(String username);
+
     Optional<Users> findByEmailOrUsername(String email, String username);
 
     @Query("SELECT new com.dev.monkey_dev.dto.response.UserResponseDto(u.id, u.fullName, u.username, u.email, u.active) FROM Users u WHERE u.active = :isActive")
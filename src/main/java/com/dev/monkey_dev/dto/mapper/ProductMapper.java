@@ -13,9 +13,11 @@ import com.dev.monkey_dev.domain.entity.ProductVariation;
 import com.dev.monkey_dev.domain.entity.Products;
 import com.dev.monkey_dev.dto.request.CategorySummaryDto;
 import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductImageCreateDto;
 import com.dev.monkey_dev.dto.request.ProductImageDto;
 import com.dev.monkey_dev.dto.request.ProductResponseDto;
 import com.dev.monkey_dev.dto.request.ProductUpdateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductVariationCreateDto;
 import com.dev.monkey_dev.dto.request.ProductVariationDto;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
@@ -76,6 +78,29 @@ public interface ProductMapper {
     @Mapping(target = "isNew", source = "isNew")
     Products toEntity(ProductCreateRequestDto dto);
 
+    default ProductImage toImageEntity(ProductImageCreateDto image, Products product) {
+        ProductImage productImage = new ProductImage();
+        productImage.setImageUrl(image.imageUrl());
+        productImage.setAltText(image.altText() == null ? "" : image.altText());
+        productImage.setDisplayOrder(image.displayOrder() == null ? 0 : image.displayOrder());
+        productImage.setIsPrimary(image.isPrimary() == null ? false : image.isPrimary());
+        productImage.setProduct(product);
+        return productImage;
+    }
+
+    default ProductVariation toVariationEntity(ProductVariationCreateDto variation, Products product) {
+        ProductVariation productVariation = new ProductVariation();
+        productVariation.setName(variation.name());
+        productVariation.setValue(variation.value() == null ? "" : variation.value());
+        productVariation.setPriceAdjustment(variation.priceAdjustment() == null ? 0.0
+                : variation.priceAdjustment().doubleValue());
+        productVariation.setSku(variation.sku() == null ? "" : variation.sku());
+        productVariation.setStockQuantity(variation.stockQuantity() == null ? 0
+                : variation.stockQuantity().intValue());
+        productVariation.setProduct(product);
+        return productVariation;
+    }
+
     // ---------- Update mapping ----------
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
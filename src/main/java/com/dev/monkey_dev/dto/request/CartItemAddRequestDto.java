@@ -1,10 +1,17 @@
 package com.dev.monkey_dev.dto.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 public record CartItemAddRequestDto(
     @NotNull Long productId,
     Long productVariationId,
-    @NotNull @Min(1) Integer quantity
-) {}
+    @NotNull @Min(1) @Max(CartItemAddRequestDto.MAX_QUANTITY) Integer quantity
+) {
+
+    /**
+     * Maximum quantity of one cart line, however it is reached
+     */
+    public static final int MAX_QUANTITY = 999;
+}
@@ -0,0 +1,11 @@
+package com.dev.monkey_dev.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CartItemQuantityRequestDto(
+    @NotNull Long productId,
+    Long productVariationId,
+    @NotNull @Min(0) @Max(CartItemAddRequestDto.MAX_QUANTITY) Integer quantity
+) {}
@@ -52,6 +52,13 @@ public class CriteriaFilter {
     @Builder.Default
     private Integer size = 10;
 
+    /**
+     * Opaque keyset pagination cursor (the "next_cursor" of a previous page).
+     * When present, keyset pagination is used instead of page/offset and no
+     * total count is computed. An empty value requests the first page.
+     */
+    private String cursor;
+
     /**
      * Converts this CriteriaFilter to a Spring Data Pageable object.
      * 
@@ -182,6 +189,24 @@ public class CriteriaFilter {
         return size != null && size > 0 ? size : 10;
     }
 
+    /**
+     * Checks if keyset (cursor) pagination was requested.
+     * 
+     * @return true if a cursor parameter was supplied, even an empty one
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * Gets the cursor trimmed, or null if empty (first cursor page).
+     * 
+     * @return Trimmed cursor or null
+     */
+    public String getCursor() {
+        return cursor != null && !cursor.trim().isEmpty() ? cursor.trim() : null;
+    }
+
     /**
      * Checks if search criteria is provided.
      * 
@@ -0,0 +1,9 @@
+package com.dev.monkey_dev.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record InventoryReservationLineDto(
+    @NotNull Long inventoryId,
+    @NotNull @Min(1) Integer quantity
+) {}
@@ -0,0 +1,68 @@
+package com.dev.monkey_dev.dto.request;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import com.dev.monkey_dev.enums.FilterProductCateType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters for the product listing. Every non-null field adds one condition and
+ * all conditions are combined with AND; a filter with no fields set matches all
+ * active products.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilter {
+
+    /**
+     * Products in any of these categories (a category and its descendants).
+     * An empty set matches nothing, e.g. for an unknown category slug.
+     */
+    private Set<Long> categoryIds;
+
+    /**
+     * Whether products must have at least one category or none at all.
+     */
+    private FilterProductCateType categoryType;
+
+    /**
+     * Inclusive lower price bound.
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * Inclusive upper price bound.
+     */
+    private BigDecimal maxPrice;
+
+    private Boolean isFeatured;
+
+    private Boolean isNew;
+
+    /**
+     * Id of the selling user ({@code products.user_id}).
+     */
+    private Long sellerId;
+
+    /**
+     * ISO 4217 currency code, e.g. "USD".
+     */
+    private String currency;
+
+    /**
+     * PostgreSQL tsquery matched against {@code products.search_vector}; results
+     * are then ordered by relevance. See {@code StringUtils.toPrefixTsQuery}.
+     */
+    private String searchQuery;
+
+    public static ProductFilter empty() {
+        return new ProductFilter();
+    }
+}
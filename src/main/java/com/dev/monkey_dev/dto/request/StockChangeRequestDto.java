@@ -0,0 +1,15 @@
+package com.dev.monkey_dev.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A manual stock change.
+ *
+ * @param quantity  Units received or returned, or the signed correction of an adjustment
+ * @param reference Delivery note, return number or similar, optional
+ */
+public record StockChangeRequestDto(
+    @NotNull Integer quantity,
+    @Size(max = 64) String reference
+) {}
@@ -0,0 +1,18 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.util.Map;
+
+import com.dev.monkey_dev.enums.CategoryMembershipStatus;
+
+/**
+ * Result of a bulk add to / remove from category request.
+ *
+ * @param categoryId Category id
+ * @param changed    Number of products actually added or removed
+ * @param results    Outcome per requested product id
+ */
+public record BulkCategoryMembershipResponseDto(
+    Long categoryId,
+    int changed,
+    Map<Long, CategoryMembershipStatus> results
+) {}
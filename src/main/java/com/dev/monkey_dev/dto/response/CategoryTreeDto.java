@@ -0,0 +1,13 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.util.List;
+
+/**
+ * A category with its active child categories, as returned by the category tree endpoint.
+ */
+public record CategoryTreeDto(
+    Long id,
+    String name,
+    String slug,
+    List<CategoryTreeDto> children
+) {}
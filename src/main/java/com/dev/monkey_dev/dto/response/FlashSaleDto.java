@@ -0,0 +1,14 @@
+package com.dev.monkey_dev.dto.response;
+
+/**
+ * A running flash sale.
+ *
+ * @param inventoryId Inventory row the stock is taken from
+ * @param allocated   Units set aside for the sale
+ * @param remaining   Units that can still be granted
+ */
+public record FlashSaleDto(
+    Long inventoryId,
+    int allocated,
+    int remaining
+) {}
@@ -0,0 +1,14 @@
+package com.dev.monkey_dev.dto.response;
+
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+
+/**
+ * A guest cart and the token that holds it.
+ *
+ * @param token Token to send back with the next guest cart request, null when the cart is empty
+ * @param cart  Items of the cart at current product prices
+ */
+public record GuestCartDto(
+    String token,
+    CartResponseDto cart
+) {}
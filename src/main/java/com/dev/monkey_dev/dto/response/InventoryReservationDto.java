@@ -0,0 +1,14 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.time.Instant;
+
+/**
+ * A reservation holding stock for a buyer.
+ *
+ * @param reservationId Id to commit or release the reservation with
+ * @param expiresAt     Time after which the sweeper releases the stock
+ */
+public record InventoryReservationDto(
+    String reservationId,
+    Instant expiresAt
+) {}
@@ -0,0 +1,36 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.dev.monkey_dev.enums.ProductFileFormat;
+import com.dev.monkey_dev.enums.ProductImportStatus;
+
+/**
+ * Status and progress of a bulk product import job.
+ *
+ * @param jobId         Job id to poll
+ * @param format        File format
+ * @param status        Current status
+ * @param processedRows Rows read so far
+ * @param importedRows  Rows saved so far
+ * @param failedRows    Rows rejected so far
+ * @param errors        Rejected rows, capped at {@code app.import.product.max-reported-errors}
+ * @param message       Reason the job failed, if it did
+ * @param createdAt     Time the file was received
+ * @param startedAt     Time processing started
+ * @param finishedAt    Time processing ended
+ */
+public record ProductImportJobDto(
+    String jobId,
+    ProductFileFormat format,
+    ProductImportStatus status,
+    long processedRows,
+    long importedRows,
+    long failedRows,
+    List<ProductImportRowErrorDto> errors,
+    String message,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {}
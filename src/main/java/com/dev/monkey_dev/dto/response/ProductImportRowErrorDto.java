@@ -0,0 +1,14 @@
+package com.dev.monkey_dev.dto.response;
+
+/**
+ * A row of an import file that was not imported.
+ *
+ * @param line    Line number in the file where the row starts (1-based)
+ * @param slug    Slug of the row, if it could be read
+ * @param message Reason the row was rejected
+ */
+public record ProductImportRowErrorDto(
+    long line,
+    String slug,
+    String message
+) {}
@@ -0,0 +1,21 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Current stock of one inventory row, from its newest snapshot plus the
+ * movements after it.
+ *
+ * @param inventoryId      Inventory row (one SKU at one location)
+ * @param quantity         Units on hand
+ * @param reservedQuantity Units on hand that are reserved
+ * @param available        Units that can still be reserved
+ * @param snapshotUntil    End of the period covered by the snapshot, or null if there is none yet
+ */
+public record StockLevelDto(
+    Long inventoryId,
+    long quantity,
+    long reservedQuantity,
+    long available,
+    Instant snapshotUntil
+) {}
@@ -0,0 +1,26 @@
+package com.dev.monkey_dev.dto.response;
+
+import java.time.Instant;
+
+import com.dev.monkey_dev.enums.StockMovementType;
+
+/**
+ * One entry of the stock ledger.
+ *
+ * @param id            Ledger entry id
+ * @param inventoryId   Inventory row the entry applies to
+ * @param type          Reason for the change
+ * @param quantityDelta Change of the units on hand
+ * @param reservedDelta Change of the reserved units
+ * @param reference     Related reservation or flash sale, if any
+ * @param occurredAt    Time of the change
+ */
+public record StockMovementDto(
+    Long id,
+    Long inventoryId,
+    StockMovementType type,
+    int quantityDelta,
+    int reservedDelta,
+    String reference,
+    Instant occurredAt
+) {}
@@ -0,0 +1,11 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * When cart changes kept in memory are written to the database.
+ */
+public enum CartDurability {
+    /** Changes are merged per cart and written by the periodic flush */
+    WRITE_BEHIND,
+    /** Every change is written before the request returns */
+    WRITE_THROUGH,
+}
@@ -0,0 +1,12 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * Outcome for one product of a bulk add to / remove from category request.
+ */
+public enum CategoryMembershipStatus {
+    ADDED,
+    REMOVED,
+    ALREADY_IN_CATEGORY,
+    NOT_IN_CATEGORY,
+    PRODUCT_NOT_FOUND,
+}
@@ -0,0 +1,14 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * Lifecycle of an inventory reservation. Only PENDING reservations hold stock.
+ */
+public enum InventoryReservationStatus {
+    PENDING,
+    /** The reserved stock was sold and taken off the inventory */
+    COMMITTED,
+    /** The reserved stock was given back by the buyer */
+    RELEASED,
+    /** The reserved stock was given back by the sweeper after the reservation timed out */
+    EXPIRED,
+}
@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * File formats of the bulk product import and the catalog export.
+ */
+public enum ProductFileFormat {
+    /** Header row followed by one product per row */
+    CSV("text/csv", "csv"),
+    /** One JSON product object per line */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    ProductFileFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
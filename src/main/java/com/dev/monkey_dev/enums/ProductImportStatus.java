@@ -0,0 +1,13 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * Lifecycle of a bulk product import job.
+ */
+public enum ProductImportStatus {
+    QUEUED,
+    RUNNING,
+    /** The whole file was read; individual rows may still have failed */
+    COMPLETED,
+    /** The file could not be read to the end */
+    FAILED,
+}
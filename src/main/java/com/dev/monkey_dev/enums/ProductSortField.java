@@ -0,0 +1,61 @@
+package com.dev.monkey_dev.enums;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.exception.BusinessException;
+
+/**
+ * Product properties the listing can be sorted by, also used as keyset (cursor)
+ * pagination sort keys.
+ * Each field knows how to read its value from an entity and how to restore it
+ * from the string stored inside a cursor token.
+ */
+public enum ProductSortField {
+    ID("id", "id", Products::getId, Long::valueOf),
+    CREATED_AT("createdAt", "created_at", Products::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", "updated_at", Products::getUpdatedAt, LocalDateTime::parse),
+    PRICE("price", "price", Products::getPrice, BigDecimal::new),
+    TITLE("title", "title", Products::getTitle, value -> value);
+
+    private final String property;
+    private final String column;
+    private final Function<Products, Object> extractor;
+    private final Function<String, Object> parser;
+
+    ProductSortField(String property, String column, Function<Products, Object> extractor,
+            Function<String, Object> parser) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static ProductSortField fromProperty(String property) {
+        return Arrays.stream(ProductSortField.values())
+                .filter(field -> field.property.equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(StatusCode.BAD_REQUEST,
+                        "Unsupported sort field: " + property));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String format(Products product) {
+        return String.valueOf(extractor.apply(product));
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+}
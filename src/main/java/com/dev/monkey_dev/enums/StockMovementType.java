@@ -0,0 +1,19 @@
+package com.dev.monkey_dev.enums;
+
+/**
+ * Reason for a change recorded in the stock ledger.
+ */
+public enum StockMovementType {
+    /** Stock added to an inventory row, e.g. when a product is created */
+    RECEIPT,
+    /** Stock set aside for a buyer or a flash sale */
+    RESERVATION,
+    /** Reserved stock made available again */
+    RESERVATION_RELEASE,
+    /** Reserved stock sold and taken off the inventory */
+    SALE,
+    /** Sold stock returned by a buyer */
+    RETURN,
+    /** Manual correction, e.g. after a stock count */
+    ADJUSTMENT,
+}
@@ -4,6 +4,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import com.dev.monkey_dev.config.PrincipalJwtAuthenticationToken;
+
 public class AuthHelper {
 
     private static Authentication getAuthentication() {
@@ -18,21 +20,43 @@ public class AuthHelper {
         throw new IllegalStateException("JWT not found in security context.");
     }
 
-    public static Long getUserId() {
-        Jwt jwt = getJwt();
-        String userId = jwt.getClaimAsString("id"); // Ensure "id" is present in JWT
-        if (userId == null) {
-            throw new IllegalStateException("JWT does not contain 'id' claim.");
+    /**
+     * Returns the authenticated user of the current request. The principal is
+     * built once by CustomJwtAuthenticationConverter, so this is a field read.
+     *
+     * @throws IllegalStateException if the request is not authenticated with a JWT carrying an id
+     */
+    public static CurrentPrincipal getCurrentPrincipal() {
+        Authentication auth = getAuthentication();
+        if (auth instanceof PrincipalJwtAuthenticationToken token) {
+            if (token.getCurrentPrincipal() == null) {
+                throw new IllegalStateException("JWT does not contain 'id' claim.");
+            }
+            return token.getCurrentPrincipal();
         }
-        return Long.parseLong(userId);
+        // Authentications created outside the resource server chain
+        return CurrentPrincipal.from(getJwt());
+    }
+
+    public static Long getUserId() {
+        return getCurrentPrincipal().id();
     }
 
     public static String getUsername() {
+        Authentication auth = getAuthentication();
+        if (auth instanceof PrincipalJwtAuthenticationToken token && token.getCurrentPrincipal() != null) {
+            return token.getCurrentPrincipal().username();
+        }
         Jwt jwt = getJwt();
         return jwt.getClaimAsString("username") != null ? jwt.getClaimAsString("username") : jwt.getSubject();
     }
 
     public static String getRole() {
+        Authentication auth = getAuthentication();
+        if (auth instanceof PrincipalJwtAuthenticationToken token && token.getCurrentPrincipal() != null
+                && token.getCurrentPrincipal().role() != null) {
+            return token.getCurrentPrincipal().role().name();
+        }
         Jwt jwt = getJwt();
         return jwt.getClaimAsString("role");
     }
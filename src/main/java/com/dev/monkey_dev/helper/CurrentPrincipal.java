@@ -0,0 +1,58 @@
+package com.dev.monkey_dev.helper;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.dev.monkey_dev.enums.Roles;
+
+/**
+ * The authenticated user of the current request, read from the access token's
+ * claims once when the request is authenticated.
+ *
+ * @param id       User id ({@code id} claim)
+ * @param username Username ({@code username} claim, or the subject)
+ * @param role     Role ({@code role} claim), or null if missing or unknown
+ */
+public record CurrentPrincipal(long id, String username, Roles role) implements Serializable {
+
+    /**
+     * Reads the principal from a verified access token.
+     *
+     * @throws IllegalStateException if the token has no usable {@code id} claim
+     */
+    public static CurrentPrincipal from(Jwt jwt) {
+        Object id = jwt.getClaim("id");
+        if (id == null) {
+            throw new IllegalStateException("JWT does not contain 'id' claim.");
+        }
+        long userId;
+        if (id instanceof Number number) {
+            userId = number.longValue();
+        } else {
+            try {
+                userId = Long.parseLong(id.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("JWT 'id' claim is not a number.");
+            }
+        }
+
+        String username = jwt.getClaimAsString("username");
+        if (username == null || username.isBlank()) {
+            username = jwt.getSubject();
+        }
+        return new CurrentPrincipal(userId, username, toRole(jwt.getClaimAsString("role")));
+    }
+
+    private static Roles toRole(String role) {
+        if (role == null || role.isBlank()) {
+            return null;
+        }
+        try {
+            return Roles.valueOf(role.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dev.monkey_dev.logging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the HTTP access log.
+ *
+ * @param timestamp     Epoch milliseconds at which the request arrived
+ * @param traceId       Request id, taken from {@code X-Request-Id} or generated
+ * @param method        HTTP method
+ * @param route         Matched route template, e.g. {@code /api/wb/v1/products/{id}}, or the raw URI if none matched
+ * @param status        Response status code
+ * @param latencyMs     Time from arrival to completion of the response
+ * @param requestBytes  Bytes read from the request body
+ * @param responseBytes Bytes written to the response body
+ * @param userId        Id of the authenticated user, if any
+ * @param requestBody   Sampled, possibly truncated request body
+ * @param responseBody  Sampled, possibly truncated response body
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccessLogEvent(
+        long timestamp,
+        String traceId,
+        String method,
+        String route,
+        int status,
+        long latencyMs,
+        long requestBytes,
+        long responseBytes,
+        Long userId,
+        String requestBody,
+        String responseBody) {
+
+}
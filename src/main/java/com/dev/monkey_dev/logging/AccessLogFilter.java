@@ -0,0 +1,160 @@
+package com.dev.monkey_dev.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.dev.monkey_dev.config.PrincipalJwtAuthenticationToken;
+import com.dev.monkey_dev.properties.AccessLogProperties;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records one {@link AccessLogEvent} per API request and hands it to
+ * {@link AccessLogWriter}.
+ *
+ * The request thread only counts body bytes and, for the sampled fraction of
+ * requests, keeps the first {@code app.access-log.max-body-bytes} of each body;
+ * everything else (JSON, I/O) happens on the writer thread.
+ *
+ * The filter is registered ahead of the Spring Security chain (see
+ * AccessLogFilterConfiguration), so requests the chain rejects with 401 or 403
+ * are logged too. The chain clears the security context before returning, so
+ * the authenticated user is recorded on the request by {@link #userCapture()},
+ * which runs inside the chain, and read back afterwards.
+ *
+ * A client's {@value #TRACE_ID_HEADER} is kept if it is at most 64 letters,
+ * digits, dots, dashes or underscores; otherwise a UUID is used.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String TRACE_ID_HEADER = "X-Request-Id";
+    static final String TRACE_ID_MDC_KEY = "traceId";
+    static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    private static final Pattern TRACE_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final AccessLogWriter writer;
+    private final AccessLogProperties properties;
+
+    public AccessLogFilter(AccessLogWriter writer, AccessLogProperties properties) {
+        this.writer = writer;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.enabled() || !request.getRequestURI().startsWith(properties.pathPrefix());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        long timestamp = System.currentTimeMillis();
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        // Echoed in the response and written to every log line, so only a safe id is taken
+        if (traceId == null || !TRACE_ID.matcher(traceId).matches()) {
+            traceId = UUID.randomUUID().toString();
+        }
+        response.setHeader(TRACE_ID_HEADER, traceId);
+
+        int sampleBytes = isSampled() ? properties.maxBodyBytes() : 0;
+        AccessLogRequestWrapper wrappedRequest = new AccessLogRequestWrapper(request, sampleBytes);
+        AccessLogResponseWrapper wrappedResponse = new AccessLogResponseWrapper(response, sampleBytes);
+
+        MDC.put(TRACE_ID_MDC_KEY, traceId);
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } finally {
+            MDC.remove(TRACE_ID_MDC_KEY);
+            String id = traceId;
+            Long userId = (Long) wrappedRequest.getAttribute(USER_ID_ATTRIBUTE);
+            if (wrappedRequest.isAsyncStarted()) {
+                // Status and body are only final once the async request completes
+                wrappedRequest.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(wrappedRequest, wrappedResponse, timestamp, startNanos, id, userId);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(wrappedRequest, wrappedResponse, timestamp, startNanos, id, userId);
+            }
+        }
+    }
+
+    private void record(AccessLogRequestWrapper request, AccessLogResponseWrapper response, long timestamp,
+            long startNanos, String traceId, Long userId) {
+        response.flushWriter();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        writer.offer(new AccessLogEvent(
+                timestamp,
+                traceId,
+                request.getMethod(),
+                pattern != null ? pattern.toString() : request.getRequestURI(),
+                response.getStatus(),
+                (System.nanoTime() - startNanos) / 1_000_000,
+                request.capture().count(),
+                response.capture().count(),
+                userId,
+                request.capture().text(),
+                response.capture().text()));
+    }
+
+    private boolean isSampled() {
+        double rate = properties.bodySampleRate();
+        return rate > 0 && properties.maxBodyBytes() > 0
+                && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Filter for the Spring Security chain, after authentication, that records
+     * the authenticated user for the access log.
+     */
+    public static Filter userCapture() {
+        return (request, response, chain) -> {
+            Long userId = currentUserId();
+            if (userId != null) {
+                request.setAttribute(USER_ID_ATTRIBUTE, userId);
+            }
+            chain.doFilter(request, response);
+        };
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof PrincipalJwtAuthenticationToken token && token.getCurrentPrincipal() != null) {
+            return token.getCurrentPrincipal().id();
+        }
+        return null;
+    }
+}
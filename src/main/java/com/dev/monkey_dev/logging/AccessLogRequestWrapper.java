@@ -0,0 +1,93 @@
+package com.dev.monkey_dev.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Counts, and optionally samples, the request body as the application reads it.
+ * Unlike {@code ContentCachingRequestWrapper} it never buffers more than the
+ * sample, so streaming uploads are not held in memory.
+ */
+final class AccessLogRequestWrapper extends HttpServletRequestWrapper {
+
+    private final BodyCapture capture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    AccessLogRequestWrapper(HttpServletRequest request, int sampleBytes) {
+        super(request);
+        this.capture = new BodyCapture(sampleBytes);
+    }
+
+    BodyCapture capture() {
+        return capture;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CountingInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    private final class CountingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                capture.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
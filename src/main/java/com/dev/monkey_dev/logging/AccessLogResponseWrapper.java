@@ -0,0 +1,106 @@
+package com.dev.monkey_dev.logging;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Counts, and optionally samples, the response body as it is written through to
+ * the client. Unlike {@code ContentCachingResponseWrapper} nothing is buffered
+ * beyond the sample, so streamed responses such as the catalog export still
+ * stream.
+ */
+final class AccessLogResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCapture capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    AccessLogResponseWrapper(HttpServletResponse response, int sampleBytes) {
+        super(response);
+        this.capture = new BodyCapture(sampleBytes);
+    }
+
+    BodyCapture capture() {
+        return capture;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Pushes text buffered in the writer through the counting stream.
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
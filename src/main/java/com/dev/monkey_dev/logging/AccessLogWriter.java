@@ -0,0 +1,139 @@
+package com.dev.monkey_dev.logging;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dev.monkey_dev.properties.AccessLogProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Writes access log events as JSON lines from a background thread.
+ *
+ * Request threads only append to a bounded, lock-free queue; serialization and
+ * logging happen on the writer thread, which takes up to
+ * {@code app.access-log.batch-size} events at a time and writes them with a
+ * single call to the {@code monkey-dev.access} logger. When the queue is full
+ * new events are dropped and counted rather than blocking the request.
+ */
+@Component
+public class AccessLogWriter {
+
+    static final String LOGGER_NAME = "monkey-dev.access";
+
+    private static final Logger accessLog = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final ObjectWriter objectWriter;
+    private final AccessLogProperties properties;
+    private final Queue<AccessLogEvent> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the queue, so the bound is tracked separately
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessLogWriter(ObjectMapper objectMapper, AccessLogProperties properties) {
+        this.objectWriter = objectMapper.writerFor(AccessLogEvent.class);
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(properties.flushInterval().toMillis() * 2);
+        }
+    }
+
+    /**
+     * Queues an event without blocking.
+     *
+     * @param event the event to write
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(AccessLogEvent event) {
+        int size = queued.incrementAndGet();
+        if (size > properties.queueCapacity()) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.offer(event);
+        // Wake the writer early once a full batch is waiting
+        if (size == properties.batchSize() && thread != null) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Writes at most one batch of queued events.
+     *
+     * @return the number of events written
+     */
+    int drain() {
+        long droppedSinceLast = dropped.getAndSet(0);
+        if (droppedSinceLast > 0) {
+            accessLog.warn("Access log queue full, dropped {} events", droppedSinceLast);
+        }
+        StringBuilder lines = new StringBuilder();
+        int count = 0;
+        AccessLogEvent event;
+        while (count < properties.batchSize() && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            count++;
+            try {
+                if (!lines.isEmpty()) {
+                    lines.append('\n');
+                }
+                lines.append(objectWriter.writeValueAsString(event));
+            } catch (Exception e) {
+                AppLogManager.warn(AccessLogWriter.class, "Could not serialize access log event: {}", e.getMessage());
+            }
+        }
+        if (!lines.isEmpty()) {
+            accessLog.info(lines.toString());
+        }
+        return count;
+    }
+
+    private void run() {
+        long idleNanos = properties.flushInterval().toNanos();
+        while (running) {
+            try {
+                if (drain() < properties.batchSize()) {
+                    LockSupport.parkNanos(this, idleNanos);
+                }
+            } catch (Exception e) {
+                AppLogManager.error(AccessLogWriter.class, "Error writing access log", e);
+            }
+        }
+        // Flush what was queued before shutdown
+        int written;
+        do {
+            written = drain();
+        } while (written > 0);
+    }
+}
@@ -1,6 +1,7 @@
 package com.dev.monkey_dev.logging;
 
-import java.text.MessageFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,49 +12,67 @@ import com.dev.monkey_dev.util.StringUtils;
  * Centralized logging manager for the application.
  * Provides structured logging with automatic caller detection and proper
  * exception handling.
+ *
+ * Messages are prefixed with the calling file and line ({@code File.java:42 - message}).
+ * The level is checked before anything is formatted, and the call site is only
+ * resolved, with a {@link StackWalker} that stops at the first frame outside this
+ * class, once a line is actually written. Use the {@link Supplier} or
+ * {@code {}}-parameterized overloads for messages that are expensive to build, so
+ * a disabled level costs no more than the level check. Overloads without a caller
+ * class or category must walk the stack to find their logger even when the level
+ * is disabled, so prefer the {@code Class<?>} overloads on hot paths.
  */
 public class AppLogManager {
 
-    private static final String LOG_FORMAT = "{0}:{1} - {2}";
+    private static final StackWalker STACK_WALKER = StackWalker
+            .getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
     /**
-     * Gets the caller class name from the stack trace.
+     * Finds the first stack frame outside this class, i.e. the logging call site.
      *
-     * @param level the stack trace level
-     * @return the caller class name
+     * @return the caller frame, or null if there is none
      */
-    private static String getCallerAsString(int level) {
-        StackTraceElement[] stElements = Thread.currentThread().getStackTrace();
-        if (stElements.length <= level + 1) {
-            return "Unknown";
-        }
-        String rawFQN = stElements[level + 1].toString().split("\\(")[0];
-        return rawFQN.substring(0, StringUtils.lastIndexOf(rawFQN, "."));
+    private static StackWalker.StackFrame getCallerFrame() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getDeclaringClass() != AppLogManager.class)
+                .findFirst())
+                .orElse(null);
     }
 
     /**
-     * Parses caller information and formats the log message.
+     * Prefixes a message with the file and line of the logging call site.
      *
-     * @param str the caller class name
-     * @param x   the message object
-     * @return array containing [category, formatted message]
+     * @param frame the caller frame (can be null)
+     * @param x     the message object
+     * @return the formatted message
      */
-    private static String[] parseCaller(String str, Object x) {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        int lineNumber = stackTrace.length > 4 ? stackTrace[4].getLineNumber() : 0;
-        String fileName = StringUtils.substringAfterLast(str, ".") + ".java";
-        String formattedMessage = MessageFormat.format(LOG_FORMAT, fileName, lineNumber, String.valueOf(x));
-        return new String[] { str, formattedMessage };
+    private static String withLocation(StackWalker.StackFrame frame, Object x) {
+        if (frame == null) {
+            return String.valueOf(x);
+        }
+        String fileName = Optional.ofNullable(frame.getFileName())
+                .orElseGet(() -> frame.getDeclaringClass().getSimpleName() + ".java");
+        return fileName + ":" + frame.getLineNumber() + " - " + x;
     }
 
     /**
-     * Parses caller information automatically.
+     * Prefixes a message with the file and line of the logging call site.
      *
      * @param x the message object
-     * @return array containing [category, formatted message]
+     * @return the formatted message
      */
-    private static String[] parseCaller(Object x) {
-        return parseCaller(getCallerAsString(3), String.valueOf(x));
+    private static String withLocation(Object x) {
+        return withLocation(getCallerFrame(), x);
+    }
+
+    /**
+     * Gets the logger of the class declaring the given frame.
+     *
+     * @param frame the caller frame (can be null)
+     * @return the logger instance
+     */
+    private static Logger getLogger(StackWalker.StackFrame frame) {
+        return frame != null ? getLogger(frame.getDeclaringClass()) : getRootLogger();
     }
 
     // ==================== DEBUG LEVEL ====================
@@ -64,8 +83,11 @@ public class AppLogManager {
      * @param x the message to log
      */
     public static void debug(Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        debug(parsed[0], parsed[1]);
+        StackWalker.StackFrame frame = getCallerFrame();
+        Logger logger = getLogger(frame);
+        if (logger.isDebugEnabled()) {
+            logger.debug(withLocation(frame, x));
+        }
     }
 
     /**
@@ -88,8 +110,38 @@ public class AppLogManager {
      * @param x      the message to log
      */
     public static void debug(Class<?> caller, Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        debug(caller.getName(), parsed[1]);
+        Logger logger = getLogger(caller);
+        if (logger.isDebugEnabled()) {
+            logger.debug(withLocation(x));
+        }
+    }
+
+    /**
+     * Logs a DEBUG message for a specific class, building it only if DEBUG is enabled.
+     *
+     * @param caller  the caller class
+     * @param message supplies the message to log
+     */
+    public static void debug(Class<?> caller, Supplier<?> message) {
+        Logger logger = getLogger(caller);
+        if (logger.isDebugEnabled()) {
+            logger.debug(withLocation(message.get()));
+        }
+    }
+
+    /**
+     * Logs a DEBUG message for a specific class with {@code {}} placeholders,
+     * formatted only if DEBUG is enabled.
+     *
+     * @param caller the caller class
+     * @param format the message format
+     * @param args   the format arguments
+     */
+    public static void debug(Class<?> caller, String format, Object... args) {
+        Logger logger = getLogger(caller);
+        if (logger.isDebugEnabled()) {
+            logger.debug(withLocation(format), args);
+        }
     }
 
     /**
@@ -114,8 +166,11 @@ public class AppLogManager {
      * @param x the message to log
      */
     public static void info(Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        info(parsed[0], parsed[1]);
+        StackWalker.StackFrame frame = getCallerFrame();
+        Logger logger = getLogger(frame);
+        if (logger.isInfoEnabled()) {
+            logger.info(withLocation(frame, x));
+        }
     }
 
     /**
@@ -126,7 +181,9 @@ public class AppLogManager {
      */
     public static void info(String category, Object x) {
         Logger logger = getLogger(category);
-        logger.info(String.valueOf(x));
+        if (logger.isInfoEnabled()) {
+            logger.info(String.valueOf(x));
+        }
     }
 
     /**
@@ -136,8 +193,38 @@ public class AppLogManager {
      * @param x      the message to log
      */
     public static void info(Class<?> caller, Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        info(caller.getName(), parsed[1]);
+        Logger logger = getLogger(caller);
+        if (logger.isInfoEnabled()) {
+            logger.info(withLocation(x));
+        }
+    }
+
+    /**
+     * Logs an INFO message for a specific class, building it only if INFO is enabled.
+     *
+     * @param caller  the caller class
+     * @param message supplies the message to log
+     */
+    public static void info(Class<?> caller, Supplier<?> message) {
+        Logger logger = getLogger(caller);
+        if (logger.isInfoEnabled()) {
+            logger.info(withLocation(message.get()));
+        }
+    }
+
+    /**
+     * Logs an INFO message for a specific class with {@code {}} placeholders,
+     * formatted only if INFO is enabled.
+     *
+     * @param caller the caller class
+     * @param format the message format
+     * @param args   the format arguments
+     */
+    public static void info(Class<?> caller, String format, Object... args) {
+        Logger logger = getLogger(caller);
+        if (logger.isInfoEnabled()) {
+            logger.info(withLocation(format), args);
+        }
     }
 
     /**
@@ -149,7 +236,9 @@ public class AppLogManager {
      */
     public static void info(String category, String format, Object... args) {
         Logger logger = getLogger(category);
-        logger.info(format, args);
+        if (logger.isInfoEnabled()) {
+            logger.info(format, args);
+        }
     }
 
     // ==================== WARN LEVEL ====================
@@ -160,8 +249,11 @@ public class AppLogManager {
      * @param x the message to log
      */
     public static void warn(Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        warn(parsed[0], parsed[1]);
+        StackWalker.StackFrame frame = getCallerFrame();
+        Logger logger = getLogger(frame);
+        if (logger.isWarnEnabled()) {
+            logger.warn(withLocation(frame, x));
+        }
     }
 
     /**
@@ -172,7 +264,9 @@ public class AppLogManager {
      */
     public static void warn(String category, Object x) {
         Logger logger = getLogger(category);
-        logger.warn(String.valueOf(x));
+        if (logger.isWarnEnabled()) {
+            logger.warn(String.valueOf(x));
+        }
     }
 
     /**
@@ -182,8 +276,38 @@ public class AppLogManager {
      * @param x      the message to log
      */
     public static void warn(Class<?> caller, Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        warn(caller.getName(), parsed[1]);
+        Logger logger = getLogger(caller);
+        if (logger.isWarnEnabled()) {
+            logger.warn(withLocation(x));
+        }
+    }
+
+    /**
+     * Logs a WARN message for a specific class, building it only if WARN is enabled.
+     *
+     * @param caller  the caller class
+     * @param message supplies the message to log
+     */
+    public static void warn(Class<?> caller, Supplier<?> message) {
+        Logger logger = getLogger(caller);
+        if (logger.isWarnEnabled()) {
+            logger.warn(withLocation(message.get()));
+        }
+    }
+
+    /**
+     * Logs a WARN message for a specific class with {@code {}} placeholders,
+     * formatted only if WARN is enabled.
+     *
+     * @param caller the caller class
+     * @param format the message format
+     * @param args   the format arguments
+     */
+    public static void warn(Class<?> caller, String format, Object... args) {
+        Logger logger = getLogger(caller);
+        if (logger.isWarnEnabled()) {
+            logger.warn(withLocation(format), args);
+        }
     }
 
     /**
@@ -195,7 +319,9 @@ public class AppLogManager {
      */
     public static void warn(String category, String format, Object... args) {
         Logger logger = getLogger(category);
-        logger.warn(format, args);
+        if (logger.isWarnEnabled()) {
+            logger.warn(format, args);
+        }
     }
 
     /**
@@ -207,7 +333,9 @@ public class AppLogManager {
      */
     public static void warn(String category, String message, Throwable ex) {
         Logger logger = getLogger(category);
-        logger.warn(message, ex);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, ex);
+        }
     }
 
     // ==================== ERROR LEVEL ====================
@@ -218,8 +346,11 @@ public class AppLogManager {
      * @param x the message to log
      */
     public static void error(Object x) {
-        String[] parsed = parseCaller(String.valueOf(x));
-        error(parsed[0], parsed[1]);
+        StackWalker.StackFrame frame = getCallerFrame();
+        Logger logger = getLogger(frame);
+        if (logger.isErrorEnabled()) {
+            logger.error(withLocation(frame, x));
+        }
     }
 
     /**
@@ -230,7 +361,9 @@ public class AppLogManager {
      */
     public static void error(String category, Object x) {
         Logger logger = getLogger(category);
-        logger.error(String.valueOf(x));
+        if (logger.isErrorEnabled()) {
+            logger.error(String.valueOf(x));
+        }
     }
 
     /**
@@ -239,8 +372,12 @@ public class AppLogManager {
      * @param ex the exception to log
      */
     public static void error(Throwable ex) {
-        String[] parsed = parseCaller(ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
-        error(parsed[0], parsed[1], ex);
+        StackWalker.StackFrame frame = getCallerFrame();
+        Logger logger = getLogger(frame);
+        if (logger.isErrorEnabled()) {
+            String message = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+            logger.error(withLocation(frame, message), ex);
+        }
     }
 
     /**
@@ -252,6 +389,9 @@ public class AppLogManager {
      */
     public static void error(String category, Object message, Throwable ex) {
         Logger logger = getLogger(category);
+        if (!logger.isErrorEnabled()) {
+            return;
+        }
         if (ex != null) {
             logger.error(String.valueOf(message), ex);
         } else {
@@ -279,7 +419,9 @@ public class AppLogManager {
      */
     public static void error(String category, String format, Object... args) {
         Logger logger = getLogger(category);
-        logger.error(format, args);
+        if (logger.isErrorEnabled()) {
+            logger.error(format, args);
+        }
     }
 
     // ==================== UTILITY METHODS ====================
@@ -315,4 +457,4 @@ public class AppLogManager {
     public static Logger getRootLogger() {
         return LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.dev.monkey_dev.logging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counts the bytes of a request or response body and, if sampling, keeps the
+ * first {@code limit} of them.
+ */
+final class BodyCapture {
+
+    private static final String TRUNCATED = "...(truncated)";
+
+    private final byte[] sample;
+    private int sampled;
+    private long count;
+
+    /**
+     * @param limit Number of bytes to keep, or 0 to only count
+     */
+    BodyCapture(int limit) {
+        this.sample = new byte[Math.max(limit, 0)];
+    }
+
+    void write(int b) {
+        if (sampled < sample.length) {
+            sample[sampled++] = (byte) b;
+        }
+        count++;
+    }
+
+    void write(byte[] b, int off, int len) {
+        int keep = Math.min(len, sample.length - sampled);
+        if (keep > 0) {
+            System.arraycopy(b, off, sample, sampled, keep);
+            sampled += keep;
+        }
+        count += len;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return The kept bytes as UTF-8 text, or null if nothing was sampled
+     */
+    String text() {
+        if (sampled == 0) {
+            return null;
+        }
+        String text = new String(sample, 0, sampled, StandardCharsets.UTF_8);
+        return count > sampled ? text + TRUNCATED : text;
+    }
+}
@@ -18,4 +18,8 @@ public class LoginRequest {
     @JsonProperty("password")
     @Schema(description = "Password for login", example = "securePassword123", required = true)
     private String password;
+
+    @JsonProperty("guest_cart")
+    @Schema(description = "Guest cart token to merge into the user's cart", required = false)
+    private String guestCart;
 }
@@ -0,0 +1,29 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the HTTP access log.
+ *
+ * @param enabled        Whether requests are logged at all
+ * @param pathPrefix     Only requests whose URI starts with this prefix are logged
+ * @param queueCapacity  Number of events waiting to be written before new ones are dropped
+ * @param batchSize      Maximum number of events written per log call
+ * @param flushInterval  Time the writer waits for new events when the queue is empty
+ * @param bodySampleRate Fraction of requests (0.0 - 1.0) whose request and response bodies are captured
+ * @param maxBodyBytes   Number of bytes kept of a captured body; the rest is truncated
+ */
+@ConfigurationProperties(prefix = "app.access-log")
+public record AccessLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/api/") String pathPrefix,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("0.0") double bodySampleRate,
+        @DefaultValue("1024") int maxBodyBytes) {
+
+}
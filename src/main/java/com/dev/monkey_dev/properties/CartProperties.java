@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.dev.monkey_dev.enums.CartDurability;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for shopping carts.
+ *
+ * @param durability    When cart changes are written to the database
+ * @param flushInterval Delay between two writes of the changed carts
+ * @param batchSize     Maximum number of carts written per transaction
+ * @param idleTimeout   Time after which a written cart is dropped from memory
+ * @param maxItems      Maximum number of distinct items in one cart
+ */
+@ConfigurationProperties(prefix = "app.cart")
+public record CartProperties(
+        @DefaultValue("WRITE_BEHIND") CartDurability durability,
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("30m") Duration idleTimeout,
+        @DefaultValue("100") int maxItems) {
+
+}
@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for flash sales.
+ *
+ * @param stripes          Number of counters the stock of a sale is split across
+ * @param flushInterval    Delay between two writes of the granted reservations
+ * @param batchSize        Maximum number of grants written per transaction
+ * @param maxFlushAttempts Flushes in a row a sale's grants may fail before they are dropped
+ * @param ownerHeartbeat   Delay between two renewals of the sales an instance owns
+ * @param ownerLease       Time after the last renewal before another instance may take a sale over
+ */
+@ConfigurationProperties(prefix = "app.inventory.flash-sale")
+public record FlashSaleProperties(
+        @DefaultValue("16") int stripes,
+        @DefaultValue("PT0.2S") Duration flushInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("5") int maxFlushAttempts,
+        @DefaultValue("PT10S") Duration ownerHeartbeat,
+        @DefaultValue("PT30S") Duration ownerLease) {
+
+}
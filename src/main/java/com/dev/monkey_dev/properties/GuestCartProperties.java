@@ -0,0 +1,20 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for guest cart tokens.
+ *
+ * @param ttl       Time a guest cart stays valid after its last change
+ * @param encrypted Whether tokens are encrypted as well as signed, so the
+ *                  client cannot read the cart from its token
+ */
+@ConfigurationProperties(prefix = "app.cart.guest")
+public record GuestCartProperties(
+        @DefaultValue("30d") Duration ttl,
+        @DefaultValue("false") boolean encrypted) {
+
+}
@@ -0,0 +1,25 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for inventory reservations.
+ *
+ * @param ttl               Time a reservation holds stock before it expires
+ * @param sweepInterval     Delay between two runs of the expired reservation sweeper
+ * @param sweepChunkSize    Number of expired reservations read per query
+ * @param maxLineQuantity   Maximum units of one inventory row per reservation or flash-sale grant
+ * @param maxPendingPerUser Maximum units a user may hold in pending reservations at once
+ */
+@ConfigurationProperties(prefix = "app.inventory.reservation")
+public record InventoryReservationProperties(
+        @DefaultValue("15m") Duration ttl,
+        @DefaultValue("1m") Duration sweepInterval,
+        @DefaultValue("200") int sweepChunkSize,
+        @DefaultValue("100") int maxLineQuantity,
+        @DefaultValue("500") int maxPendingPerUser) {
+
+}
@@ -0,0 +1,19 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of already verified JWTs.
+ *
+ * @param maximumSize Maximum number of verified tokens kept
+ * @param maxTtl      Longest time a token is kept; tokens are always dropped at their {@code exp}
+ */
+@ConfigurationProperties(prefix = "app.security.jwt-cache")
+public record JwtCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration maxTtl) {
+
+}
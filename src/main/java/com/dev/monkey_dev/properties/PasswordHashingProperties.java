@@ -0,0 +1,21 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the BCrypt executor.
+ *
+ * @param threads       Number of password hashes computed at the same time
+ * @param queueCapacity Number of hashes waiting for a free thread before new ones are rejected
+ * @param waitTimeout   Maximum time a request waits for its hash before it is rejected
+ */
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("4") int threads,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("5s") Duration waitTimeout) {
+
+}
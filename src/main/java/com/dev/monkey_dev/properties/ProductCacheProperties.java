@@ -0,0 +1,19 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process product detail cache.
+ *
+ * @param maximumSize Maximum number of products kept per key type (id, slug)
+ * @param ttl         Time after which a cached product is reloaded from the database
+ */
+@ConfigurationProperties(prefix = "app.cache.product")
+public record ProductCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl) {
+
+}
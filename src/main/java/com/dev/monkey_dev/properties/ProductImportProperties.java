@@ -0,0 +1,31 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the bulk product import.
+ *
+ * @param chunkSize         Number of rows written per transaction
+ * @param concurrentJobs    Number of imports running at the same time
+ * @param queueCapacity     Number of imports waiting for a free worker before new ones are rejected
+ * @param maxReportedErrors Maximum number of row errors kept per job; further failures are only counted
+ * @param jobRetention      Time a job status stays available after it was last updated
+ * @param maxFileSize       Largest accepted upload; the upload is rejected as soon as it grows past it
+ * @param maxFieldLength    Longest CSV field or NDJSON line, in characters; longer ones fail their row
+ */
+@ConfigurationProperties(prefix = "app.import.product")
+public record ProductImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("2") int concurrentJobs,
+        @DefaultValue("20") int queueCapacity,
+        @DefaultValue("1000") int maxReportedErrors,
+        @DefaultValue("24h") Duration jobRetention,
+        @DefaultValue("50MB") DataSize maxFileSize,
+        @DefaultValue("65536") int maxFieldLength) {
+
+}
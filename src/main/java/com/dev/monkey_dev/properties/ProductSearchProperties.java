@@ -0,0 +1,37 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.dev.monkey_dev.common.PriceBuckets;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for product search: the in-memory search index and
+ * the facets of the product listing.
+ *
+ * @param enabled              Build the index at startup and keep it updated
+ * @param priceBuckets         Upper bounds of the price facet buckets;
+ *                             prices above the last bound fall into an open-ended bucket
+ * @param maxPrefixExpansions  Maximum number of indexed terms a partially typed
+ *                             (last) query word may expand to; the terms found
+ *                             in the most products are kept
+ * @param rebuildRetryDelay    Delay before retrying a failed index build,
+ *                             doubled after each further failure
+ * @param rebuildRetryMaxDelay Upper bound of the retry delay
+ */
+@ConfigurationProperties(prefix = "app.search.product")
+public record ProductSearchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({ "25", "50", "100", "250", "500" }) List<BigDecimal> priceBuckets,
+        @DefaultValue("50") int maxPrefixExpansions,
+        @DefaultValue("PT5S") Duration rebuildRetryDelay,
+        @DefaultValue("PT5M") Duration rebuildRetryMaxDelay) {
+
+    public PriceBuckets priceRanges() {
+        return new PriceBuckets(priceBuckets);
+    }
+}
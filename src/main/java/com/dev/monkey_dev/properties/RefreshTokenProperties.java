@@ -0,0 +1,21 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for refresh token storage.
+ *
+ * @param purgeInterval       Time between runs of the purge of unusable tokens
+ * @param purgeChunkSize      Number of rows deleted per purge transaction
+ * @param revocationCacheSize Maximum number of recently rotated tokens remembered locally
+ */
+@ConfigurationProperties(prefix = "app.security.refresh-token")
+public record RefreshTokenProperties(
+        @DefaultValue("PT1H") Duration purgeInterval,
+        @DefaultValue("1000") int purgeChunkSize,
+        @DefaultValue("100000") long revocationCacheSize) {
+
+}
@@ -0,0 +1,22 @@
+package com.dev.monkey_dev.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the stock ledger.
+ *
+ * @param snapshotInterval  Delay between two snapshot runs
+ * @param snapshotLag       Age a movement must reach before a snapshot includes it, so that
+ *                          movements of transactions still open at snapshot time are not skipped
+ * @param snapshotChunkSize Number of inventory rows read or updated per query during a snapshot run
+ */
+@ConfigurationProperties(prefix = "app.inventory.ledger")
+public record StockLedgerProperties(
+        @DefaultValue("PT1H") Duration snapshotInterval,
+        @DefaultValue("PT5M") Duration snapshotLag,
+        @DefaultValue("500") int snapshotChunkSize) {
+
+}
@@ -6,7 +6,6 @@ import com.dev.monkey_dev.config.JwtUtil;
 import com.dev.monkey_dev.domain.entity.RefreshToken;
 import com.dev.monkey_dev.domain.entity.SecurityUser;
 import com.dev.monkey_dev.domain.entity.Users;
-import com.dev.monkey_dev.domain.respository.RefreshTokenRepository;
 import com.dev.monkey_dev.domain.respository.UserRepository;
 import com.dev.monkey_dev.exception.BusinessException;
 import com.dev.monkey_dev.common.api.StatusCode;
@@ -20,17 +19,19 @@ import com.dev.monkey_dev.dto.mapper.UserMapper;
 import com.dev.monkey_dev.dto.request.UserAdminRequestDto;
 import com.dev.monkey_dev.enums.AuthProvider;
 import com.dev.monkey_dev.enums.Roles;
+import com.dev.monkey_dev.service.cart.IGuestCartService;
 
 import com.dev.monkey_dev.util.PasswordUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.core.Authentication;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.Instant;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -40,57 +41,61 @@ public class AuthServiceImpl implements AuthService {
     private final UserAuthenticationProvider userAuthenticationProvider;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncryption passwordEncryption;
-
+    private final IGuestCartService guestCartService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Not transactional on purpose: the user is read in its own read-only
+     * transaction and BCrypt then runs without holding a database connection.
+     * Only issuing the refresh token writes.
+     */
     @Override
-    @Transactional
     public Object login(LoginRequest request) throws Throwable {
 
         if (request.getUsername() == null || request.getPassword() == null) {
             throw new BusinessException(StatusCode.BAD_REQUEST, "Username and password are required");
         }
 
-        Authentication authentication = userAuthenticationProvider.authenticate(
-                request.getUsername(),
-                request.getPassword());
-
-        SecurityUser securityUser = (SecurityUser) authentication.getPrincipal();
-        if (securityUser == null) {
-            throw new BusinessException(StatusCode.AUTHENTICATION_FAILED, "Authentication failed");
-        }
-
-        if (!securityUser.isEnabled()) {
-            throw new BusinessException(StatusCode.INACTIVE_USER, "User account is disabled");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            Authentication authentication = userAuthenticationProvider.authenticate(
+                    request.getUsername(),
+                    request.getPassword());
+
+            SecurityUser securityUser = (SecurityUser) authentication.getPrincipal();
+            if (securityUser == null) {
+                throw new BusinessException(StatusCode.AUTHENTICATION_FAILED, "Authentication failed");
+            }
+
+            if (!securityUser.isEnabled()) {
+                throw new BusinessException(StatusCode.INACTIVE_USER, "User account is disabled");
+            }
+
+            // Not undone if issuing the tokens fails; a retried login merging the same cart is a no-op
+            guestCartService.mergeInto(securityUser.getUserId(), request.getGuestCart());
+
+            // Generate access token
+            String accessToken = jwtUtil.doGenerateToken(securityUser);
+
+            // Save a new refresh token; it supersedes all of the user's existing ones
+            String refreshTokenString = refreshTokenStore.issue(securityUser.users());
+
+            outcome = "success";
+            return new AuthResponse(
+                    accessToken,
+                    "Bearer",
+                    jwtUtil.getExpireIn(),
+                    refreshTokenString);
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .description("Time taken to log in with username and password")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
         }
-
-        Users user = userRepository.findById(securityUser.getUserId())
-                .orElseThrow(() -> new BusinessException(StatusCode.USER_NOT_FOUND, "User not found"));
-
-        // Revoke all existing refresh tokens for this user (optional: for security)
-        refreshTokenRepository.revokeAllUserTokens(user);
-
-        // Generate access token
-        String accessToken = jwtUtil.doGenerateToken(securityUser);
-
-        // Generate and save refresh token
-        String refreshTokenString = jwtUtil.generateRefreshToken();
-        Instant expiresAt = jwtUtil.getRefreshTokenExpiration();
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(refreshTokenString)
-                .expiresAt(expiresAt)
-                .isRevoked(false)
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
-
-        return new AuthResponse(
-                accessToken,
-                "Bearer",
-                jwtUtil.getExpireIn(),
-                refreshTokenString);
     }
 
     @Override
@@ -100,12 +105,7 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(StatusCode.BAD_REQUEST, "Refresh token is required");
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.getRefreshToken())
-                .orElseThrow(() -> new BusinessException(StatusCode.INVALID_REFRESH_TOKEN, "Invalid refresh token"));
-
-        if (!refreshToken.isValid()) {
-            throw new BusinessException(StatusCode.INVALID_REFRESH_TOKEN, "Refresh token is expired or revoked");
-        }
+        RefreshToken refreshToken = refreshTokenStore.redeem(request.getRefreshToken());
 
         Users user = refreshToken.getUser();
         if (!user.isActive()) {
@@ -118,23 +118,8 @@ public class AuthServiceImpl implements AuthService {
         // Generate new access token
         String newAccessToken = jwtUtil.doGenerateToken(securityUser);
 
-        // Optionally rotate refresh token (for better security)
-        // Revoke old refresh token
-        refreshToken.setIsRevoked(true);
-        refreshTokenRepository.save(refreshToken);
-
-        // Generate new refresh token
-        String newRefreshTokenString = jwtUtil.generateRefreshToken();
-        Instant expiresAt = jwtUtil.getRefreshTokenExpiration();
-
-        RefreshToken newRefreshToken = RefreshToken.builder()
-                .user(user)
-                .token(newRefreshTokenString)
-                .expiresAt(expiresAt)
-                .isRevoked(false)
-                .build();
-
-        refreshTokenRepository.save(newRefreshToken);
+        // Rotate the refresh token; the new one supersedes the redeemed one
+        String newRefreshTokenString = refreshTokenStore.issue(user);
 
         return new AuthResponse(
                 newAccessToken,
@@ -10,6 +10,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Map;
 
 @Service
@@ -20,9 +24,21 @@ public class OAuth2AuthService {
     private final OAuth2Properties props;
     private final GoogleOAuth2Client googleClient;
     private final CustomOAuth2UserService customOAuth2UserService;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final JwtUtil jwtUtil;
 
-    public String buildGoogleAuthorizationUrl() {
+    /**
+     * @return Random value for the {@code state} parameter. The caller binds it
+     *         to the browser, and the callback only proceeds if Google returns it.
+     */
+    public String newState() {
+        byte[] state = new byte[32];
+        RANDOM.nextBytes(state);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(state);
+    }
+
+    public String buildGoogleAuthorizationUrl(String state) {
         return UriComponentsBuilder
                 .fromUriString(props.getGoogle().getAuthUrl())
                 .queryParam("client_id", props.getGoogle().getClientId())
@@ -31,11 +47,16 @@ public class OAuth2AuthService {
                 .queryParam("scope", "email profile")
                 .queryParam("access_type", "offline")
                 .queryParam("prompt", "consent")
+                .queryParam("state", state)
                 .build()
                 .toUriString();
     }
 
-    public String handleGoogleCallback(String code, String error) {
+    /**
+     * @param state         {@code state} returned by Google
+     * @param expectedState {@code state} bound to the browser when the login started
+     */
+    public String handleGoogleCallback(String code, String error, String state, String expectedState) {
         if (error != null && !error.isBlank()) {
             log.warn("OAuth2 Google error: {}", error);
             return buildErrorRedirect(error);
@@ -43,6 +64,12 @@ public class OAuth2AuthService {
         if (code == null || code.isBlank()) {
             return buildErrorRedirect("missing_code");
         }
+        // The callback was not started by this browser; refuse the login (CSRF)
+        if (state == null || expectedState == null || !MessageDigest.isEqual(
+                state.getBytes(StandardCharsets.UTF_8), expectedState.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("OAuth2 Google callback with an unexpected state");
+            return buildErrorRedirect("invalid_state");
+        }
 
         try {
             String accessToken = googleClient.exchangeCodeForAccessToken(code);
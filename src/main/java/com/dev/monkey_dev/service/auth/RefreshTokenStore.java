@@ -0,0 +1,149 @@
+package com.dev.monkey_dev.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.config.JwtUtil;
+import com.dev.monkey_dev.domain.entity.RefreshToken;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.domain.respository.RefreshTokenRepository;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.RefreshTokenProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Issues, redeems and purges refresh tokens.
+ *
+ * Only a SHA-256 hash of each token is stored. A user's newest token supersedes
+ * all older ones, so login and rotation are a single INSERT instead of an UPDATE
+ * of the old rows plus an INSERT. Tokens redeemed on this instance are remembered
+ * in a local revocation index, so replaying one is rejected without a query and
+ * two concurrent redemptions of the same token cannot both succeed here. A token
+ * stays in the index only once the transaction issuing its replacement commits,
+ * so a failed refresh can be retried with the same token. Rows that can no
+ * longer be used are deleted in chunks every
+ * {@code app.security.refresh-token.purge-interval}.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenProperties properties;
+    private final Cache<String, Boolean> revoked;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, JwtUtil jwtUtil,
+            RefreshTokenProperties properties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.properties = properties;
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(properties.revocationCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtUtil.getRefreshExpireIn()))
+                .build();
+    }
+
+    /**
+     * Issues a new refresh token for the user, superseding all of the user's
+     * older tokens. Joins the caller's transaction when there is one.
+     *
+     * @return The raw token to hand to the client
+     */
+    @Transactional
+    public String issue(Users user) {
+        String token = jwtUtil.generateRefreshToken();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(token))
+                .expiresAt(jwtUtil.getRefreshTokenExpiration())
+                .isRevoked(false)
+                .build());
+        return token;
+    }
+
+    /**
+     * Redeems a refresh token. The token cannot be redeemed again: the caller is
+     * expected to {@link #issue} a replacement, which supersedes it, in the same
+     * transaction. Should that transaction roll back, the token stays usable.
+     *
+     * @return The redeemed token, with its user loaded
+     * @throws BusinessException if the token is unknown, superseded, revoked or expired
+     */
+    public RefreshToken redeem(String token) {
+        String tokenHash = hash(token);
+        // Claimed up front so a concurrent redemption of the same token is rejected
+        if (revoked.asMap().putIfAbsent(tokenHash, Boolean.TRUE) != null) {
+            throw new BusinessException(StatusCode.INVALID_REFRESH_TOKEN, "Refresh token is expired or revoked");
+        }
+        boolean redeemed = false;
+        try {
+            RefreshToken refreshToken = refreshTokenRepository.findCurrentByTokenHash(tokenHash)
+                    .orElseThrow(() -> new BusinessException(StatusCode.INVALID_REFRESH_TOKEN,
+                            "Invalid refresh token"));
+            if (!refreshToken.isValid()) {
+                throw new BusinessException(StatusCode.INVALID_REFRESH_TOKEN, "Refresh token is expired or revoked");
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            revoked.invalidate(tokenHash);
+                        }
+                    }
+                });
+            }
+            redeemed = true;
+            return refreshToken;
+        } finally {
+            // The database decides about tokens this instance did not redeem
+            if (!redeemed) {
+                revoked.invalidate(tokenHash);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.refresh-token.purge-interval:PT1H}",
+            initialDelayString = "${app.security.refresh-token.purge-interval:PT1H}")
+    public void purgeUnusableTokens() {
+        try {
+            Instant now = Instant.now();
+            int total = 0;
+            int deleted;
+            do {
+                // Each chunk commits on its own, so the purge never holds locks on many rows
+                deleted = refreshTokenRepository.deleteUnusableTokens(now, properties.purgeChunkSize());
+                total += deleted;
+            } while (deleted == properties.purgeChunkSize());
+            if (total > 0) {
+                AppLogManager.info(RefreshTokenStore.class, "Purged {} unusable refresh tokens", total);
+            }
+        } catch (Exception e) {
+            AppLogManager.error(RefreshTokenStore.class, "Error purging refresh tokens", e);
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
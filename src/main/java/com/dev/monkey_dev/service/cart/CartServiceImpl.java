@@ -0,0 +1,328 @@
+package com.dev.monkey_dev.service.cart;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemResponseDto;
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+import com.dev.monkey_dev.enums.CartDurability;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.CartProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Shopping carts kept in memory and written to the database in batches.
+ *
+ * A cart is loaded once per user and every change is applied to it in memory;
+ * reads never go to the database. With {@code app.cart.durability=WRITE_BEHIND}
+ * the changed carts are written every {@code app.cart.flush-interval}, up to
+ * {@code app.cart.batch-size} carts per transaction. A user clicking the
+ * quantity up ten times within one interval costs one UPDATE instead of ten.
+ * {@code WRITE_THROUGH} writes each change before returning. Checkout calls
+ * {@link #flushCart(Long)} either way.
+ *
+ * Carts that have been written and not used for {@code app.cart.idle-timeout}
+ * are dropped from memory and loaded again on the next request. A user's cart
+ * must be served by a single instance.
+ */
+@Service
+@RequiredArgsConstructor
+public class CartServiceImpl implements ICartService {
+
+    private final CartStore store;
+    private final CartProperties properties;
+    private final Map<Long, CartState> carts = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    @Override
+    public CartResponseDto getCart(Long userId) {
+        CartState cart = cart(userId);
+        synchronized (cart) {
+            cart.touch();
+            return toDto(cart);
+        }
+    }
+
+    @Override
+    public CartResponseDto addItem(Long userId, CartItemAddRequestDto request) {
+        return putLine(userId, new CartState.Key(request.productId(), request.productVariationId()),
+                quantity -> addQuantity(quantity, request.quantity()));
+    }
+
+    @Override
+    public CartResponseDto setQuantity(Long userId, CartItemQuantityRequestDto request) {
+        CartState.Key key = new CartState.Key(request.productId(), request.productVariationId());
+        if (request.quantity() == 0) {
+            return update(userId, cart -> cart.remove(key));
+        }
+        return putLine(userId, key, quantity -> request.quantity());
+    }
+
+    @Override
+    public CartResponseDto removeItem(Long userId, Long productId, Long productVariationId) {
+        return update(userId, cart -> cart.remove(new CartState.Key(productId, productVariationId)));
+    }
+
+    @Override
+    public CartResponseDto clear(Long userId) {
+        return update(userId, CartState::clear);
+    }
+
+    @Override
+    public CartResponseDto flushCart(Long userId) {
+        write(cart(userId));
+        return getCart(userId);
+    }
+
+    @Override
+    public CartResponseDto mergeItems(Long userId, List<CartItemAddRequestDto> items) {
+        if (items.isEmpty()) {
+            return getCart(userId);
+        }
+        Map<CartState.Key, CartState.Line> resolved = store.resolveAll(items.stream()
+                .map(item -> new CartState.Key(item.productId(), item.productVariationId()))
+                .toList());
+        CartState cart = change(userId, state -> {
+            for (CartItemAddRequestDto item : items) {
+                CartState.Key key = new CartState.Key(item.productId(), item.productVariationId());
+                CartState.Line line = state.line(key);
+                if (line == null) {
+                    line = resolved.get(key);
+                    // No longer sold, or no room left in the cart
+                    if (line == null || state.size() >= properties.maxItems()) {
+                        continue;
+                    }
+                }
+                // The larger quantity wins, so merging the same guest cart again changes nothing
+                state.put(line.withQuantity(Math.min(Math.max(line.quantity(), item.quantity()),
+                        CartItemAddRequestDto.MAX_QUANTITY)));
+            }
+        });
+        write(cart);
+        return getCart(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.flush-interval:PT1S}")
+    public void flush() {
+        synchronized (flushLock) {
+            try {
+                flushAll();
+            } catch (Exception e) {
+                AppLogManager.error(CartServiceImpl.class, "Error writing carts", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Changes the quantity of a line. Only a product that is not in the cart
+     * yet is looked up, and that lookup runs before the cart is locked.
+     */
+    /**
+     * @throws BusinessException if the line would hold more than
+     *                           {@link CartItemAddRequestDto#MAX_QUANTITY}
+     */
+    static int addQuantity(int quantity, int added) {
+        if (added < 1 || quantity > CartItemAddRequestDto.MAX_QUANTITY - added) {
+            throw new BusinessException(StatusCode.BAD_REQUEST,
+                    "A cart line cannot hold more than " + CartItemAddRequestDto.MAX_QUANTITY + " units");
+        }
+        return quantity + added;
+    }
+
+    private CartResponseDto putLine(Long userId, CartState.Key key, IntUnaryOperator quantity) {
+        CartState.Line resolved = contains(cart(userId), key) ? null : store.resolve(key);
+        return update(userId, cart -> {
+            CartState.Line line = cart.line(key);
+            if (line == null) {
+                if (cart.size() >= properties.maxItems()) {
+                    throw new BusinessException(StatusCode.BAD_REQUEST,
+                            "A cart cannot hold more than " + properties.maxItems() + " items");
+                }
+                // Removed by a concurrent request after the check above
+                line = resolved != null ? resolved : store.resolve(key);
+            }
+            cart.put(line.withQuantity(quantity.applyAsInt(line.quantity())));
+        });
+    }
+
+    private CartResponseDto update(Long userId, Consumer<CartState> change) {
+        CartState cart = change(userId, change);
+        if (properties.durability() == CartDurability.WRITE_THROUGH) {
+            write(cart);
+        }
+        synchronized (cart) {
+            return toDto(cart);
+        }
+    }
+
+    private CartState change(Long userId, Consumer<CartState> change) {
+        while (true) {
+            CartState cart = cart(userId);
+            synchronized (cart) {
+                // Dropped from memory after it was read; load it again
+                if (!cart.isEvicted()) {
+                    change.accept(cart);
+                    return cart;
+                }
+            }
+        }
+    }
+
+    private CartState cart(Long userId) {
+        CartState cart = carts.get(userId);
+        if (cart == null) {
+            CartState loaded = store.load(userId);
+            cart = carts.putIfAbsent(userId, loaded);
+            if (cart == null) {
+                cart = loaded;
+            }
+        }
+        return cart;
+    }
+
+    private static boolean contains(CartState cart, CartState.Key key) {
+        synchronized (cart) {
+            return cart.line(key) != null;
+        }
+    }
+
+    private void write(CartState cart) {
+        cart.writeLock().lock();
+        try {
+            writeLocked(List.of(cart));
+        } finally {
+            cart.writeLock().unlock();
+        }
+    }
+
+    private void flushAll() {
+        long now = System.nanoTime();
+        long idleNanos = properties.idleTimeout().toNanos();
+        List<CartState> batch = new ArrayList<>(properties.batchSize());
+        for (CartState cart : carts.values()) {
+            if (evictIfIdle(cart, now, idleNanos) || !isDirty(cart)) {
+                continue;
+            }
+            // Skip a cart that is being written by a checkout; the next flush takes it
+            if (!cart.writeLock().tryLock()) {
+                continue;
+            }
+            batch.add(cart);
+            if (batch.size() == properties.batchSize()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * Writes a batch of carts whose write locks are held, and releases them. If
+     * the batch fails, each cart is written on its own so one bad cart does not
+     * hold back the others; carts that still fail stay dirty for the next flush.
+     */
+    private void writeBatch(List<CartState> batch) {
+        try {
+            writeLocked(batch);
+        } catch (Exception batchFailure) {
+            for (CartState cart : batch) {
+                try {
+                    writeLocked(List.of(cart));
+                } catch (Exception e) {
+                    AppLogManager.error(CartServiceImpl.class, "Error writing cart of user " + cart.userId(), e);
+                }
+            }
+        } finally {
+            batch.forEach(cart -> cart.writeLock().unlock());
+        }
+    }
+
+    private void writeLocked(List<CartState> batch) {
+        List<CartState> dirty = new ArrayList<>(batch.size());
+        List<CartStore.Snapshot> snapshots = new ArrayList<>(batch.size());
+        for (CartState cart : batch) {
+            synchronized (cart) {
+                if (cart.isDirty()) {
+                    dirty.add(cart);
+                    snapshots.add(cart.snapshot());
+                }
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        List<CartStore.Written> written = store.write(snapshots);
+        for (int i = 0; i < dirty.size(); i++) {
+            CartState cart = dirty.get(i);
+            synchronized (cart) {
+                cart.written(snapshots.get(i).version(), written.get(i));
+            }
+        }
+    }
+
+    private boolean evictIfIdle(CartState cart, long now, long idleNanos) {
+        synchronized (cart) {
+            if (cart.isDirty() || !cart.isIdle(now, idleNanos)) {
+                return false;
+            }
+            cart.evict();
+        }
+        carts.remove(cart.userId(), cart);
+        return true;
+    }
+
+    private static boolean isDirty(CartState cart) {
+        synchronized (cart) {
+            return cart.isDirty();
+        }
+    }
+
+    private static CartResponseDto toDto(CartState cart) {
+        return toDto(cart.cartId(), cart.userId(), cart.lines(), cart.createdAt(), cart.updatedAt());
+    }
+
+    static CartResponseDto toDto(Long cartId, Long userId, Collection<CartState.Line> lines,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        List<CartItemResponseDto> items = new ArrayList<>(lines.size());
+        BigDecimal subtotal = BigDecimal.ZERO;
+        String currency = null;
+        for (CartState.Line line : lines) {
+            BigDecimal lineTotal = line.price().multiply(BigDecimal.valueOf(line.quantity()));
+            subtotal = subtotal.add(lineTotal);
+            currency = currency != null ? currency : line.currency();
+            items.add(new CartItemResponseDto(line.itemId(), line.productId(), line.productVariationId(),
+                    line.productTitle(), line.variationLabel(), line.quantity(), line.price(), lineTotal));
+        }
+        return new CartResponseDto(cartId, userId, items, subtotal, currency, toOffset(createdAt),
+                toOffset(updatedAt));
+    }
+
+    private static OffsetDateTime toOffset(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,162 @@
+package com.dev.monkey_dev.service.cart;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A user's cart as held in memory by CartServiceImpl.
+ *
+ * Callers hold the monitor of the cart for every method except
+ * {@link #userId()} and {@link #writeLock()}. The write lock is held while the
+ * cart is written to the database, so two writes of the same cart never run
+ * at the same time; it is always taken before the monitor.
+ */
+final class CartState {
+
+    /**
+     * A cart holds one line per product and variation.
+     */
+    record Key(Long productId, Long productVariationId) {
+    }
+
+    /**
+     * @param itemId Id of the cart_items row, null until the line is written
+     * @param price  Unit price when the line was added
+     */
+    record Line(Long itemId, Long productId, Long productVariationId, String productTitle,
+            String variationLabel, String currency, BigDecimal price, int quantity) {
+
+        Key key() {
+            return new Key(productId, productVariationId);
+        }
+
+        Line withQuantity(int quantity) {
+            return new Line(itemId, productId, productVariationId, productTitle, variationLabel, currency, price,
+                    quantity);
+        }
+
+        Line withItemId(Long itemId) {
+            return new Line(itemId, productId, productVariationId, productTitle, variationLabel, currency, price,
+                    quantity);
+        }
+    }
+
+    private final Long userId;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Key, Line> lines = new LinkedHashMap<>();
+    private Long cartId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long version;
+    private long writtenVersion;
+    private long lastAccess = System.nanoTime();
+    private boolean evicted;
+
+    CartState(Long userId, Long cartId, LocalDateTime createdAt, LocalDateTime updatedAt, List<Line> lines) {
+        this.userId = userId;
+        this.cartId = cartId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        lines.forEach(line -> this.lines.put(line.key(), line));
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    ReentrantLock writeLock() {
+        return writeLock;
+    }
+
+    Long cartId() {
+        return cartId;
+    }
+
+    LocalDateTime createdAt() {
+        return createdAt;
+    }
+
+    LocalDateTime updatedAt() {
+        return updatedAt;
+    }
+
+    Line line(Key key) {
+        return lines.get(key);
+    }
+
+    Collection<Line> lines() {
+        return lines.values();
+    }
+
+    int size() {
+        return lines.size();
+    }
+
+    void put(Line line) {
+        lines.put(line.key(), line);
+        changed();
+    }
+
+    void remove(Key key) {
+        if (lines.remove(key) != null) {
+            changed();
+        }
+    }
+
+    void clear() {
+        if (!lines.isEmpty()) {
+            lines.clear();
+            changed();
+        }
+    }
+
+    boolean isDirty() {
+        return version != writtenVersion;
+    }
+
+    void touch() {
+        lastAccess = System.nanoTime();
+    }
+
+    boolean isIdle(long now, long idleNanos) {
+        return now - lastAccess >= idleNanos;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    CartStore.Snapshot snapshot() {
+        return new CartStore.Snapshot(userId, cartId, version, List.copyOf(lines.values()));
+    }
+
+    /**
+     * Records a write of the given snapshot. Changes made while it was written
+     * keep the cart dirty.
+     */
+    void written(long snapshotVersion, CartStore.Written written) {
+        if (cartId == null && written.cartId() != null) {
+            cartId = written.cartId();
+            createdAt = LocalDateTime.now();
+        }
+        lines.replaceAll((key, line) -> written.itemIds().containsKey(key)
+                ? line.withItemId(written.itemIds().get(key))
+                : line);
+        writtenVersion = Math.max(writtenVersion, snapshotVersion);
+    }
+
+    private void changed() {
+        version++;
+        updatedAt = LocalDateTime.now();
+        touch();
+    }
+}
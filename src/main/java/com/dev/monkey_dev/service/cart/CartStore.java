@@ -0,0 +1,240 @@
+package com.dev.monkey_dev.service.cart;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.CartItem;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.ShoppingCart;
+import com.dev.monkey_dev.domain.respository.CartItemRepository;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.domain.respository.ProductVariationRepository;
+import com.dev.monkey_dev.domain.respository.ShoppingCartRepository;
+import com.dev.monkey_dev.domain.respository.UserRepository;
+import com.dev.monkey_dev.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Database side of shopping carts. Each method is one transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartStore {
+
+    private final ShoppingCartRepository cartRepository;
+    private final CartItemRepository itemRepository;
+    private final ProductRepository productRepository;
+    private final ProductVariationRepository variationRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * The lines of a cart at one version, to be written.
+     */
+    record Snapshot(Long userId, Long cartId, long version, List<CartState.Line> lines) {
+    }
+
+    /**
+     * Result of writing a snapshot.
+     *
+     * @param cartId  Id of the shopping_carts row, null if the cart was never
+     *                written because it has always been empty
+     * @param itemIds Id of the cart_items row of every written line
+     */
+    record Written(Long cartId, Map<CartState.Key, Long> itemIds) {
+    }
+
+    @Transactional(readOnly = true)
+    public CartState load(Long userId) {
+        return cartRepository.findFirstByUserIdOrderByIdAsc(userId)
+                .map(cart -> new CartState(userId, cart.getId(), cart.getCreatedAt(), cart.getUpdatedAt(),
+                        itemRepository.findByCartIdWithProduct(cart.getId()).stream()
+                                .map(CartStore::toLine)
+                                .toList()))
+                .orElseGet(() -> new CartState(userId, null, null, null, List.of()));
+    }
+
+    /**
+     * Looks up what a new line of the given product and variation shows and
+     * costs. The returned line has no quantity yet.
+     */
+    @Transactional(readOnly = true)
+    public CartState.Line resolve(CartState.Key key) {
+        Products product = productRepository.findById(key.productId())
+                .orElseThrow(() -> new BusinessException(StatusCode.PRODUCT_NOT_FOUND));
+        if (!Boolean.TRUE.equals(product.getIsActive())) {
+            throw new BusinessException(StatusCode.PRODUCT_NOT_ACTIVE);
+        }
+        ProductVariation variation = null;
+        if (key.productVariationId() != null) {
+            variation = variationRepository.findById(key.productVariationId())
+                    .filter(found -> found.getProduct().getId().equals(product.getId()))
+                    .orElseThrow(() -> new BusinessException(StatusCode.PRODUCT_VARIATION_NOT_FOUND));
+        }
+        return newLine(product, variation);
+    }
+
+    /**
+     * Looks up many keys at once, in one query for the products and one for the
+     * variations. Keys whose product is missing or inactive, or whose variation
+     * does not belong to the product, are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<CartState.Key, CartState.Line> resolveAll(Collection<CartState.Key> keys) {
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> variationIds = new HashSet<>();
+        for (CartState.Key key : keys) {
+            productIds.add(key.productId());
+            if (key.productVariationId() != null) {
+                variationIds.add(key.productVariationId());
+            }
+        }
+        Map<Long, Products> products = new HashMap<>();
+        for (Products product : productRepository.findAllById(productIds)) {
+            if (Boolean.TRUE.equals(product.getIsActive())) {
+                products.put(product.getId(), product);
+            }
+        }
+        Map<Long, ProductVariation> variations = new HashMap<>();
+        if (!variationIds.isEmpty()) {
+            variationRepository.findAllById(variationIds)
+                    .forEach(variation -> variations.put(variation.getId(), variation));
+        }
+
+        Map<CartState.Key, CartState.Line> lines = new HashMap<>();
+        for (CartState.Key key : keys) {
+            Products product = products.get(key.productId());
+            ProductVariation variation = key.productVariationId() == null ? null
+                    : variations.get(key.productVariationId());
+            if (product == null || (key.productVariationId() != null
+                    && (variation == null || !variation.getProduct().getId().equals(product.getId())))) {
+                continue;
+            }
+            lines.put(key, newLine(product, variation));
+        }
+        return lines;
+    }
+
+    /**
+     * Makes the cart_items of every snapshot match its lines: changed lines are
+     * updated, new ones inserted and missing ones deleted. The existing items of
+     * all carts are read in one query and the inserts and updates are batched,
+     * so the statement count does not grow with the number of carts.
+     *
+     * @return One result per snapshot, in the same order
+     */
+    @Transactional
+    public List<Written> write(List<Snapshot> snapshots) {
+        List<Long> cartIds = new ArrayList<>(snapshots.size());
+        List<Long> existingCartIds = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            Long cartId = snapshot.cartId();
+            if (cartId != null) {
+                existingCartIds.add(cartId);
+            } else if (!snapshot.lines().isEmpty()) {
+                cartId = cartRepository.save(ShoppingCart.builder()
+                        .user(userRepository.getReferenceById(snapshot.userId()))
+                        .build()).getId();
+            }
+            cartIds.add(cartId);
+        }
+
+        Map<Long, Map<CartState.Key, CartItem>> itemsByCart = new HashMap<>();
+        List<CartItem> removed = new ArrayList<>();
+        if (!existingCartIds.isEmpty()) {
+            for (CartItem item : itemRepository.findByCartIdIn(existingCartIds)) {
+                CartItem duplicate = itemsByCart.computeIfAbsent(item.getCart().getId(), id -> new HashMap<>())
+                        .putIfAbsent(key(item), item);
+                if (duplicate != null) {
+                    removed.add(item);
+                }
+            }
+        }
+
+        List<CartItem> added = new ArrayList<>();
+        List<Map<CartState.Key, CartItem>> writtenItems = new ArrayList<>(snapshots.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            Long cartId = cartIds.get(i);
+            Map<CartState.Key, CartItem> existing = itemsByCart.getOrDefault(cartId, new HashMap<>());
+            Map<CartState.Key, CartItem> items = new HashMap<>();
+            for (CartState.Line line : snapshots.get(i).lines()) {
+                CartItem item = existing.remove(line.key());
+                if (item == null) {
+                    item = CartItem.builder()
+                            .cart(cartRepository.getReferenceById(cartId))
+                            .product(productRepository.getReferenceById(line.productId()))
+                            .productVariation(line.productVariationId() == null ? null
+                                    : variationRepository.getReferenceById(line.productVariationId()))
+                            .quantity(line.quantity())
+                            .priceAtAdd(line.price().doubleValue())
+                            .build();
+                    added.add(item);
+                } else if (item.getQuantity() != line.quantity()
+                        || !Objects.equals(item.getPriceAtAdd(), line.price().doubleValue())) {
+                    // Written by dirty checking in one batched UPDATE at commit
+                    item.setQuantity(line.quantity());
+                    item.setPriceAtAdd(line.price().doubleValue());
+                }
+                items.put(line.key(), item);
+            }
+            removed.addAll(existing.values());
+            writtenItems.add(items);
+        }
+
+        if (!removed.isEmpty()) {
+            itemRepository.deleteAllInBatch(removed);
+        }
+        itemRepository.saveAll(added);
+
+        List<Written> written = new ArrayList<>(snapshots.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            Map<CartState.Key, Long> itemIds = new HashMap<>();
+            writtenItems.get(i).forEach((key, item) -> itemIds.put(key, item.getId()));
+            written.add(new Written(cartIds.get(i), itemIds));
+        }
+        return written;
+    }
+
+    private static CartState.Key key(CartItem item) {
+        return new CartState.Key(item.getProduct().getId(),
+                item.getProductVariation() == null ? null : item.getProductVariation().getId());
+    }
+
+    private static CartState.Line toLine(CartItem item) {
+        Products product = item.getProduct();
+        ProductVariation variation = item.getProductVariation();
+        return new CartState.Line(item.getId(), product.getId(), variation == null ? null : variation.getId(),
+                product.getTitle(), label(variation), product.getCurrency(),
+                BigDecimal.valueOf(item.getPriceAtAdd()).setScale(2, RoundingMode.HALF_UP), item.getQuantity());
+    }
+
+    private static CartState.Line newLine(Products product, ProductVariation variation) {
+        return new CartState.Line(null, product.getId(), variation == null ? null : variation.getId(),
+                product.getTitle(), label(variation), product.getCurrency(), price(product, variation), 0);
+    }
+
+    private static String label(ProductVariation variation) {
+        return variation == null ? null : variation.getName() + ": " + variation.getValue();
+    }
+
+    private static BigDecimal price(Products product, ProductVariation variation) {
+        BigDecimal price = product.getPrice();
+        if (variation != null && variation.getPriceAdjustment() != null) {
+            price = price.add(BigDecimal.valueOf(variation.getPriceAdjustment()));
+        }
+        return price.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,145 @@
+package com.dev.monkey_dev.service.cart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.config.GuestCartTokenCodec;
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+import com.dev.monkey_dev.dto.response.GuestCartDto;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.CartProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Guest carts kept entirely in the client's token, see
+ * {@link GuestCartTokenCodec}. Nothing is written for a guest; showing the cart
+ * reads its products in two queries so titles and prices are current, and
+ * lines whose product is no longer sold are not shown.
+ *
+ * After login the guest cart is merged into the user's cart with
+ * {@link ICartService#mergeItems}, which writes it in one transaction and
+ * can safely be repeated with the same token.
+ */
+@Service
+@RequiredArgsConstructor
+public class GuestCartServiceImpl implements IGuestCartService {
+
+    private final GuestCartTokenCodec codec;
+    private final CartStore store;
+    private final ICartService cartService;
+    private final CartProperties properties;
+
+    @Override
+    public GuestCartDto getCart(String token) {
+        return new GuestCartDto(token, toDto(lines(items(token))));
+    }
+
+    @Override
+    public GuestCartDto addItem(String token, CartItemAddRequestDto request) {
+        Map<CartState.Key, Integer> items = items(token);
+        CartState.Key key = new CartState.Key(request.productId(), request.productVariationId());
+        return put(items, key, CartServiceImpl.addQuantity(items.getOrDefault(key, 0), request.quantity()));
+    }
+
+    @Override
+    public GuestCartDto setQuantity(String token, CartItemQuantityRequestDto request) {
+        Map<CartState.Key, Integer> items = items(token);
+        CartState.Key key = new CartState.Key(request.productId(), request.productVariationId());
+        if (request.quantity() == 0) {
+            items.remove(key);
+            return issue(items);
+        }
+        return put(items, key, request.quantity());
+    }
+
+    @Override
+    public GuestCartDto removeItem(String token, Long productId, Long productVariationId) {
+        Map<CartState.Key, Integer> items = items(token);
+        items.remove(new CartState.Key(productId, productVariationId));
+        return issue(items);
+    }
+
+    @Override
+    public CartResponseDto merge(Long userId, String token) {
+        List<CartItemAddRequestDto> items = codec.decode(token).stream()
+                .map(item -> new CartItemAddRequestDto(item.productId(), item.productVariationId(),
+                        item.quantity()))
+                .toList();
+        return cartService.mergeItems(userId, items);
+    }
+
+    @Override
+    public void mergeInto(Long userId, String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        try {
+            merge(userId, token);
+        } catch (Exception e) {
+            AppLogManager.warn(GuestCartServiceImpl.class, "Guest cart not merged for user {}: {}", userId,
+                    e.getMessage());
+        }
+    }
+
+    private GuestCartDto put(Map<CartState.Key, Integer> items, CartState.Key key, int quantity) {
+        if (!items.containsKey(key)) {
+            if (items.size() >= properties.maxItems()) {
+                throw new BusinessException(StatusCode.BAD_REQUEST,
+                        "A cart cannot hold more than " + properties.maxItems() + " items");
+            }
+            // Throws if the product cannot be sold
+            store.resolve(key);
+        }
+        items.put(key, quantity);
+        return issue(items);
+    }
+
+    /**
+     * Issues the token of the changed cart. Lines whose product is no longer
+     * sold are dropped from it.
+     */
+    private GuestCartDto issue(Map<CartState.Key, Integer> items) {
+        List<CartState.Line> lines = lines(items);
+        List<GuestCartTokenCodec.Item> tokenItems = lines.stream()
+                .map(line -> new GuestCartTokenCodec.Item(line.productId(), line.productVariationId(),
+                        line.quantity()))
+                .toList();
+        return new GuestCartDto(tokenItems.isEmpty() ? null : codec.encode(tokenItems), toDto(lines));
+    }
+
+    private List<CartState.Line> lines(Map<CartState.Key, Integer> items) {
+        Map<CartState.Key, CartState.Line> resolved = items.isEmpty() ? Map.of() : store.resolveAll(items.keySet());
+        List<CartState.Line> lines = new ArrayList<>(items.size());
+        items.forEach((key, quantity) -> {
+            CartState.Line line = resolved.get(key);
+            if (line != null) {
+                lines.add(line.withQuantity(quantity));
+            }
+        });
+        return lines;
+    }
+
+    private static CartResponseDto toDto(List<CartState.Line> lines) {
+        return CartServiceImpl.toDto(null, null, lines, null, null);
+    }
+
+    private Map<CartState.Key, Integer> items(String token) {
+        Map<CartState.Key, Integer> items = new LinkedHashMap<>();
+        if (token != null && !token.isBlank()) {
+            for (GuestCartTokenCodec.Item item : codec.decode(token)) {
+                items.merge(new CartState.Key(item.productId(), item.productVariationId()), item.quantity(),
+                        Integer::sum);
+            }
+        }
+        return items;
+    }
+}
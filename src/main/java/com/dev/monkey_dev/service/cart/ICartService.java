@@ -0,0 +1,41 @@
+package com.dev.monkey_dev.service.cart;
+
+import java.util.List;
+
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+
+public interface ICartService {
+
+    CartResponseDto getCart(Long userId);
+
+    /**
+     * Adds the quantity to the line of the product and variation, creating the
+     * line at the current price if the cart does not hold it yet.
+     */
+    CartResponseDto addItem(Long userId, CartItemAddRequestDto request);
+
+    /**
+     * Sets the quantity of a line. A quantity of 0 removes the line.
+     */
+    CartResponseDto setQuantity(Long userId, CartItemQuantityRequestDto request);
+
+    CartResponseDto removeItem(Long userId, Long productId, Long productVariationId);
+
+    CartResponseDto clear(Long userId);
+
+    /**
+     * Merges many items at once and writes the cart in one transaction. A line
+     * already in the cart keeps the larger of the two quantities, so merging
+     * the same items twice, e.g. on a retried request, has no further effect.
+     * Items that are no longer sold or do not fit in the cart are skipped.
+     */
+    CartResponseDto mergeItems(Long userId, List<CartItemAddRequestDto> items);
+
+    /**
+     * Writes the cart to cart_items before returning it. Checkout calls this
+     * so it reads the cart from the database as the user last saw it.
+     */
+    CartResponseDto flushCart(Long userId);
+}
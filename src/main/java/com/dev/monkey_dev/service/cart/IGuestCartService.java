@@ -0,0 +1,42 @@
+package com.dev.monkey_dev.service.cart;
+
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+import com.dev.monkey_dev.dto.response.GuestCartDto;
+
+/**
+ * Carts of anonymous shoppers. The cart is the token: every method takes the
+ * token of the current cart, null for an empty one, and changes return a new
+ * token.
+ */
+public interface IGuestCartService {
+
+    GuestCartDto getCart(String token);
+
+    GuestCartDto addItem(String token, CartItemAddRequestDto request);
+
+    /**
+     * Sets the quantity of a line. A quantity of 0 removes the line.
+     */
+    GuestCartDto setQuantity(String token, CartItemQuantityRequestDto request);
+
+    GuestCartDto removeItem(String token, Long productId, Long productVariationId);
+
+    /**
+     * Merges the guest cart into the cart of a logged-in user, see
+     * {@link ICartService#mergeItems}. Merging the same token again changes
+     * nothing.
+     *
+     * @throws com.dev.monkey_dev.exception.BusinessException INVALID_TOKEN if the
+     *                                                        token is invalid or expired
+     */
+    CartResponseDto merge(Long userId, String token);
+
+    /**
+     * Same as {@link #merge(Long, String)}, for use during a login. Does nothing
+     * without a token, and never throws: an invalid or expired token is logged
+     * and dropped so that it cannot fail the login.
+     */
+    void mergeInto(Long userId, String token);
+}
@@ -1,7 +1,11 @@
 package com.dev.monkey_dev.service.category;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -9,12 +13,15 @@ import lombok.RequiredArgsConstructor;
 
 import com.dev.monkey_dev.common.api.StatusCode;
 import com.dev.monkey_dev.domain.entity.Category;
-import com.dev.monkey_dev.domain.entity.Products;
 import com.dev.monkey_dev.domain.respository.CategoryRepository;
 import com.dev.monkey_dev.domain.respository.ProductRepository;
 import com.dev.monkey_dev.dto.request.CategoryRequestDto;
 import com.dev.monkey_dev.dto.request.CategorySummaryDto;
+import com.dev.monkey_dev.dto.response.BulkCategoryMembershipResponseDto;
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
+import com.dev.monkey_dev.enums.CategoryMembershipStatus;
 import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.service.product.ProductChangedEvent;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +29,8 @@ public class CateServiceImpl implements ICategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryTreeService categoryTreeService;
 
     @Override
     @Transactional
@@ -36,6 +45,7 @@ public class CateServiceImpl implements ICategoryService {
             category.setParent(categoryRepository.getReferenceById(categoryDto.parentId()));
         }
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
         return toSummary(saved);
     }
 
@@ -47,6 +57,11 @@ public class CateServiceImpl implements ICategoryService {
                 .toList();
     }
 
+    @Override
+    public List<CategoryTreeDto> getCategoryTree() {
+        return categoryTreeService.getTree();
+    }
+
     private CategorySummaryDto toSummary(Category category) {
         return new CategorySummaryDto(category.getId(), category.getName(), category.getSlug());
     }
@@ -66,6 +81,8 @@ public class CateServiceImpl implements ICategoryService {
             }
             category.setIsActive(false);
             categoryRepository.save(category);
+            eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+            eventPublisher.publishEvent(ProductChangedEvent.ofAllProducts());
 
         } catch (Exception e) {
             throw new BusinessException(StatusCode.INTERNAL_SERVER_ERROR,
@@ -115,6 +132,9 @@ public class CateServiceImpl implements ICategoryService {
                 category.setParent(categoryRepository.getReferenceById(categoryDto.parentId()));
             }
             categoryRepository.save(category);
+            eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+            // Category name/slug is embedded in every cached product of this category
+            eventPublisher.publishEvent(ProductChangedEvent.ofAllProducts());
         } catch (Exception e) {
             throw new BusinessException(StatusCode.BAD_REQUEST,
                     "Failed to update category: " + e.getMessage());
@@ -136,6 +156,7 @@ public class CateServiceImpl implements ICategoryService {
                 throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category is not active");
             }
             productRepository.removeProductFromCategory(categoryId, productId);
+            eventPublisher.publishEvent(ProductChangedEvent.of(productId));
         } catch (Exception e) {
             throw new BusinessException(StatusCode.BAD_REQUEST,
                     "Failed to remove product from category: " + e.getMessage());
@@ -156,6 +177,7 @@ public class CateServiceImpl implements ICategoryService {
                 throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category is not active");
             }
             productRepository.addProductToCategory(categoryId, productId);
+            eventPublisher.publishEvent(ProductChangedEvent.of(productId));
         } catch (Exception e) {
             throw new BusinessException(StatusCode.BAD_REQUEST,
                     "Failed to add product to category: " + e.getMessage());
@@ -164,20 +186,14 @@ public class CateServiceImpl implements ICategoryService {
 
     @Override
     @Transactional
-    public void bulkDeleteProductsFromCategory(Long categoryId, List<Long> productIds) {
+    public BulkCategoryMembershipResponseDto bulkDeleteProductsFromCategory(Long categoryId, List<Long> productIds) {
         try {
-            // Validate category ID
-            if (categoryId == null || categoryId <= 0) {
-                throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found");
-            }
-            var category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found"));
-            if (!category.getIsActive()) {
-                throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category is not active");
-            }
-            for (Long productId : productIds) {
-                productRepository.removeProductFromCategory(categoryId, productId);
-            }
+            validateActiveCategory(categoryId);
+            validateProductIds(productIds);
+            // One DELETE ... WHERE product_id = ANY(...) for the whole list
+            List<Object[]> rows = productRepository.removeProductsFromCategory(categoryId,
+                    productIds.toArray(Long[]::new));
+            return toBulkResult(categoryId, rows, CategoryMembershipStatus.REMOVED);
         } catch (Exception e) {
             throw new BusinessException(StatusCode.BAD_REQUEST,
                     "Failed to bulk delete products from category: " + e.getMessage());
@@ -186,32 +202,53 @@ public class CateServiceImpl implements ICategoryService {
 
     @Override
     @Transactional
-    public void bulkAddProductsToCategory(Long categoryId, List<Long> productIds) {
+    public BulkCategoryMembershipResponseDto bulkAddProductsToCategory(Long categoryId, List<Long> productIds) {
         try {
-            // Validate category ID
-            if (categoryId == null || categoryId <= 0) {
-                throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found");
-            }
-            var category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found"));
-            if (!category.getIsActive()) {
-                throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category is not active");
-            }
-            var products = productRepository.findAllById(productIds);
-            if (products.isEmpty()) {
-                throw new BusinessException(StatusCode.PRODUCT_NOT_FOUND, "No products found");
-            }
-            for (Products product : products) {
-                if (product.getCategories().contains(category)) {
-                    throw new BusinessException(StatusCode.PRODUCT_ALREADY_IN_CATEGORY, "Product already in category");
-                }
-                product.getCategories().add(category);
-            }
-            productRepository.saveAll(products);
-
+            validateActiveCategory(categoryId);
+            validateProductIds(productIds);
+            // One INSERT ... SELECT unnest(...) ON CONFLICT DO NOTHING for the whole list
+            List<Object[]> rows = productRepository.addProductsToCategory(categoryId,
+                    productIds.toArray(Long[]::new));
+            return toBulkResult(categoryId, rows, CategoryMembershipStatus.ADDED);
         } catch (Exception e) {
             throw new BusinessException(StatusCode.BAD_REQUEST,
                     "Failed to bulk add products to category: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private void validateActiveCategory(Long categoryId) {
+        // Validate category ID
+        if (categoryId == null || categoryId <= 0) {
+            throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found");
+        }
+        var category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category not found"));
+        if (!category.getIsActive()) {
+            throw new BusinessException(StatusCode.CATEGORY_NOT_FOUND, "Category is not active");
+        }
+    }
+
+    private void validateProductIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty() || productIds.contains(null)) {
+            throw new BusinessException(StatusCode.BAD_REQUEST, "Product ids are required");
+        }
+    }
+
+    private BulkCategoryMembershipResponseDto toBulkResult(Long categoryId, List<Object[]> rows,
+            CategoryMembershipStatus changedStatus) {
+        Map<Long, CategoryMembershipStatus> results = new LinkedHashMap<>();
+        List<Long> changedIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long productId = ((Number) row[0]).longValue();
+            CategoryMembershipStatus status = CategoryMembershipStatus.valueOf((String) row[1]);
+            results.put(productId, status);
+            if (status == changedStatus) {
+                changedIds.add(productId);
+            }
+        }
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(ProductChangedEvent.of(changedIds));
+        }
+        return new BulkCategoryMembershipResponseDto(categoryId, changedIds.size(), results);
+    }
+}
@@ -0,0 +1,11 @@
+package com.dev.monkey_dev.service.category;
+
+/**
+ * Published when a category is created, updated or deleted. {@link CategoryTreeService}
+ * rebuilds its snapshot after the publishing transaction commits.
+ *
+ * @param categoryId Id of the changed category
+ */
+public record CategoryChangedEvent(Long categoryId) {
+
+}
@@ -0,0 +1,131 @@
+package com.dev.monkey_dev.service.category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
+
+/**
+ * Immutable snapshot of the category hierarchy.
+ *
+ * Subtree and ancestor sets are computed once when the snapshot is built, so
+ * every lookup is a single map access. Inactive categories are kept for
+ * lookups but left out of {@link #getRoots()}, together with their descendants.
+ */
+public final class CategoryTree {
+
+    /**
+     * One category as loaded from the database.
+     */
+    public record Node(Long id, Long parentId, String name, String slug, boolean active) {
+    }
+
+    private final Map<String, Long> idsBySlug;
+    private final Map<Long, Set<Long>> subtreeIds;
+    private final Map<Long, List<Long>> ancestorIds;
+    private final List<CategoryTreeDto> roots;
+
+    private CategoryTree(Map<String, Long> idsBySlug, Map<Long, Set<Long>> subtreeIds,
+            Map<Long, List<Long>> ancestorIds, List<CategoryTreeDto> roots) {
+        this.idsBySlug = idsBySlug;
+        this.subtreeIds = subtreeIds;
+        this.ancestorIds = ancestorIds;
+        this.roots = roots;
+    }
+
+    /**
+     * Builds a snapshot from all categories. A category whose parent does not exist
+     * becomes a root; categories on a parent cycle are never reached from a root.
+     *
+     * @param nodes All categories
+     * @return Snapshot
+     */
+    public static CategoryTree build(List<Node> nodes) {
+        Map<Long, Node> nodesById = new HashMap<>();
+        nodes.forEach(node -> nodesById.put(node.id(), node));
+
+        Map<String, Long> idsBySlug = new HashMap<>();
+        Map<Long, List<Long>> ancestorIds = new HashMap<>();
+        Map<Long, Set<Long>> subtreeIds = new HashMap<>();
+        for (Node node : nodes) {
+            idsBySlug.put(node.slug(), node.id());
+            subtreeIds.computeIfAbsent(node.id(), id -> new HashSet<>()).add(node.id());
+
+            // Walk up to the root; every ancestor's subtree contains this node
+            LinkedHashSet<Long> path = new LinkedHashSet<>();
+            Node parent = nodesById.get(node.parentId());
+            while (parent != null && !parent.id().equals(node.id()) && path.add(parent.id())) {
+                subtreeIds.computeIfAbsent(parent.id(), id -> new HashSet<>()).add(node.id());
+                parent = nodesById.get(parent.parentId());
+            }
+            List<Long> rootFirst = new ArrayList<>(path);
+            Collections.reverse(rootFirst);
+            ancestorIds.put(node.id(), List.copyOf(rootFirst));
+        }
+
+        Map<Long, List<Node>> children = new HashMap<>();
+        List<Node> rootNodes = new ArrayList<>();
+        for (Node node : nodes) {
+            List<Long> ancestors = ancestorIds.get(node.id());
+            boolean root = ancestors.isEmpty() || !ancestors.get(ancestors.size() - 1).equals(node.parentId());
+            if (root) {
+                rootNodes.add(node);
+            } else {
+                children.computeIfAbsent(node.parentId(), id -> new ArrayList<>()).add(node);
+            }
+        }
+
+        Map<Long, Set<Long>> frozenSubtrees = new HashMap<>();
+        subtreeIds.forEach((id, ids) -> frozenSubtrees.put(id, Set.copyOf(ids)));
+        return new CategoryTree(Map.copyOf(idsBySlug), Map.copyOf(frozenSubtrees), Map.copyOf(ancestorIds),
+                toDtos(rootNodes, children));
+    }
+
+    /**
+     * @param slug Category slug
+     * @return Ids of the category and all of its descendants, empty if the slug is unknown
+     */
+    public Set<Long> getSubtreeIdsBySlug(String slug) {
+        Long id = slug != null ? idsBySlug.get(slug) : null;
+        return id != null ? getSubtreeIds(id) : Set.of();
+    }
+
+    /**
+     * @param categoryId Category id
+     * @return Ids of the category and all of its descendants, empty if the id is unknown
+     */
+    public Set<Long> getSubtreeIds(Long categoryId) {
+        return categoryId != null ? subtreeIds.getOrDefault(categoryId, Set.of()) : Set.of();
+    }
+
+    /**
+     * @param categoryId Category id
+     * @return Ids of the category's ancestors, root first, empty for roots and unknown ids
+     */
+    public List<Long> getAncestorIds(Long categoryId) {
+        return categoryId != null ? ancestorIds.getOrDefault(categoryId, List.of()) : List.of();
+    }
+
+    /**
+     * @return Active root categories with their active descendants, ordered by name
+     */
+    public List<CategoryTreeDto> getRoots() {
+        return roots;
+    }
+
+    private static List<CategoryTreeDto> toDtos(List<Node> nodes, Map<Long, List<Node>> children) {
+        return nodes.stream()
+                .filter(Node::active)
+                .sorted(Comparator.comparing(Node::name, String.CASE_INSENSITIVE_ORDER))
+                .map(node -> new CategoryTreeDto(node.id(), node.name(), node.slug(),
+                        toDtos(children.getOrDefault(node.id(), List.of()), children)))
+                .toList();
+    }
+}
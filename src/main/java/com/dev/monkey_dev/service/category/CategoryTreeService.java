@@ -0,0 +1,97 @@
+package com.dev.monkey_dev.service.category;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.monkey_dev.domain.respository.CategoryRepository;
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
+import com.dev.monkey_dev.logging.AppLogManager;
+
+/**
+ * Serves category hierarchy lookups from an in-memory {@link CategoryTree}.
+ *
+ * The snapshot is loaded on first use and rebuilt after every committed category
+ * write. A rebuild creates a new snapshot and swaps the reference, so readers
+ * always see either the old or the new tree, never a partially built one.
+ */
+@Component
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile CategoryTree tree;
+
+    public CategoryTreeService(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // AFTER_COMMIT listeners must not join the transaction that just completed
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return Active root categories with their active descendants
+     */
+    public List<CategoryTreeDto> getTree() {
+        return getSnapshot().getRoots();
+    }
+
+    /**
+     * @param slug Category slug
+     * @return Ids of the category and all of its descendants, empty if the slug is unknown
+     */
+    public Set<Long> getSubtreeIdsBySlug(String slug) {
+        return getSnapshot().getSubtreeIdsBySlug(slug);
+    }
+
+    /**
+     * @param categoryId Category id
+     * @return Ids of the category's ancestors, root first
+     */
+    public List<Long> getAncestorIds(Long categoryId) {
+        return getSnapshot().getAncestorIds(categoryId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // Drop the stale snapshot so the next lookup retries the load
+            tree = null;
+            AppLogManager.error(CategoryTreeService.class, "Error rebuilding category tree", e);
+        }
+    }
+
+    private CategoryTree getSnapshot() {
+        CategoryTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return tree != null ? tree : rebuild();
+        }
+    }
+
+    // Serialized so a rebuild that read older data can never replace a newer snapshot
+    private synchronized CategoryTree rebuild() {
+        List<CategoryTree.Node> nodes = readOnlyTransaction.execute(status -> categoryRepository.findAllTreeRows()
+                .stream()
+                .map(row -> new CategoryTree.Node((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                        Boolean.TRUE.equals(row[4])))
+                .toList());
+        CategoryTree rebuilt = CategoryTree.build(nodes);
+        tree = rebuilt;
+        AppLogManager.debug(CategoryTreeService.class,
+                "Category tree rebuilt with {} categories", nodes.size());
+        return rebuilt;
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 
 import com.dev.monkey_dev.dto.request.CategoryRequestDto;
 import com.dev.monkey_dev.dto.request.CategorySummaryDto;
+import com.dev.monkey_dev.dto.response.BulkCategoryMembershipResponseDto;
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
 
 public interface ICategoryService {
     // Define service methods
@@ -11,6 +13,8 @@ public interface ICategoryService {
 
     List<CategorySummaryDto> getAllCategories();
 
+    List<CategoryTreeDto> getCategoryTree();
+
     void deleteCategory(Long categoryId);
 
     CategorySummaryDto getCategoryById(Long categoryId);
@@ -21,8 +25,8 @@ public interface ICategoryService {
 
     void addProductToCategory(Long categoryId, Long productId);
 
-    void bulkDeleteProductsFromCategory(Long categoryId, List<Long> productIds);
+    BulkCategoryMembershipResponseDto bulkDeleteProductsFromCategory(Long categoryId, List<Long> productIds);
 
-    void bulkAddProductsToCategory(Long categoryId, List<Long> productIds);
+    BulkCategoryMembershipResponseDto bulkAddProductsToCategory(Long categoryId, List<Long> productIds);
 
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.FlashSale;
+import com.dev.monkey_dev.dto.response.FlashSaleDto;
+import com.dev.monkey_dev.dto.response.InventoryReservationDto;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.FlashSaleProperties;
+import com.dev.monkey_dev.properties.InventoryReservationProperties;
+import com.dev.monkey_dev.service.inventory.FlashSaleStore.GrantsRejectedException;
+import com.dev.monkey_dev.service.inventory.FlashSaleStore.PendingGrant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Flash-sale mode for inventory rows that would otherwise have every buyer
+ * queue on a single row lock.
+ *
+ * Starting a sale reserves its units on the inventory row in one UPDATE. From
+ * then on grants are decided by a {@link StripedStockCounter} in memory, without
+ * touching the database, and queued. The queue is written every
+ * {@code app.inventory.flash-sale.flush-interval} as ordinary pending
+ * reservations, together with the sale's granted count, in one transaction per
+ * batch.
+ *
+ * A sale is served by the single instance that owns its flash_sales row; the
+ * others answer that no sale is running. The owner renews its lease every
+ * {@code app.inventory.flash-sale.owner-heartbeat}, and once a lease is older
+ * than {@code app.inventory.flash-sale.owner-lease} the next instance to look
+ * takes the sale over. The row is the recovery log: a sale resumes with
+ * {@code allocated - granted} units. Grants still queued by the previous owner
+ * were never written, so their units are offered again; grants are only
+ * written by the current owner and never beyond the allocation, so nothing is
+ * oversold.
+ *
+ * Each sale's grants are written in their own transaction, so a sale whose
+ * writes keep failing does not hold back the others. After
+ * {@code app.inventory.flash-sale.max-flush-attempts} failed flushes in a row
+ * its queued grants are dropped: they are logged with their reservation ids and
+ * their units go back to the inventory. Grants the database refuses outright,
+ * because the sale was taken over or they exceed its allocation, are dropped
+ * at once and their units stay where they are.
+ */
+@Service
+public class FlashSaleServiceImpl implements IFlashSaleService {
+
+    private final FlashSaleStore store;
+    private final FlashSaleProperties properties;
+    private final InventoryReservationProperties reservationProperties;
+    private final Map<Long, ActiveSale> sales = new ConcurrentHashMap<>();
+    private final Queue<PendingGrant> pending = new ConcurrentLinkedQueue<>();
+    // Reservation ids of the grants in pending, and of the grants dropped while still valid
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> dropped;
+    // Guards flushes and every change of which sales this instance serves
+    private final Object flushLock = new Object();
+    private final String instanceId = UUID.randomUUID().toString();
+    // Failed flushes in a row per sale id, guarded by flushLock
+    private final Map<Long, Integer> flushFailures = new HashMap<>();
+    private final Counter granted;
+    private final Counter rejected;
+
+    private record ActiveSale(Long saleId, int allocated, StripedStockCounter stock) {
+    }
+
+    public FlashSaleServiceImpl(FlashSaleStore store, FlashSaleProperties properties,
+            InventoryReservationProperties reservationProperties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.reservationProperties = reservationProperties;
+        this.dropped = Caffeine.newBuilder()
+                .expireAfterWrite(reservationProperties.ttl())
+                .build();
+        this.granted = Counter.builder("inventory.flash_sale.grants")
+                .description("Units granted by flash sales")
+                .tag("outcome", "granted")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("inventory.flash_sale.grants")
+                .description("Units refused by sold-out flash sales")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Renews the lease of the sales this instance serves, stops serving those
+     * another instance has taken over, and resumes the active sales whose
+     * owner has gone away.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.flash-sale.owner-heartbeat:PT10S}")
+    public void heartbeat() {
+        synchronized (flushLock) {
+            try {
+                Map<Long, Long> served = new HashMap<>();
+                sales.forEach((inventoryId, sale) -> served.put(sale.saleId(), inventoryId));
+                for (Long saleId : store.findActiveIds()) {
+                    FlashSale sale = store.claim(saleId, instanceId, properties.ownerLease());
+                    Long inventoryId = served.get(saleId);
+                    if (sale == null) {
+                        if (inventoryId != null) {
+                            sales.remove(inventoryId);
+                            AppLogManager.warn(FlashSaleServiceImpl.class,
+                                    "Flash sale {} was taken over by another instance", saleId);
+                        }
+                    } else if (inventoryId == null) {
+                        int remaining = sale.getAllocated() - sale.getGranted();
+                        sales.put(sale.getInventory().getId(), new ActiveSale(sale.getId(), sale.getAllocated(),
+                                new StripedStockCounter(remaining, properties.stripes())));
+                        AppLogManager.info(FlashSaleServiceImpl.class, "Resumed flash sale {} with {} units",
+                                sale.getId(), remaining);
+                    }
+                }
+            } catch (Exception e) {
+                AppLogManager.error(FlashSaleServiceImpl.class, "Error renewing flash sales", e);
+            }
+        }
+    }
+
+    @Override
+    public FlashSaleDto start(Long inventoryId, int quantity) {
+        if (quantity < 1) {
+            throw new BusinessException(StatusCode.BAD_REQUEST, "Quantity must be positive");
+        }
+        synchronized (flushLock) {
+            if (sales.containsKey(inventoryId)) {
+                throw new BusinessException(StatusCode.FLASH_SALE_ALREADY_ACTIVE);
+            }
+            // Only counted in memory once the units are reserved in the database
+            FlashSale sale = store.open(inventoryId, quantity, instanceId);
+            sales.put(inventoryId, new ActiveSale(sale.getId(), quantity,
+                    new StripedStockCounter(quantity, properties.stripes())));
+        }
+        return new FlashSaleDto(inventoryId, quantity, quantity);
+    }
+
+    @Override
+    public FlashSaleDto get(Long inventoryId) {
+        ActiveSale sale = sales.get(inventoryId);
+        if (sale == null) {
+            throw new BusinessException(StatusCode.FLASH_SALE_NOT_ACTIVE);
+        }
+        return new FlashSaleDto(inventoryId, sale.allocated(), sale.stock().remaining());
+    }
+
+    @Override
+    public InventoryReservationDto grant(Long userId, Long inventoryId, int quantity) {
+        ActiveSale sale = sales.get(inventoryId);
+        if (sale == null) {
+            throw new BusinessException(StatusCode.FLASH_SALE_NOT_ACTIVE);
+        }
+        if (quantity < 1 || quantity > reservationProperties.maxLineQuantity()) {
+            throw new BusinessException(StatusCode.BAD_REQUEST,
+                    "Quantity must be between 1 and " + reservationProperties.maxLineQuantity());
+        }
+        if (!sale.stock().tryAcquire(quantity)) {
+            rejected.increment(quantity);
+            throw new BusinessException(StatusCode.INSUFFICIENT_STOCK, "Flash sale is sold out");
+        }
+        String reservationId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plus(reservationProperties.ttl());
+        queued.add(reservationId);
+        pending.add(new PendingGrant(sale.saleId(), userId, inventoryId, reservationId, quantity, expiresAt));
+        granted.increment(quantity);
+        return new InventoryReservationDto(reservationId, expiresAt);
+    }
+
+    @Override
+    public void awaitRecorded(String reservationId) {
+        if (queued.contains(reservationId)) {
+            flush();
+            if (queued.contains(reservationId)) {
+                throw new BusinessException(StatusCode.FLASH_SALE_GRANT_PENDING);
+            }
+        }
+        if (dropped.getIfPresent(reservationId) != null) {
+            throw new BusinessException(StatusCode.FLASH_SALE_GRANT_DROPPED);
+        }
+    }
+
+    @Override
+    public void end(Long inventoryId) {
+        ActiveSale sale;
+        int unused;
+        synchronized (flushLock) {
+            sale = sales.remove(inventoryId);
+            if (sale == null) {
+                throw new BusinessException(StatusCode.FLASH_SALE_NOT_ACTIVE);
+            }
+            unused = sale.stock().drain();
+            flushPending();
+            store.close(sale.saleId(), unused);
+        }
+        AppLogManager.info(FlashSaleServiceImpl.class, "Ended flash sale {}: {} of {} units granted",
+                sale.saleId(), sale.allocated() - unused, sale.allocated());
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.flash-sale.flush-interval:PT0.2S}")
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void flushPending() {
+        List<PendingGrant> retry = new ArrayList<>();
+        Set<Long> failed = new HashSet<>();
+        Set<Long> rejectedSales = new HashSet<>();
+        while (!pending.isEmpty()) {
+            Map<Long, List<PendingGrant>> batch = new LinkedHashMap<>();
+            PendingGrant grant;
+            for (int i = 0; i < properties.batchSize() && (grant = pending.poll()) != null; i++) {
+                batch.computeIfAbsent(grant.saleId(), id -> new ArrayList<>()).add(grant);
+            }
+            batch.forEach((saleId, grants) -> {
+                // Failed earlier in this flush; left for the next one
+                if (failed.contains(saleId)) {
+                    retry.addAll(grants);
+                    return;
+                }
+                try {
+                    store.recordGrants(saleId, instanceId, grants);
+                    flushFailures.remove(saleId);
+                    grants.forEach(written -> queued.remove(written.reservationId()));
+                } catch (GrantsRejectedException e) {
+                    // Retrying cannot help, and the units were never set aside for these grants
+                    failed.add(saleId);
+                    rejectedSales.add(saleId);
+                    flushFailures.remove(saleId);
+                    sales.values().removeIf(sale -> sale.saleId().equals(saleId));
+                    drop(saleId, grants, e, false);
+                } catch (Exception e) {
+                    failed.add(saleId);
+                    int failures = flushFailures.merge(saleId, 1, Integer::sum);
+                    if (failures < properties.maxFlushAttempts()) {
+                        retry.addAll(grants);
+                        AppLogManager.warn(FlashSaleServiceImpl.class,
+                                "Error writing grants of flash sale {} ({} of {} attempts): {}", saleId, failures,
+                                properties.maxFlushAttempts(), e.getMessage());
+                    } else {
+                        flushFailures.remove(saleId);
+                        drop(saleId, grants, e, true);
+                    }
+                }
+            });
+        }
+        // Queued again only now, so the loop above ends
+        pending.addAll(retry);
+        // A sale given up on in this flush may have more grants in later batches
+        for (Long saleId : failed) {
+            if (!flushFailures.containsKey(saleId)) {
+                List<PendingGrant> rest = new ArrayList<>();
+                pending.removeIf(queued -> queued.saleId().equals(saleId) && rest.add(queued));
+                if (!rest.isEmpty()) {
+                    drop(saleId, rest, null, !rejectedSales.contains(saleId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives up on grants that could not be written. The buyers holding them
+     * cannot commit their reservations: they are told so by
+     * {@link #awaitRecorded} and logged for follow-up.
+     *
+     * @param release Whether the units of the grants are still reserved for the
+     *                sale and go back to the inventory
+     */
+    private void drop(Long saleId, List<PendingGrant> grants, Exception cause, boolean release) {
+        int quantity = grants.stream().mapToInt(PendingGrant::quantity).sum();
+        for (PendingGrant grant : grants) {
+            dropped.put(grant.reservationId(), Boolean.TRUE);
+            queued.remove(grant.reservationId());
+        }
+        AppLogManager.error(FlashSaleServiceImpl.class.getName(), "Dropped {} grants ({} units) of flash sale {}: {}",
+                grants.size(), quantity, saleId, grants.stream().map(PendingGrant::reservationId).toList());
+        if (cause != null) {
+            AppLogManager.error(FlashSaleServiceImpl.class, "Last error writing flash sale " + saleId, cause);
+        }
+        if (!release) {
+            return;
+        }
+        try {
+            store.dropGrants(saleId, quantity);
+        } catch (Exception e) {
+            AppLogManager.error(FlashSaleServiceImpl.class,
+                    "Could not return " + quantity + " units of flash sale " + saleId + " to the inventory", e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.FlashSale;
+import com.dev.monkey_dev.domain.entity.Inventory;
+import com.dev.monkey_dev.domain.entity.InventoryReservation;
+import com.dev.monkey_dev.domain.entity.StockMovement;
+import com.dev.monkey_dev.domain.respository.FlashSaleRepository;
+import com.dev.monkey_dev.domain.respository.InventoryRepository;
+import com.dev.monkey_dev.domain.respository.InventoryReservationRepository;
+import com.dev.monkey_dev.domain.respository.StockMovementRepository;
+import com.dev.monkey_dev.enums.InventoryReservationStatus;
+import com.dev.monkey_dev.enums.StockMovementType;
+import com.dev.monkey_dev.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Database side of flash sales. Each method is one transaction, so the
+ * in-memory state in FlashSaleServiceImpl only changes after a commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlashSaleStore {
+
+    private final FlashSaleRepository flashSaleRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final StockMovementRepository movementRepository;
+
+    /**
+     * A granted unit waiting to be written as a pending reservation.
+     */
+    record PendingGrant(Long saleId, Long userId, Long inventoryId, String reservationId, int quantity,
+            Instant expiresAt) {
+    }
+
+    /**
+     * Grants the database refused because they exceed the sale's allocation or
+     * the sale has been taken over by another instance. Their units were never
+     * set aside for them, so they must not be given back to the inventory.
+     */
+    static class GrantsRejectedException extends IllegalStateException {
+
+        GrantsRejectedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Sets the units aside by reserving them on the inventory row. The sale is
+     * owned by the instance that opens it.
+     */
+    @Transactional
+    public FlashSale open(Long inventoryId, int quantity, String owner) {
+        if (flashSaleRepository.existsByInventoryIdAndActiveTrue(inventoryId)) {
+            throw new BusinessException(StatusCode.FLASH_SALE_ALREADY_ACTIVE);
+        }
+        if (inventoryRepository.reserve(inventoryId, quantity) == 0) {
+            if (!inventoryRepository.existsById(inventoryId)) {
+                throw new BusinessException(StatusCode.INVENTORY_NOT_FOUND);
+            }
+            throw new BusinessException(StatusCode.INSUFFICIENT_STOCK,
+                    "Not enough stock for inventory " + inventoryId);
+        }
+        FlashSale sale = flashSaleRepository.save(FlashSale.builder()
+                .inventory(inventoryRepository.getReferenceById(inventoryId))
+                .allocated(quantity)
+                .owner(owner)
+                .ownerSeenAt(Instant.now())
+                .build());
+        movementRepository.save(StockMovement.of(sale.getInventory(), StockMovementType.RESERVATION, 0, quantity,
+                reference(sale.getId())));
+        return sale;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findActiveIds() {
+        return flashSaleRepository.findActiveIds();
+    }
+
+    /**
+     * Claims or renews ownership of an active sale.
+     *
+     * @return The sale if the instance owns it, null if it has ended or another
+     *         instance owns it
+     */
+    @Transactional
+    public FlashSale claim(Long saleId, String owner, Duration lease) {
+        Instant now = Instant.now();
+        if (flashSaleRepository.claim(saleId, owner, now, now.minus(lease)) == 0) {
+            return null;
+        }
+        return flashSaleRepository.findById(saleId).orElse(null);
+    }
+
+    /**
+     * Writes grants of one sale as pending reservations. Their units move from
+     * the sale to the reservations, so the reserved quantity does not change.
+     *
+     * @throws GrantsRejectedException if the grants exceed the allocation or the
+     *                                 instance no longer owns the sale
+     */
+    @Transactional
+    public void recordGrants(Long saleId, String owner, List<PendingGrant> grants) {
+        int quantity = 0;
+        List<InventoryReservation> reservations = new ArrayList<>(grants.size());
+        for (PendingGrant grant : grants) {
+            quantity += grant.quantity();
+            reservations.add(InventoryReservation.builder()
+                    .reservationId(grant.reservationId())
+                    .userId(grant.userId())
+                    .inventory(inventoryRepository.getReferenceById(grant.inventoryId()))
+                    .quantity(grant.quantity())
+                    .status(InventoryReservationStatus.PENDING)
+                    .expiresAt(grant.expiresAt())
+                    .build());
+        }
+        if (flashSaleRepository.addGranted(saleId, owner, quantity) == 0) {
+            throw new GrantsRejectedException("Flash sale " + saleId
+                    + " granted more than it was allocated or is owned by another instance");
+        }
+        reservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * Gives the units of grants that could not be written back to the
+     * inventory, and takes them off the sale's allocation so a resumed sale
+     * does not offer them again.
+     */
+    @Transactional
+    public void dropGrants(Long saleId, int quantity) {
+        FlashSale sale = flashSaleRepository.findById(saleId)
+                .orElseThrow(() -> new BusinessException(StatusCode.FLASH_SALE_NOT_ACTIVE));
+        Inventory inventory = sale.getInventory();
+        if (inventoryRepository.releaseReserved(inventory.getId(), quantity) == 0) {
+            throw new IllegalStateException("Inventory " + inventory.getId()
+                    + " holds less stock than flash sale " + saleId);
+        }
+        movementRepository.save(StockMovement.of(inventory, StockMovementType.RESERVATION_RELEASE, 0, -quantity,
+                reference(saleId)));
+        sale.setAllocated(sale.getAllocated() - quantity);
+    }
+
+    /**
+     * Ends the sale and gives the units that were not granted back to the inventory.
+     */
+    @Transactional
+    public void close(Long saleId, int unused) {
+        FlashSale sale = flashSaleRepository.findById(saleId)
+                .orElseThrow(() -> new BusinessException(StatusCode.FLASH_SALE_NOT_ACTIVE));
+        Inventory inventory = sale.getInventory();
+        if (unused > 0) {
+            if (inventoryRepository.releaseReserved(inventory.getId(), unused) == 0) {
+                throw new IllegalStateException("Inventory " + inventory.getId()
+                        + " holds less stock than flash sale " + saleId);
+            }
+            movementRepository.save(StockMovement.of(inventory, StockMovementType.RESERVATION_RELEASE, 0, -unused,
+                    reference(saleId)));
+        }
+        sale.setActive(false);
+        sale.setEndedAt(Instant.now());
+    }
+
+    private static String reference(Long saleId) {
+        return "flash-sale:" + saleId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dev.monkey_dev.service.inventory;
+
+import com.dev.monkey_dev.dto.response.FlashSaleDto;
+import com.dev.monkey_dev.dto.response.InventoryReservationDto;
+
+public interface IFlashSaleService {
+
+    /**
+     * Sets {@code quantity} units of the inventory row aside for a flash sale.
+     */
+    FlashSaleDto start(Long inventoryId, int quantity);
+
+    /**
+     * @throws com.dev.monkey_dev.exception.BusinessException FLASH_SALE_NOT_ACTIVE if no sale is running
+     */
+    FlashSaleDto get(Long inventoryId);
+
+    /**
+     * Grants units from a running sale to the user, at most
+     * {@code app.inventory.reservation.max-line-quantity} at a time. The returned
+     * reservation is only queued: it is written as a pending reservation within
+     * {@code app.inventory.flash-sale.flush-interval}, and until then
+     * {@link IInventoryService} does not know it. Call {@link #awaitRecorded}
+     * before committing or releasing it.
+     */
+    InventoryReservationDto grant(Long userId, Long inventoryId, int quantity);
+
+    /**
+     * Writes a reservation granted by this instance now if it is still queued.
+     * Does nothing for any other reservation id.
+     *
+     * @throws com.dev.monkey_dev.exception.BusinessException FLASH_SALE_GRANT_PENDING if it could not be
+     *         written yet, FLASH_SALE_GRANT_DROPPED if it was given up on
+     */
+    void awaitRecorded(String reservationId);
+
+    /**
+     * Stops the sale and gives the units that were not granted back to the inventory.
+     */
+    void end(Long inventoryId);
+}
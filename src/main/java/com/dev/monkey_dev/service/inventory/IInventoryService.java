@@ -0,0 +1,39 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.util.List;
+
+import com.dev.monkey_dev.dto.request.InventoryReservationLineDto;
+import com.dev.monkey_dev.dto.response.InventoryReservationDto;
+
+public interface IInventoryService {
+
+    /**
+     * Reserves every line or none of them for the user. A line may hold at most
+     * {@code app.inventory.reservation.max-line-quantity} units, and the user's
+     * pending reservations at most {@code max-pending-per-user} units together.
+     */
+    InventoryReservationDto reserve(Long userId, List<InventoryReservationLineDto> lines);
+
+    /**
+     * Takes the reserved stock off the inventory.
+     *
+     * @throws com.dev.monkey_dev.exception.BusinessException INVENTORY_RESERVATION_NOT_FOUND if the
+     *         reservation does not exist, is no longer pending or has expired
+     */
+    void commit(String reservationId);
+
+    /**
+     * Makes the reserved stock of one of the user's reservations available again.
+     *
+     * @throws com.dev.monkey_dev.exception.BusinessException INVENTORY_RESERVATION_NOT_FOUND if the
+     *         reservation does not exist, is no longer pending, has expired or belongs to another user
+     */
+    void release(Long userId, String reservationId);
+
+    /**
+     * Makes the stock of a timed-out reservation available again.
+     *
+     * @return false if the reservation was no longer pending
+     */
+    boolean expire(String reservationId);
+}
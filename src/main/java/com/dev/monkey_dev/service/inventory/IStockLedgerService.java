@@ -0,0 +1,51 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.dto.response.StockLevelDto;
+import com.dev.monkey_dev.dto.response.StockMovementDto;
+
+public interface IStockLedgerService {
+
+    StockLevelDto getStockLevel(Long inventoryId);
+
+    /**
+     * Movements of one inventory row in {@code [from, to)}, oldest first.
+     */
+    List<StockMovementDto> getHistory(Long inventoryId, Instant from, Instant to, Pageable pageable);
+
+    /**
+     * Movements of all inventory rows in {@code [from, to)}, oldest first.
+     */
+    List<StockMovementDto> getAudit(Instant from, Instant to, Pageable pageable);
+
+    void receive(Long inventoryId, int quantity, String reference);
+
+    void returnStock(Long inventoryId, int quantity, String reference);
+
+    /**
+     * Corrects the on-hand stock by {@code quantityDelta}, which may be negative.
+     */
+    void adjust(Long inventoryId, int quantityDelta, String reference);
+
+    /**
+     * Creates an inventory row for each new variation holding its initial stock.
+     * Must run inside the caller's transaction, after the variations are saved.
+     */
+    void openStock(List<ProductVariation> variations);
+
+    /**
+     * Snapshots every inventory row with movements since the last run and
+     * reconciles ProductVariation.stockQuantity of those rows. stockQuantity is
+     * the available stock, quantity minus reserved quantity, not the stock on
+     * hand. A ProductChangedEvent is published for the products whose stock
+     * changed.
+     *
+     * @return Number of snapshots taken
+     */
+    int takeSnapshots();
+}
@@ -0,0 +1,63 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dev.monkey_dev.domain.respository.InventoryReservationRepository;
+import com.dev.monkey_dev.enums.InventoryReservationStatus;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.InventoryReservationProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gives back the stock of reservations that were neither committed nor released
+ * before they expired. Each reservation expires in its own transaction, so one
+ * failure does not undo the others.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationSweeper {
+
+    private final InventoryReservationRepository reservationRepository;
+    private final IInventoryService inventoryService;
+    private final InventoryReservationProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.inventory.reservation.sweep-interval:PT1M}")
+    public void expireReservations() {
+        try {
+            Instant now = Instant.now();
+            int expired = 0;
+            List<String> reservationIds;
+            do {
+                reservationIds = reservationRepository.findReservationIdsExpiredBefore(
+                        InventoryReservationStatus.PENDING, now, PageRequest.of(0, properties.sweepChunkSize()));
+                int expiredInChunk = 0;
+                for (String reservationId : reservationIds) {
+                    try {
+                        if (inventoryService.expire(reservationId)) {
+                            expiredInChunk++;
+                        }
+                    } catch (Exception e) {
+                        AppLogManager.error(InventoryReservationSweeper.class,
+                                "Error expiring inventory reservation " + reservationId, e);
+                    }
+                }
+                expired += expiredInChunk;
+                // Stop rather than re-reading the same chunk when nothing in it could be expired
+                if (expiredInChunk == 0) {
+                    break;
+                }
+            } while (reservationIds.size() == properties.sweepChunkSize());
+            if (expired > 0) {
+                AppLogManager.info(InventoryReservationSweeper.class, "Expired {} inventory reservations", expired);
+            }
+        } catch (Exception e) {
+            AppLogManager.error(InventoryReservationSweeper.class, "Error expiring inventory reservations", e);
+        }
+    }
+}
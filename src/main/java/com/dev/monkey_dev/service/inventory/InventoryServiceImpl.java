@@ -0,0 +1,165 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.Inventory;
+import com.dev.monkey_dev.domain.entity.InventoryReservation;
+import com.dev.monkey_dev.domain.entity.StockMovement;
+import com.dev.monkey_dev.domain.respository.InventoryRepository;
+import com.dev.monkey_dev.domain.respository.InventoryReservationRepository;
+import com.dev.monkey_dev.domain.respository.StockMovementRepository;
+import com.dev.monkey_dev.dto.request.InventoryReservationLineDto;
+import com.dev.monkey_dev.dto.response.InventoryReservationDto;
+import com.dev.monkey_dev.enums.InventoryReservationStatus;
+import com.dev.monkey_dev.enums.StockMovementType;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.InventoryReservationProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reserves, commits and releases stock with conditional UPDATEs (see
+ * {@link InventoryRepository}).
+ *
+ * The lines of a reservation are always applied in inventory id order, so two
+ * multi-line reservations touching the same rows lock them in the same order
+ * and cannot deadlock. The reservation rows and their stock movements are
+ * inserted in JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements IInventoryService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final StockMovementRepository movementRepository;
+    private final InventoryReservationProperties properties;
+
+    @Override
+    @Transactional
+    public InventoryReservationDto reserve(Long userId, List<InventoryReservationLineDto> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException(StatusCode.BAD_REQUEST, "At least one line is required");
+        }
+        // Merge lines for the same inventory row and sort them by id
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (InventoryReservationLineDto line : lines) {
+            if (line.inventoryId() == null || line.quantity() == null || line.quantity() < 1) {
+                throw new BusinessException(StatusCode.BAD_REQUEST, "Each line needs an inventory id and a positive quantity");
+            }
+            quantities.merge(line.inventoryId(), line.quantity(), Integer::sum);
+        }
+        int total = 0;
+        for (int quantity : quantities.values()) {
+            if (quantity > properties.maxLineQuantity()) {
+                throw new BusinessException(StatusCode.BAD_REQUEST,
+                        "At most " + properties.maxLineQuantity() + " units of an inventory row can be reserved");
+            }
+            total += quantity;
+        }
+        long held = reservationRepository.sumQuantityByUserIdAndStatus(userId, InventoryReservationStatus.PENDING);
+        if (held + total > properties.maxPendingPerUser()) {
+            throw new BusinessException(StatusCode.BAD_REQUEST,
+                    "At most " + properties.maxPendingPerUser() + " units can be reserved at once");
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plus(properties.ttl());
+        List<InventoryReservation> reservations = new ArrayList<>(quantities.size());
+        List<StockMovement> movements = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (inventoryRepository.reserve(entry.getKey(), entry.getValue()) == 0) {
+                // The transaction rolls back the lines already reserved
+                if (!inventoryRepository.existsById(entry.getKey())) {
+                    throw new BusinessException(StatusCode.INVENTORY_NOT_FOUND);
+                }
+                throw new BusinessException(StatusCode.INSUFFICIENT_STOCK,
+                        "Not enough stock for inventory " + entry.getKey());
+            }
+            Inventory inventory = inventoryRepository.getReferenceById(entry.getKey());
+            reservations.add(InventoryReservation.builder()
+                    .reservationId(reservationId)
+                    .userId(userId)
+                    .inventory(inventory)
+                    .quantity(entry.getValue())
+                    .status(InventoryReservationStatus.PENDING)
+                    .expiresAt(expiresAt)
+                    .build());
+            movements.add(StockMovement.of(inventory, StockMovementType.RESERVATION, 0, entry.getValue(),
+                    reservationId));
+        }
+        reservationRepository.saveAll(reservations);
+        movementRepository.saveAll(movements);
+        return new InventoryReservationDto(reservationId, expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public void commit(String reservationId) {
+        if (!finish(reservationId, InventoryReservationStatus.COMMITTED, null)) {
+            throw new BusinessException(StatusCode.INVENTORY_RESERVATION_NOT_FOUND);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(Long userId, String reservationId) {
+        if (!finish(reservationId, InventoryReservationStatus.RELEASED, userId)) {
+            throw new BusinessException(StatusCode.INVENTORY_RESERVATION_NOT_FOUND);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean expire(String reservationId) {
+        return finish(reservationId, InventoryReservationStatus.EXPIRED, null);
+    }
+
+    /**
+     * Moves a pending reservation to its final status and applies its lines to
+     * the inventory.
+     *
+     * @param userId Owner the reservation must belong to, or null for any owner
+     * @return false if the reservation does not exist, is no longer pending,
+     *         belongs to another user or, unless it is being expired, has
+     *         expired
+     */
+    private boolean finish(String reservationId, InventoryReservationStatus status, Long userId) {
+        // An expired reservation is left to the sweeper even before it has run
+        Instant expiresAfter = status == InventoryReservationStatus.EXPIRED ? Instant.EPOCH : Instant.now();
+        // Claiming the lines first decides races between commit, release and the sweeper
+        if (reservationRepository.transition(reservationId, InventoryReservationStatus.PENDING, status,
+                userId, expiresAfter) == 0) {
+            return false;
+        }
+        boolean sold = status == InventoryReservationStatus.COMMITTED;
+        List<StockMovement> movements = new ArrayList<>();
+        for (InventoryReservation line : reservationRepository
+                .findByReservationIdAndStatusOrderByInventoryIdAsc(reservationId, status)) {
+            Long inventoryId = line.getInventory().getId();
+            int updated = sold
+                    ? inventoryRepository.commitReserved(inventoryId, line.getQuantity())
+                    : inventoryRepository.releaseReserved(inventoryId, line.getQuantity());
+            if (updated == 0) {
+                throw new IllegalStateException("Inventory " + inventoryId + " holds less stock than reservation "
+                        + reservationId);
+            }
+            movements.add(sold
+                    ? StockMovement.of(line.getInventory(), StockMovementType.SALE, -line.getQuantity(),
+                            -line.getQuantity(), reservationId)
+                    : StockMovement.of(line.getInventory(), StockMovementType.RESERVATION_RELEASE, 0,
+                            -line.getQuantity(), reservationId));
+        }
+        movementRepository.saveAll(movements);
+        return true;
+    }
+}
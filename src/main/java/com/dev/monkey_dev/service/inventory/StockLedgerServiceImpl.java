@@ -0,0 +1,187 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.Inventory;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.StockMovement;
+import com.dev.monkey_dev.domain.entity.StockSnapshot;
+import com.dev.monkey_dev.domain.respository.InventoryRepository;
+import com.dev.monkey_dev.domain.respository.ProductVariationRepository;
+import com.dev.monkey_dev.domain.respository.StockMovementRepository;
+import com.dev.monkey_dev.domain.respository.StockSnapshotRepository;
+import com.dev.monkey_dev.domain.respository.StockTotals;
+import com.dev.monkey_dev.dto.response.StockLevelDto;
+import com.dev.monkey_dev.dto.response.StockMovementDto;
+import com.dev.monkey_dev.enums.StockMovementType;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.StockLedgerProperties;
+import com.dev.monkey_dev.service.product.ProductChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Append-only stock ledger over the inventory rows.
+ *
+ * Every change of Inventory.quantity or reservedQuantity, here or in
+ * InventoryServiceImpl and FlashSaleStore, inserts a StockMovement in the same
+ * transaction. Snapshots are taken periodically, so the current stock of a row
+ * is two index lookups: its newest snapshot and the sum of the movements after
+ * it.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockLedgerServiceImpl implements IStockLedgerService {
+
+    private final InventoryRepository inventoryRepository;
+    private final StockMovementRepository movementRepository;
+    private final StockSnapshotRepository snapshotRepository;
+    private final ProductVariationRepository productVariationRepository;
+    private final StockLedgerProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public StockLevelDto getStockLevel(Long inventoryId) {
+        Optional<StockSnapshot> snapshot = snapshotRepository.findFirstByInventoryIdOrderByCoversUntilDesc(inventoryId);
+        Instant snapshotUntil = snapshot.map(StockSnapshot::getCoversUntil).orElse(null);
+        Optional<StockTotals> tail = movementRepository.sumSince(inventoryId,
+                snapshotUntil != null ? snapshotUntil : Instant.EPOCH);
+        if (snapshot.isEmpty() && tail.isEmpty() && !inventoryRepository.existsById(inventoryId)) {
+            throw new BusinessException(StatusCode.INVENTORY_NOT_FOUND);
+        }
+        long quantity = snapshot.map(StockSnapshot::getQuantity).orElse(0L)
+                + tail.map(StockTotals::quantity).orElse(0L);
+        long reserved = snapshot.map(StockSnapshot::getReservedQuantity).orElse(0L)
+                + tail.map(StockTotals::reservedQuantity).orElse(0L);
+        return new StockLevelDto(inventoryId, quantity, reserved, quantity - reserved, snapshotUntil);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockMovementDto> getHistory(Long inventoryId, Instant from, Instant to, Pageable pageable) {
+        return movementRepository.findHistory(inventoryId, from, to, pageable).map(this::toDto).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockMovementDto> getAudit(Instant from, Instant to, Pageable pageable) {
+        return movementRepository.findAudit(from, to, pageable).map(this::toDto).getContent();
+    }
+
+    @Override
+    @Transactional
+    public void receive(Long inventoryId, int quantity, String reference) {
+        requirePositive(quantity);
+        addQuantity(inventoryId, quantity, StockMovementType.RECEIPT, reference);
+    }
+
+    @Override
+    @Transactional
+    public void returnStock(Long inventoryId, int quantity, String reference) {
+        requirePositive(quantity);
+        addQuantity(inventoryId, quantity, StockMovementType.RETURN, reference);
+    }
+
+    @Override
+    @Transactional
+    public void adjust(Long inventoryId, int quantityDelta, String reference) {
+        if (quantityDelta == 0) {
+            throw new BusinessException(StatusCode.BAD_REQUEST, "Adjustment must not be zero");
+        }
+        addQuantity(inventoryId, quantityDelta, StockMovementType.ADJUSTMENT, reference);
+    }
+
+    @Override
+    public void openStock(List<ProductVariation> variations) {
+        List<Inventory> inventories = new ArrayList<>(variations.size());
+        for (ProductVariation variation : variations) {
+            inventories.add(Inventory.builder()
+                    .product(variation.getProduct())
+                    .productVariation(variation)
+                    .quantity(variation.getStockQuantity())
+                    .reservedQuantity(0)
+                    .lowStockThreshold(0)
+                    .build());
+        }
+        inventoryRepository.saveAll(inventories);
+        movementRepository.saveAll(inventories.stream()
+                .filter(inventory -> inventory.getQuantity() > 0)
+                .map(inventory -> StockMovement.of(inventory, StockMovementType.RECEIPT,
+                        inventory.getQuantity(), 0, null))
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public int takeSnapshots() {
+        Instant cutoff = Instant.now().minus(properties.snapshotLag());
+        Instant from = snapshotRepository.findLastCoveredUntil().orElse(Instant.EPOCH);
+        if (!from.isBefore(cutoff)) {
+            return 0;
+        }
+        List<StockTotals> totals = movementRepository.sumBetween(from, cutoff);
+        for (int start = 0; start < totals.size(); start += properties.snapshotChunkSize()) {
+            List<StockTotals> chunk = totals.subList(start,
+                    Math.min(start + properties.snapshotChunkSize(), totals.size()));
+            List<Long> inventoryIds = chunk.stream().map(StockTotals::inventoryId).toList();
+            Map<Long, StockSnapshot> previous = new HashMap<>();
+            snapshotRepository.findNewestByInventoryIds(inventoryIds)
+                    .forEach(snapshot -> previous.put(snapshot.getInventory().getId(), snapshot));
+
+            List<StockSnapshot> snapshots = new ArrayList<>(chunk.size());
+            for (StockTotals delta : chunk) {
+                StockSnapshot last = previous.get(delta.inventoryId());
+                snapshots.add(StockSnapshot.builder()
+                        .inventory(inventoryRepository.getReferenceById(delta.inventoryId()))
+                        .quantity((last != null ? last.getQuantity() : 0L) + delta.quantity())
+                        .reservedQuantity((last != null ? last.getReservedQuantity() : 0L) + delta.reservedQuantity())
+                        .coversUntil(cutoff)
+                        .build());
+            }
+            snapshotRepository.saveAll(snapshots);
+            List<Long> productIds = productVariationRepository.findProductIdsWithStaleStock(inventoryIds);
+            if (!productIds.isEmpty()) {
+                productVariationRepository.syncStockQuantity(inventoryIds);
+                // The bulk UPDATE bypasses the entities, so cached products would keep the old stock
+                eventPublisher.publishEvent(ProductChangedEvent.of(productIds));
+            }
+        }
+        return totals.size();
+    }
+
+    private void addQuantity(Long inventoryId, int quantity, StockMovementType type, String reference) {
+        if (inventoryRepository.addQuantity(inventoryId, quantity) == 0) {
+            if (!inventoryRepository.existsById(inventoryId)) {
+                throw new BusinessException(StatusCode.INVENTORY_NOT_FOUND);
+            }
+            throw new BusinessException(StatusCode.INSUFFICIENT_STOCK,
+                    "Stock of inventory " + inventoryId + " cannot drop below its reserved quantity");
+        }
+        movementRepository.save(StockMovement.of(inventoryRepository.getReferenceById(inventoryId), type,
+                quantity, 0, reference));
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity < 1) {
+            throw new BusinessException(StatusCode.BAD_REQUEST, "Quantity must be positive");
+        }
+    }
+
+    private StockMovementDto toDto(StockMovement movement) {
+        return new StockMovementDto(movement.getId(), movement.getInventory().getId(), movement.getType(),
+                movement.getQuantityDelta(), movement.getReservedDelta(), movement.getReference(),
+                movement.getOccurredAt());
+    }
+}
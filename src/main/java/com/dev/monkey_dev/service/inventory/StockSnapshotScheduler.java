@@ -0,0 +1,31 @@
+package com.dev.monkey_dev.service.inventory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dev.monkey_dev.logging.AppLogManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Takes stock snapshots every {@code app.inventory.ledger.snapshot-interval},
+ * which keeps the movement tail read by stock level queries short.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockSnapshotScheduler {
+
+    private final IStockLedgerService stockLedgerService;
+
+    @Scheduled(fixedDelayString = "${app.inventory.ledger.snapshot-interval:PT1H}")
+    public void takeSnapshots() {
+        try {
+            int snapshots = stockLedgerService.takeSnapshots();
+            if (snapshots > 0) {
+                AppLogManager.info(StockSnapshotScheduler.class, "Took {} stock snapshots", snapshots);
+            }
+        } catch (Exception e) {
+            AppLogManager.error(StockSnapshotScheduler.class, "Error taking stock snapshots", e);
+        }
+    }
+}
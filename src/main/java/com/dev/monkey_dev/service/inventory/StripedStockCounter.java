@@ -0,0 +1,65 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Stock split across several atomic counters, each on its own cache line, so
+ * that buyers on different threads rarely compete for the same counter.
+ *
+ * A thread starts at its own stripe and moves on to the others only when that
+ * one runs out. The counters never go below zero, so no more units are granted
+ * than the counter was created with. A request for several units may be
+ * rejected when the last units are spread across stripes.
+ */
+class StripedStockCounter {
+
+    // 16 ints = 64 bytes, so two stripes never share a cache line
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+
+    StripedStockCounter(int units, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PADDING, units / this.stripes + (i < units % this.stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(int quantity) {
+        int start = (int) (Thread.currentThread().getId() % stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            int available = cells.get(index);
+            while (available >= quantity) {
+                if (cells.compareAndSet(index, available, available - quantity)) {
+                    return true;
+                }
+                available = cells.get(index);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes all units that are left, so that no further acquisition succeeds.
+     *
+     * @return Number of units taken
+     */
+    int drain() {
+        int drained = 0;
+        for (int i = 0; i < stripes; i++) {
+            drained += cells.getAndSet(i * PADDING, 0);
+        }
+        return drained;
+    }
+
+    int remaining() {
+        int remaining = 0;
+        for (int i = 0; i < stripes; i++) {
+            remaining += cells.get(i * PADDING);
+        }
+        return remaining;
+    }
+}
@@ -1,12 +1,12 @@
 package com.dev.monkey_dev.service.product;
 
-import org.springframework.data.domain.Page;
-
+import com.dev.monkey_dev.common.CursorPage;
+import com.dev.monkey_dev.common.FacetedPage;
 import com.dev.monkey_dev.dto.request.CriteriaFilter;
 import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductFilter;
 import com.dev.monkey_dev.dto.request.ProductResponseDto;
 import com.dev.monkey_dev.dto.request.ProductUpdateRequestDto;
-import com.dev.monkey_dev.enums.FilterProductCateType;
 
 public interface IProductService {
     // Define service methods here
@@ -16,9 +16,14 @@ public interface IProductService {
 
     ProductResponseDto getProductById(Long productId);
 
-    Page<ProductResponseDto> getAllProducts(String categorySlug, FilterProductCateType filterProductCateType,
+    FacetedPage<ProductResponseDto> getAllProducts(String categorySlug, ProductFilter productFilter,
+            CriteriaFilter criteriaFilter);
+
+    CursorPage<ProductResponseDto> getAllProductsByCursor(String categorySlug, ProductFilter productFilter,
             CriteriaFilter criteriaFilter);
 
+    FacetedPage<ProductResponseDto> searchProducts(String query, String categorySlug, CriteriaFilter criteriaFilter);
+
     void deleteProduct(Long productId);
 
     ProductResponseDto getProductBySlug(String slug);
@@ -0,0 +1,27 @@
+package com.dev.monkey_dev.service.product;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published when product data that appears in {@code ProductResponseDto} changes.
+ * Listeners such as {@link ProductDetailCache} react after the publishing
+ * transaction commits.
+ *
+ * @param productIds  Ids of the changed products
+ * @param allProducts true when every product may be affected (e.g. a category was renamed)
+ */
+public record ProductChangedEvent(Set<Long> productIds, boolean allProducts) {
+
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(Set.of(productId), false);
+    }
+
+    public static ProductChangedEvent of(Collection<Long> productIds) {
+        return new ProductChangedEvent(Set.copyOf(productIds), false);
+    }
+
+    public static ProductChangedEvent ofAllProducts() {
+        return new ProductChangedEvent(Set.of(), true);
+    }
+}
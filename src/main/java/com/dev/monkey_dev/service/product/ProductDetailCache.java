@@ -0,0 +1,118 @@
+package com.dev.monkey_dev.service.product;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.ProductCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process cache of product detail responses, keyed by id. Slugs are
+ * cached as a mapping to the product id, so a product is cached once and every
+ * invalidation is an exact key eviction. Entries expire after a configurable TTL
+ * and are evicted after commit whenever a {@link ProductChangedEvent} is
+ * published. Hit, miss and eviction counts are exported as {@code cache.*}
+ * metrics (tags {@code cache=products-by-id} and {@code cache=products-by-slug})
+ * on {@code /actuator/metrics}, which needs the ADMIN role.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final Cache<Long, ProductResponseDto> byId;
+    private final Cache<String, Long> idsBySlug;
+    // Reverse of idsBySlug, so a changed product's slug is evicted without a scan
+    private final Map<Long, String> slugsById = new ConcurrentHashMap<>();
+
+    public ProductDetailCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.idsBySlug = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .<String, Long>removalListener((slug, productId, cause) -> {
+                    if (productId != null) {
+                        slugsById.remove(productId, slug);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "products-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsBySlug, "products-by-slug");
+    }
+
+    /**
+     * Returns the cached product or loads it. Concurrent misses for the same id
+     * run the loader once; exceptions from the loader propagate and nothing is cached.
+     *
+     * @param productId Product id
+     * @param loader    Loads the product from the database
+     * @return Product response
+     */
+    public ProductResponseDto getById(Long productId, Function<Long, ProductResponseDto> loader) {
+        return byId.get(productId, loader);
+    }
+
+    /**
+     * Returns the cached product with the given slug or loads it. A product
+     * whose slug no longer matches, because it changed since the slug was
+     * resolved, is resolved again.
+     *
+     * @param slug     Product slug
+     * @param idLoader Resolves the slug to a product id from the database
+     * @param loader   Loads the product from the database
+     * @return Product response
+     */
+    public ProductResponseDto getBySlug(String slug, Function<String, Long> idLoader,
+            Function<Long, ProductResponseDto> loader) {
+        ProductResponseDto product = byId.get(resolve(slug, idLoader), loader);
+        if (!slug.equals(product.slug())) {
+            idsBySlug.invalidate(slug);
+            product = byId.get(resolve(slug, idLoader), loader);
+        }
+        return product;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.allProducts()) {
+            byId.invalidateAll();
+            idsBySlug.invalidateAll();
+            AppLogManager.debug(ProductDetailCache.class, "Product cache cleared");
+            return;
+        }
+        Set<Long> productIds = event.productIds();
+        for (Long productId : productIds) {
+            // Its slug may have changed or been given to another product
+            String slug = slugsById.get(productId);
+            if (slug != null) {
+                idsBySlug.invalidate(slug);
+            }
+        }
+        byId.invalidateAll(productIds);
+        AppLogManager.debug(ProductDetailCache.class,
+                "Product cache evicted for ids: {}", productIds);
+    }
+
+    private Long resolve(String slug, Function<String, Long> idLoader) {
+        return idsBySlug.get(slug, key -> {
+            Long productId = idLoader.apply(key);
+            slugsById.put(productId, key);
+            return productId;
+        });
+    }
+}
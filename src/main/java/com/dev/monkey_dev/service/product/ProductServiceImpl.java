@@ -2,20 +2,27 @@ package com.dev.monkey_dev.service.product;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Service;
 
+import com.dev.monkey_dev.common.CursorPage;
+import com.dev.monkey_dev.common.CursorToken;
+import com.dev.monkey_dev.common.FacetedPage;
 import com.dev.monkey_dev.common.api.StatusCode;
 import com.dev.monkey_dev.domain.entity.Category;
-import com.dev.monkey_dev.domain.entity.ProductImage;
-import com.dev.monkey_dev.domain.entity.ProductVariation;
 import com.dev.monkey_dev.domain.entity.Products;
 import com.dev.monkey_dev.domain.respository.CategoryRepository;
+import com.dev.monkey_dev.domain.respository.ProductFacets;
 import com.dev.monkey_dev.domain.respository.ProductRepository;
 import com.dev.monkey_dev.domain.respository.ProductVariationRepository;
 import com.dev.monkey_dev.domain.respository.ProductImageRepository;
@@ -23,14 +30,21 @@ import com.dev.monkey_dev.domain.respository.UserRepository;
 import com.dev.monkey_dev.dto.mapper.ProductMapper;
 import com.dev.monkey_dev.dto.request.CriteriaFilter;
 import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductFilter;
 import com.dev.monkey_dev.dto.request.ProductImageCreateDto;
 import com.dev.monkey_dev.dto.request.ProductResponseDto;
 import com.dev.monkey_dev.dto.request.ProductUpdateRequestDto;
 import com.dev.monkey_dev.dto.request.ProductVariationCreateDto;
-import com.dev.monkey_dev.enums.FilterProductCateType;
+import com.dev.monkey_dev.enums.ProductSortField;
 import com.dev.monkey_dev.exception.BusinessException;
 import com.dev.monkey_dev.exception.ResourceNotFoundException;
 import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.ProductSearchProperties;
+import com.dev.monkey_dev.service.category.CategoryTreeService;
+import com.dev.monkey_dev.service.inventory.IStockLedgerService;
+import com.dev.monkey_dev.service.search.ProductSearchEngine;
+import com.dev.monkey_dev.service.search.ProductSearchResult;
+import com.dev.monkey_dev.util.StringUtils;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +57,13 @@ public class ProductServiceImpl implements IProductService {
        private final ProductImageRepository productImageRepository;
        private final ProductVariationRepository productVariationRepository;
        private final ProductMapper productMapper;
+       private final ProductDetailCache productDetailCache;
+       private final ApplicationEventPublisher eventPublisher;
+       private final TransactionTemplate transactionTemplate;
+       private final ProductSearchEngine productSearchEngine;
+       private final ProductSearchProperties productSearchProperties;
+       private final CategoryTreeService categoryTreeService;
+       private final IStockLedgerService stockLedgerService;
 
        private static final String PRODUCT_NOT_FOUND = "Product not found with id: %d";
        private static final String USER_NOT_FOUND = "User not found with id: %d";
@@ -95,38 +116,25 @@ public class ProductServiceImpl implements IProductService {
                      // Save the product first before saving related entities
                      Products saved = productRepository.save(product);
 
-                     // Now save ProductImages after the product is persisted
+                     // Now save ProductImages after the product is persisted; sequence ids let
+                     // Hibernate send them as one JDBC batch at flush
                      List<ProductImageCreateDto> productImageCreateDtos = productCreateRequestDto.images();
                      if (productImageCreateDtos != null) {
-                            productImageCreateDtos.forEach(image -> {
-                                   ProductImage productImage = new ProductImage();
-                                   productImage.setImageUrl(image.imageUrl());
-                                   productImage.setAltText(image.altText() == null ? "" : image.altText());
-                                   productImage.setDisplayOrder(
-                                                 image.displayOrder() == null ? 0 : image.displayOrder());
-                                   productImage.setIsPrimary(image.isPrimary() == null ? false : image.isPrimary());
-                                   productImage.setProduct(saved);
-                                   productImageRepository.save(productImage);
-                            });
+                            productImageRepository.saveAll(productImageCreateDtos.stream()
+                                          .map(image -> productMapper.toImageEntity(image, saved))
+                                          .toList());
                      }
 
-                     // Now save ProductVariations after the product is persisted
+                     // Now save ProductVariations after the product is persisted, each with
+                     // an inventory row holding its initial stock
                      List<ProductVariationCreateDto> productVariationCreateDtos = productCreateRequestDto.variations();
                      if (productVariationCreateDtos != null) {
-                            productVariationCreateDtos.forEach(variation -> {
-                                   ProductVariation productVariation = new ProductVariation();
-                                   productVariation.setName(variation.name());
-                                   productVariation.setValue(variation.value() == null ? "" : variation.value());
-                                   productVariation.setPriceAdjustment(variation.priceAdjustment() == null ? 0.0
-                                                 : variation.priceAdjustment().doubleValue());
-                                   productVariation.setSku(variation.sku() == null ? "" : variation.sku());
-                                   productVariation.setStockQuantity(
-                                                 variation.stockQuantity() == null ? 0
-                                                               : variation.stockQuantity().intValue());
-                                   productVariation.setProduct(saved);
-                                   productVariationRepository.save(productVariation);
-                            });
+                            stockLedgerService.openStock(productVariationRepository.saveAll(productVariationCreateDtos
+                                          .stream()
+                                          .map(variation -> productMapper.toVariationEntity(variation, saved))
+                                          .toList()));
                      }
+                     eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
                      AppLogManager.info(ProductServiceImpl.class,
                                    String.format("Product created successfully with id: %d", saved.getId()));
                      // return productMapper.toResponse(saved);
@@ -182,6 +190,7 @@ public class ProductServiceImpl implements IProductService {
 
                      productMapper.updateEntity(productUpdateRequestDto, product);
                      Products saved = productRepository.save(product);
+                     eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
 
                      AppLogManager.info(ProductServiceImpl.class,
                                    String.format("Product updated successfully with id: %d", saved.getId()));
@@ -195,7 +204,7 @@ public class ProductServiceImpl implements IProductService {
               }
        }
 
-       @Transactional(readOnly = true)
+       // Not @Transactional: cache hits must not open a transaction; misses load in one
        public ProductResponseDto getProductById(Long productId) {
               try {
                      // Validate product ID
@@ -205,15 +214,17 @@ public class ProductServiceImpl implements IProductService {
                             throw new BusinessException(StatusCode.BAD_REQUEST, "Invalid product ID");
                      }
 
-                     Products product = productRepository.findById(productId)
-                                   .orElseThrow(() -> {
-                                          AppLogManager.warn(ProductServiceImpl.class,
-                                                        String.format(PRODUCT_NOT_FOUND, productId));
-                                          return new ResourceNotFoundException(
-                                                        String.format(PRODUCT_NOT_FOUND, productId));
-                                   });
-
-                     return productMapper.toResponse(product);
+                     return productDetailCache.getById(productId,
+                                   id -> transactionTemplate.execute(status -> {
+                                          Products product = productRepository.findById(id)
+                                                        .orElseThrow(() -> {
+                                                               AppLogManager.warn(ProductServiceImpl.class,
+                                                                             String.format(PRODUCT_NOT_FOUND, id));
+                                                               return new ResourceNotFoundException(
+                                                                             String.format(PRODUCT_NOT_FOUND, id));
+                                                        });
+                                          return productMapper.toResponse(product);
+                                   }));
               } catch (BusinessException | ResourceNotFoundException e) {
                      throw e;
               } catch (Exception e) {
@@ -225,7 +236,7 @@ public class ProductServiceImpl implements IProductService {
        }
 
        @Transactional(readOnly = true)
-       public Page<ProductResponseDto> getAllProducts(String categorySlug, FilterProductCateType filterProductCateType,
+       public FacetedPage<ProductResponseDto> getAllProducts(String categorySlug, ProductFilter productFilter,
                      CriteriaFilter criteriaFilter) {
               try {
                      // Validate criteria filter
@@ -234,18 +245,40 @@ public class ProductServiceImpl implements IProductService {
                             throw new BusinessException(StatusCode.BAD_REQUEST, "Criteria filter cannot be null");
                      }
 
+                     ProductFilter filter = resolveFilter(categorySlug, productFilter);
+                     Sort.Order order = criteriaFilter.parseSort("createdAt", Sort.Direction.DESC).iterator().next();
+                     ProductSortField sortField = ProductSortField.fromProperty(order.getProperty());
+                     Pageable pageable = PageRequest.of(criteriaFilter.getPage(), criteriaFilter.getSize(),
+                                   Sort.by(order));
+                     if (criteriaFilter.hasSearch()) {
+                            // Search results are ordered by relevance, so an explicit sort is ignored
+                            pageable = PageRequest.of(criteriaFilter.getPage(), criteriaFilter.getSize());
+                            String tsQuery = StringUtils.toPrefixTsQuery(criteriaFilter.getSearch());
+                            if (tsQuery == null) {
+                                   return new FacetedPage<>(Page.empty(pageable), Map.of());
+                            }
+                            filter = filter.toBuilder().searchQuery(tsQuery).build();
+                     }
+
+                     // The facet query also yields the total, so no separate COUNT is needed. Then
+                     // page over ids in SQL and load details for just that page; fetch joins
+                     // would force in-memory pagination
+                     ProductFacets facets = productRepository.countActiveProductFacets(filter,
+                                   productSearchProperties.priceRanges());
+                     List<Long> ids = pageable.getOffset() < facets.total()
+                                   ? productRepository.findActiveProductIds(filter, sortField, order.getDirection(),
+                                                 pageable.getOffset(), pageable.getPageSize())
+                                   : List.of();
                      List<ProductResponseDto> products = productRepository
-                                   .findAllByCategorySlug(categorySlug,
-                                                 filterProductCateType != null ? filterProductCateType.name() : null,
-                                                 criteriaFilter.toPageable("createdAt", Sort.Direction.DESC))
+                                   .findAllWithDetailsByIdIn(ids)
                                    .stream()
                                    .map(productMapper::toResponse)
                                    .toList();
 
                      AppLogManager.debug(ProductServiceImpl.class,
-                                   String.format("Retrieved %d products (categorySlug: %s)",
-                                                 products.size(), categorySlug));
-                     return new PageImpl<>(products, criteriaFilter.toPageable(), products.size());
+                                   "Retrieved {} of {} products (categorySlug: {})",
+                                   products.size(), facets.total(), categorySlug);
+                     return new FacetedPage<>(new PageImpl<>(products, pageable, facets.total()), facets.toMap());
               } catch (BusinessException e) {
                      throw e;
               } catch (Exception e) {
@@ -256,6 +289,115 @@ public class ProductServiceImpl implements IProductService {
               }
        }
 
+       @Transactional(readOnly = true)
+       public CursorPage<ProductResponseDto> getAllProductsByCursor(String categorySlug, ProductFilter productFilter,
+                     CriteriaFilter criteriaFilter) {
+              try {
+                     // Validate criteria filter
+                     if (criteriaFilter == null) {
+                            AppLogManager.warn(ProductServiceImpl.class, "Criteria filter is null");
+                            throw new BusinessException(StatusCode.BAD_REQUEST, "Criteria filter cannot be null");
+                     }
+
+                     // Relevance order has no stable seek key, so search only supports page/offset
+                     if (criteriaFilter.hasSearch()) {
+                            AppLogManager.warn(ProductServiceImpl.class, "Search requested with cursor pagination");
+                            throw new BusinessException(StatusCode.BAD_REQUEST,
+                                          "Search is not supported with cursor pagination");
+                     }
+
+                     ProductFilter filter = resolveFilter(categorySlug, productFilter);
+                     CursorToken cursor = criteriaFilter.getCursor() != null
+                                   ? CursorToken.decode(criteriaFilter.getCursor())
+                                   : null;
+
+                     // A cursor carries the sort it was issued for; an explicit sort must agree with it
+                     boolean explicitSort = criteriaFilter.getSort() != null && !criteriaFilter.getSort().isBlank();
+                     Sort.Order order = cursor != null && !explicitSort
+                                   ? new Sort.Order(cursor.direction(), cursor.field())
+                                   : criteriaFilter.parseSort("createdAt", Sort.Direction.DESC).iterator().next();
+                     ProductSortField sortField = ProductSortField.fromProperty(order.getProperty());
+                     if (cursor != null && (!sortField.getProperty().equals(cursor.field())
+                                   || order.getDirection() != cursor.direction())) {
+                            AppLogManager.warn(ProductServiceImpl.class, "Cursor does not match requested sort");
+                            throw new BusinessException(StatusCode.INVALID_CURSOR,
+                                          "Cursor does not match the requested sort");
+                     }
+
+                     int size = criteriaFilter.getSize();
+                     Object lastValue;
+                     try {
+                            lastValue = cursor != null ? sortField.parse(cursor.value()) : null;
+                     } catch (RuntimeException e) {
+                            throw new BusinessException(StatusCode.INVALID_CURSOR, "Invalid cursor");
+                     }
+
+                     // Fetch one extra id to know whether a next page exists without counting
+                     List<Long> ids = productRepository.findActiveProductIdsAfter(filter, sortField,
+                                   order.getDirection(), lastValue, cursor != null ? cursor.id() : null, size + 1);
+                     boolean hasNext = ids.size() > size;
+                     List<Products> products = productRepository
+                                   .findAllWithDetailsByIdIn(hasNext ? ids.subList(0, size) : ids);
+
+                     String nextCursor = null;
+                     if (hasNext) {
+                            Products last = products.get(products.size() - 1);
+                            nextCursor = new CursorToken(sortField.getProperty(), order.getDirection(),
+                                          sortField.format(last), last.getId()).encode();
+                     }
+
+                     AppLogManager.debug(ProductServiceImpl.class,
+                                   "Retrieved {} products by cursor (categorySlug: {})",
+                                   products.size(), categorySlug);
+                     return new CursorPage<>(products, size, criteriaFilter.getCursor(), nextCursor)
+                                   .map(productMapper::toResponse);
+              } catch (BusinessException e) {
+                     throw e;
+              } catch (Exception e) {
+                     AppLogManager.error(ProductServiceImpl.class,
+                                   String.format("Error retrieving products by cursor (categorySlug: %s)",
+                                                 categorySlug),
+                                   e);
+                     throw new BusinessException(StatusCode.BAD_REQUEST,
+                                   "Failed to retrieve products: " + e.getMessage());
+              }
+       }
+
+       @Transactional(readOnly = true)
+       public FacetedPage<ProductResponseDto> searchProducts(String query, String categorySlug,
+                     CriteriaFilter criteriaFilter) {
+              try {
+                     // Validate criteria filter
+                     if (criteriaFilter == null) {
+                            AppLogManager.warn(ProductServiceImpl.class, "Criteria filter is null");
+                            throw new BusinessException(StatusCode.BAD_REQUEST, "Criteria filter cannot be null");
+                     }
+
+                     // Ranking and facets come from the in-memory index; only the page is hydrated
+                     Pageable pageable = PageRequest.of(criteriaFilter.getPage(), criteriaFilter.getSize());
+                     ProductSearchResult result = productSearchEngine.search(query, categorySlug,
+                                   (int) pageable.getOffset(), pageable.getPageSize());
+                     List<ProductResponseDto> products = productRepository
+                                   .findAllWithDetailsByIdIn(result.productIds())
+                                   .stream()
+                                   .map(productMapper::toResponse)
+                                   .toList();
+
+                     AppLogManager.debug(ProductServiceImpl.class,
+                                   "Search '{}' matched {} products (categorySlug: {})",
+                                   query, result.total(), categorySlug);
+                     return new FacetedPage<>(new PageImpl<>(products, pageable, result.total()),
+                                   Map.of("category", result.categoryFacets(), "price", result.priceFacets()));
+              } catch (BusinessException e) {
+                     throw e;
+              } catch (Exception e) {
+                     AppLogManager.error(ProductServiceImpl.class,
+                                   String.format("Error searching products (query: %s)", query), e);
+                     throw new BusinessException(StatusCode.BAD_REQUEST,
+                                   "Failed to search products: " + e.getMessage());
+              }
+       }
+
        @Transactional
        public void deleteProduct(Long productId) {
               try {
@@ -269,6 +411,7 @@ public class ProductServiceImpl implements IProductService {
                                    () -> new BusinessException(StatusCode.BAD_REQUEST, "Product not found"));
                      product.setIsActive(false);
                      productRepository.save(product);
+                     eventPublisher.publishEvent(ProductChangedEvent.of(productId));
                      AppLogManager.info(ProductServiceImpl.class,
                                    String.format("Product deleted successfully with id: %d", productId));
               } catch (BusinessException e) {
@@ -281,7 +424,7 @@ public class ProductServiceImpl implements IProductService {
               }
        }
 
-       @Transactional(readOnly = true)
+       // Not @Transactional: cache hits must not open a transaction; misses load in one
        public ProductResponseDto getProductBySlug(String slug) {
               try {
                      // Validate slug
@@ -289,9 +432,16 @@ public class ProductServiceImpl implements IProductService {
                             AppLogManager.warn(ProductServiceImpl.class, "Slug is null or empty");
                             throw new BusinessException(StatusCode.BAD_REQUEST, "Slug is null or empty");
                      }
-                     var product = productRepository.findBySlug(slug).orElseThrow(
-                                   () -> new BusinessException(StatusCode.BAD_REQUEST, "Product not found"));
-                     return productMapper.toResponse(product);
+                     return productDetailCache.getBySlug(slug,
+                                   key -> productRepository.findIdBySlug(key).orElseThrow(
+                                                 () -> new BusinessException(StatusCode.BAD_REQUEST,
+                                                               "Product not found")),
+                                   id -> transactionTemplate.execute(status -> {
+                                          var product = productRepository.findById(id).orElseThrow(
+                                                        () -> new BusinessException(StatusCode.BAD_REQUEST,
+                                                                      "Product not found"));
+                                          return productMapper.toResponse(product);
+                                   }));
               } catch (BusinessException e) {
                      throw e;
               } catch (Exception e) {
@@ -301,4 +451,20 @@ public class ProductServiceImpl implements IProductService {
                                    "Failed to retrieve product: " + e.getMessage());
               }
        }
+
+       // Listing by category includes the category's descendants
+       private ProductFilter resolveFilter(String categorySlug, ProductFilter productFilter) {
+              ProductFilter filter = productFilter != null ? productFilter : ProductFilter.empty();
+              if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                            && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+                     AppLogManager.warn(ProductServiceImpl.class, "minPrice is greater than maxPrice");
+                     throw new BusinessException(StatusCode.BAD_REQUEST, "minPrice cannot be greater than maxPrice");
+              }
+              if (categorySlug == null) {
+                     return filter;
+              }
+              return filter.toBuilder()
+                            .categoryIds(categoryTreeService.getSubtreeIdsBySlug(categorySlug))
+                            .build();
+       }
 }
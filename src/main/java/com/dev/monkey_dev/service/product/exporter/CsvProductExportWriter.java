@@ -0,0 +1,115 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+import com.dev.monkey_dev.dto.request.CategorySummaryDto;
+import com.dev.monkey_dev.dto.request.ProductImageDto;
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+import com.dev.monkey_dev.dto.request.ProductVariationDto;
+
+/**
+ * Writes products as CSV in the column layout read by the bulk import
+ * ({@code CsvProductImportReader}) plus a leading {@code id} column, so an
+ * export can be imported again. Fields are quoted only when they contain a
+ * comma, quote or line break.
+ */
+public class CsvProductExportWriter implements ProductExportWriter {
+
+    private static final String HEADER = "id,slug,title,description,price,sku,currency,weight,length,width,"
+            + "height,taxRate,isActive,isFeatured,isNew,categoryIds,imageUrls,variations";
+    private static final String LIST_SEPARATOR = "|";
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    public CsvProductExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(ProductResponseDto product) throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write('\n');
+            headerWritten = true;
+        }
+        writer.write(String.join(",",
+                field(product.id()),
+                field(product.slug()),
+                field(product.title()),
+                field(product.description()),
+                field(product.price()),
+                field(product.sku()),
+                field(product.currency()),
+                field(product.weight()),
+                field(product.length()),
+                field(product.width()),
+                field(product.height()),
+                field(product.taxRate()),
+                field(product.isActive()),
+                field(product.isFeatured()),
+                field(product.isNew()),
+                field(categoryIds(product)),
+                field(imageUrls(product)),
+                field(variations(product))));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!headerWritten) {
+            // An empty catalog still gets a header row
+            writer.write(HEADER);
+            writer.write('\n');
+            headerWritten = true;
+        }
+        writer.flush();
+    }
+
+    private static String categoryIds(ProductResponseDto product) {
+        return product.categories().stream()
+                .map(CategorySummaryDto::id)
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(LIST_SEPARATOR));
+    }
+
+    // The import makes the first image primary, so the primary image goes first
+    private static String imageUrls(ProductResponseDto product) {
+        return product.images().stream()
+                .sorted(Comparator.comparing((ProductImageDto image) -> !Boolean.TRUE.equals(image.isPrimary())))
+                .map(ProductImageDto::imageUrl)
+                .collect(Collectors.joining(LIST_SEPARATOR));
+    }
+
+    private static String variations(ProductResponseDto product) {
+        return product.variations().stream()
+                .map(CsvProductExportWriter::variation)
+                .collect(Collectors.joining(LIST_SEPARATOR));
+    }
+
+    private static String variation(ProductVariationDto variation) {
+        String value = String.join(":", variation.name(), variation.value(), plain(variation.priceAdjustment()),
+                String.valueOf(variation.stockQuantity()));
+        return variation.sku() == null || variation.sku().isEmpty() ? value : value + ":" + variation.sku();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? "0" : value.toPlainString();
+    }
+
+    private static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,17 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.OutputStream;
+
+import com.dev.monkey_dev.enums.ProductFileFormat;
+
+public interface IProductExportService {
+
+    /**
+     * Writes every active product to {@code out} while it is read from the database.
+     * The stream is flushed but not closed.
+     *
+     * @param format Output format
+     * @param out    Response stream
+     */
+    void exportActiveProducts(ProductFileFormat format, OutputStream out);
+}
@@ -0,0 +1,33 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes one {@link ProductResponseDto} JSON object per line.
+ */
+public class NdjsonProductExportWriter implements ProductExportWriter {
+
+    private final Writer writer;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonProductExportWriter(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectWriter = objectMapper.writerFor(ProductResponseDto.class);
+    }
+
+    @Override
+    public void write(ProductResponseDto product) throws IOException {
+        writer.write(objectWriter.writeValueAsString(product));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,112 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.dto.mapper.ProductMapper;
+import com.dev.monkey_dev.enums.ProductFileFormat;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Streams the active catalog from a forward-only cursor into the response.
+ *
+ * Products are read in windows of {@value #WINDOW_SIZE} (the cursor fetch size).
+ * Each window gets its categories, images and variations with one query per
+ * association, is written and flushed to the client, and is then detached, so
+ * memory use depends on the window size and not on the catalog size.
+ */
+@Service
+public class ProductExportServiceImpl implements IProductExportService {
+
+    private static final int WINDOW_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductExportServiceImpl(ProductRepository productRepository, ProductMapper productMapper,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void exportActiveProducts(ProductFileFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ProductExportWriter exportWriter = switch (format) {
+            case CSV -> new CsvProductExportWriter(writer);
+            case NDJSON -> new NdjsonProductExportWriter(writer, objectMapper);
+        };
+        try {
+            long exported = readOnlyTransaction.execute(status -> {
+                try (Stream<Products> products = productRepository.streamActiveProducts()) {
+                    long count = 0;
+                    List<Products> window = new ArrayList<>(WINDOW_SIZE);
+                    Iterator<Products> iterator = products.iterator();
+                    while (iterator.hasNext()) {
+                        window.add(iterator.next());
+                        if (window.size() == WINDOW_SIZE) {
+                            count += writeWindow(window, exportWriter);
+                        }
+                    }
+                    count += writeWindow(window, exportWriter);
+                    exportWriter.flush();
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            AppLogManager.info(ProductExportServiceImpl.class,
+                    String.format("Exported %d products as %s", exported, format));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the response is already committed
+            AppLogManager.warn(ProductExportServiceImpl.class, "Product export aborted: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            AppLogManager.error(ProductExportServiceImpl.class, "Error exporting products", e);
+            throw e;
+        }
+    }
+
+    private int writeWindow(List<Products> window, ProductExportWriter exportWriter) throws IOException {
+        if (window.isEmpty()) {
+            return 0;
+        }
+        productRepository.fetchDetails(window);
+        for (Products product : window) {
+            exportWriter.write(productMapper.toResponse(product));
+        }
+        exportWriter.flush();
+        int written = window.size();
+        window.clear();
+        // Detach the window; the cursor keeps its position
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.IOException;
+
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+
+/**
+ * Writes exported products to the response one at a time, so only the product
+ * being written is held in memory.
+ */
+public interface ProductExportWriter {
+
+    void write(ProductResponseDto product) throws IOException;
+
+    /**
+     * Sends everything written so far to the client without closing the stream.
+     */
+    void flush() throws IOException;
+}
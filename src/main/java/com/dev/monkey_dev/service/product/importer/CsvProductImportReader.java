@@ -0,0 +1,301 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductImageCreateDto;
+import com.dev.monkey_dev.dto.request.ProductVariationCreateDto;
+
+/**
+ * Reads products from CSV (RFC 4180: comma separated, optional double quotes,
+ * quoted fields may contain commas, quotes and line breaks).
+ *
+ * The first row is a header naming the columns, in any order and case:
+ * slug, title, description, price, sku, currency, weight, length, width, height,
+ * taxRate, isActive, isFeatured, isNew, categoryIds, imageUrls, variations.
+ * List columns are separated by {@code |}:
+ * <ul>
+ * <li>categoryIds: {@code 3|7}</li>
+ * <li>imageUrls: {@code https://a.png|https://b.png}; the first image is primary</li>
+ * <li>variations: {@code Size:L:5.00:10|Size:XL:7.50:4:SKU-XL}, i.e.
+ * name:value:priceAdjustment:stockQuantity[:sku]</li>
+ * </ul>
+ * An {@code id} column, as written by the catalog export, is ignored since ids
+ * are assigned on import. The {@code userId} of every row is the importing seller.
+ *
+ * A field longer than the configured maximum, or a quote that is never closed,
+ * fails only the row it is in. Characters past the maximum are skipped, so a
+ * malformed file never holds more than one row's worth of fields in memory.
+ */
+public class CsvProductImportReader implements ProductImportReader {
+
+    private static final List<String> COLUMNS = List.of("id", "slug", "title", "description", "price", "sku",
+            "currency", "weight", "length", "width", "height", "taxRate", "isActive", "isFeatured", "isNew",
+            "categoryIds", "imageUrls", "variations");
+    private static final String LIST_SEPARATOR = "|";
+
+    private final Reader reader;
+    private final Long sellerId;
+    private final int maxFieldLength;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final int columnCount;
+
+    // Line the current record starts on, and the line the reader is on
+    private long recordLine;
+    private long currentLine = 1;
+    private int pushedBack = -1;
+    // Why the last record cannot be used, null if it was read
+    private String recordError;
+
+    /**
+     * @param reader         Buffered reader over the file
+     * @param sellerId       Id of the importing seller
+     * @param maxFieldLength Longest accepted field, in characters
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the header is missing, malformed or names an unknown column
+     */
+    public CsvProductImportReader(Reader reader, Long sellerId, int maxFieldLength) throws IOException {
+        this.reader = reader;
+        this.sellerId = sellerId;
+        this.maxFieldLength = maxFieldLength;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header row is missing");
+        }
+        if (recordError != null) {
+            throw new IllegalArgumentException("CSV header row: " + recordError);
+        }
+        Map<String, String> knownColumns = new HashMap<>();
+        COLUMNS.forEach(column -> knownColumns.put(column.toLowerCase(Locale.ROOT), column));
+        for (int i = 0; i < header.size(); i++) {
+            String column = knownColumns.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + header.get(i));
+            }
+            columnIndexes.put(column, i);
+        }
+        this.columnCount = header.size();
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (recordError == null && fields.size() == 1 && fields.get(0).isBlank());
+
+        String slug = value(fields, "slug");
+        if (recordError != null) {
+            return ProductImportRow.invalid(recordLine, slug, recordError);
+        }
+        if (fields.size() != columnCount) {
+            return ProductImportRow.invalid(recordLine, slug,
+                    String.format("Expected %d columns but found %d", columnCount, fields.size()));
+        }
+        try {
+            return ProductImportRow.valid(recordLine, toProduct(fields));
+        } catch (IllegalArgumentException e) {
+            return ProductImportRow.invalid(recordLine, slug, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ProductCreateRequestDto toProduct(List<String> fields) {
+        return new ProductCreateRequestDto(
+                sellerId,
+                value(fields, "slug"),
+                value(fields, "title"),
+                value(fields, "description"),
+                decimal(fields, "price"),
+                value(fields, "sku"),
+                value(fields, "currency"),
+                decimal(fields, "weight"),
+                decimal(fields, "length"),
+                decimal(fields, "width"),
+                decimal(fields, "height"),
+                decimal(fields, "taxRate"),
+                bool(fields, "isActive"),
+                bool(fields, "isFeatured"),
+                bool(fields, "isNew"),
+                categoryIds(fields),
+                images(fields),
+                variations(fields));
+    }
+
+    private Set<Long> categoryIds(List<String> fields) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String id : list(fields, "categoryIds")) {
+            try {
+                ids.add(Long.valueOf(id));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("categoryIds: '" + id + "' is not a category id");
+            }
+        }
+        return ids;
+    }
+
+    private List<ProductImageCreateDto> images(List<String> fields) {
+        List<String> urls = list(fields, "imageUrls");
+        List<ProductImageCreateDto> images = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            images.add(new ProductImageCreateDto(urls.get(i), null, i, i == 0));
+        }
+        return images;
+    }
+
+    private List<ProductVariationCreateDto> variations(List<String> fields) {
+        List<ProductVariationCreateDto> variations = new ArrayList<>();
+        for (String variation : list(fields, "variations")) {
+            String[] parts = variation.split(":", -1);
+            if (parts.length < 4 || parts.length > 5) {
+                throw new IllegalArgumentException("variations: '" + variation
+                        + "' must be name:value:priceAdjustment:stockQuantity[:sku]");
+            }
+            try {
+                variations.add(new ProductVariationCreateDto(
+                        parts[0].trim(),
+                        parts[1].trim(),
+                        new BigDecimal(parts[2].trim()),
+                        parts.length == 5 ? StringUtils.trimToNull(parts[4]) : null,
+                        Integer.valueOf(parts[3].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("variations: '" + variation
+                        + "' has a non-numeric price adjustment or stock quantity");
+            }
+        }
+        return variations;
+    }
+
+    private String value(List<String> fields, String column) {
+        Integer index = columnIndexes.get(column);
+        return index != null && index < fields.size() ? StringUtils.trimToNull(fields.get(index)) : null;
+    }
+
+    private BigDecimal decimal(List<String> fields, String column) {
+        String value = value(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not a number");
+        }
+    }
+
+    private Boolean bool(List<String> fields, String column) {
+        String value = value(fields, column);
+        if (value == null) {
+            return null;
+        }
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            throw new IllegalArgumentException(column + ": '" + value + "' must be true or false");
+        }
+        return Boolean.valueOf(value);
+    }
+
+    private List<String> list(List<String> fields, String column) {
+        String value = value(fields, column);
+        if (value == null) {
+            return List.of();
+        }
+        List<String> items = new ArrayList<>();
+        for (String item : StringUtils.split(value, LIST_SEPARATOR)) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Reads the next record. If it is malformed, {@link #recordError} says why
+     * and the fields read so far are returned.
+     *
+     * @return Fields of the next record, or null at the end of the file
+     */
+    private List<String> readRecord() throws IOException {
+        recordError = null;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = currentLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    recordError = "Unterminated quoted field; the rest of the file was read as this row";
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        pushedBack = following;
+                    }
+                } else {
+                    if (c == '\n') {
+                        currentLine++;
+                    }
+                    append(field, c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    currentLine++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() < maxFieldLength) {
+            field.append((char) c);
+        } else if (recordError == null) {
+            recordError = "A field is longer than " + maxFieldLength + " characters";
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,24 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.InputStream;
+
+import com.dev.monkey_dev.dto.response.ProductImportJobDto;
+import com.dev.monkey_dev.enums.ProductFileFormat;
+
+public interface IProductImportService {
+
+    /**
+     * Stores the file and queues an import of its products for the current seller.
+     *
+     * @param format  File format
+     * @param content File content; read to the end before this method returns
+     * @return The queued job
+     */
+    ProductImportJobDto submitImport(ProductFileFormat format, InputStream content);
+
+    /**
+     * @param jobId Job id returned by {@link #submitImport}
+     * @return Current status of one of the current seller's jobs
+     */
+    ProductImportJobDto getImportJob(String jobId);
+}
@@ -0,0 +1,101 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads one {@link ProductCreateRequestDto} JSON object per line. Blank lines
+ * are skipped. The {@code userId} of every row is replaced by the importing seller.
+ * A line longer than the configured maximum fails its row; the characters past
+ * the maximum are skipped rather than held in memory.
+ */
+public class NdjsonProductImportReader implements ProductImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Long sellerId;
+    private final int maxLineLength;
+    private long lineNumber;
+    private boolean lineTooLong;
+
+    public NdjsonProductImportReader(BufferedReader reader, ObjectMapper objectMapper, Long sellerId,
+            int maxLineLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.sellerId = sellerId;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (!lineTooLong && StringUtils.isBlank(line));
+
+        if (lineTooLong) {
+            return ProductImportRow.invalid(lineNumber, null,
+                    "Line is longer than " + maxLineLength + " characters");
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!(node instanceof ObjectNode object)) {
+            return ProductImportRow.invalid(lineNumber, null, "Expected a JSON object");
+        }
+        String slug = object.path("slug").asText(null);
+        object.put("userId", sellerId);
+        try {
+            return ProductImportRow.valid(lineNumber, objectMapper.treeToValue(object, ProductCreateRequestDto.class));
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(lineNumber, slug, "Invalid product: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * @return The next line without its line break, cut at the maximum length,
+     *         or null at the end of the file
+     */
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        lineTooLong = false;
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (line.length() < maxLineLength) {
+                line.append((char) c);
+            } else if (c != '\r') {
+                lineTooLong = true;
+            }
+            c = reader.read();
+        }
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') {
+            line.setLength(end - 1);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,88 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.dev.monkey_dev.dto.response.ProductImportJobDto;
+import com.dev.monkey_dev.dto.response.ProductImportRowErrorDto;
+import com.dev.monkey_dev.enums.ProductFileFormat;
+import com.dev.monkey_dev.enums.ProductImportStatus;
+
+import lombok.Getter;
+
+/**
+ * Progress of one import. Updated by the worker running the import and read by
+ * status requests at any time, so every field is safe to read concurrently.
+ */
+public class ProductImportJob {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long sellerId;
+    @Getter
+    private final ProductFileFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ProductImportRowErrorDto> errors = new ArrayList<>();
+
+    private volatile ProductImportStatus status = ProductImportStatus.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ProductImportJob(String id, Long sellerId, ProductFileFormat format, int maxReportedErrors) {
+        this.id = id;
+        this.sellerId = sellerId;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = ProductImportStatus.RUNNING;
+    }
+
+    void rowRead() {
+        processedRows.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        importedRows.addAndGet(count);
+    }
+
+    void rowFailed(long line, String slug, String error) {
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportRowErrorDto(line, slug, error));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ProductImportStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        message = reason;
+        finishedAt = LocalDateTime.now();
+        status = ProductImportStatus.FAILED;
+    }
+
+    public ProductImportJobDto toDto() {
+        List<ProductImportRowErrorDto> reportedErrors;
+        synchronized (errors) {
+            reportedErrors = List.copyOf(errors);
+        }
+        return new ProductImportJobDto(id, format, status, processedRows.get(), importedRows.get(),
+                failedRows.get(), reportedErrors, message, createdAt, startedAt, finishedAt);
+    }
+}
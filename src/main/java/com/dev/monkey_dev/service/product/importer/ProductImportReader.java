@@ -0,0 +1,18 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads products from an import file one row at a time, so only the current
+ * row is held in memory.
+ */
+public interface ProductImportReader extends Closeable {
+
+    /**
+     * @return The next row, or null at the end of the file
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is malformed beyond a single row
+     */
+    ProductImportRow next() throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+
+/**
+ * One product read from an import file, or the reason it could not be read.
+ *
+ * @param line    Line number where the row starts (1-based)
+ * @param slug    Slug of the row, if it could be read
+ * @param product Parsed product, null when {@code error} is set
+ * @param error   Parse error, null when the row was read
+ */
+public record ProductImportRow(long line, String slug, ProductCreateRequestDto product, String error) {
+
+    public static ProductImportRow valid(long line, ProductCreateRequestDto product) {
+        return new ProductImportRow(line, product.slug(), product, null);
+    }
+
+    public static ProductImportRow invalid(long line, String slug, String error) {
+        return new ProductImportRow(line, slug, null, error);
+    }
+}
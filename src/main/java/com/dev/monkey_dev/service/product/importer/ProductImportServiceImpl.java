@@ -0,0 +1,269 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.respository.UserRepository;
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.response.ProductImportJobDto;
+import com.dev.monkey_dev.enums.ProductFileFormat;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.helper.AuthHelper;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.ProductImportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Runs bulk product imports as background jobs.
+ *
+ * The uploaded file is copied to a temporary file as it arrives, so the request
+ * returns as soon as the upload ends and the file is never held in memory.
+ * Uploads larger than {@code app.import.product.max-file-size} are cut off and
+ * rejected while they are copied. A
+ * worker then reads it row by row, validates each row with the same constraints
+ * as {@code POST /api/wb/v1/products}, and hands full chunks to
+ * {@link ProductImportWriter}. Job status is kept in memory until
+ * {@code app.import.product.job-retention} after the job was last updated.
+ */
+@Service
+public class ProductImportServiceImpl implements IProductImportService {
+
+    private static final String JOB_NOT_FOUND = "Product import job not found with id: %s";
+
+    private final ProductImportWriter writer;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ProductImportProperties properties;
+    private final Cache<String, ProductImportJob> jobs;
+    private final ThreadPoolExecutor workers;
+
+    public ProductImportServiceImpl(ProductImportWriter writer, UserRepository userRepository,
+            ObjectMapper objectMapper, Validator validator, ProductImportProperties properties) {
+        this.writer = writer;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(properties.jobRetention())
+                .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(properties.concurrentJobs(), properties.concurrentJobs(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.queueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "product-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public ProductImportJobDto submitImport(ProductFileFormat format, InputStream content) {
+        Path file = null;
+        try {
+            Long sellerId = AuthHelper.getUserId();
+            if (!userRepository.existsById(sellerId)) {
+                throw new BusinessException(StatusCode.USER_NOT_FOUND);
+            }
+
+            file = Files.createTempFile("product-import-", "." + format.getExtension());
+            copy(content, file);
+
+            ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), sellerId, format,
+                    properties.maxReportedErrors());
+            jobs.put(job.getId(), job);
+            Path queuedFile = file;
+            try {
+                workers.execute(() -> run(job, queuedFile));
+            } catch (RejectedExecutionException e) {
+                jobs.invalidate(job.getId());
+                throw new BusinessException(StatusCode.PRODUCT_IMPORT_QUEUE_FULL);
+            }
+            file = null;
+            AppLogManager.info(ProductImportServiceImpl.class, String.format(
+                    "Product import %s queued for seller %d (%s)", job.getId(), sellerId, format));
+            return job.toDto();
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            AppLogManager.error(ProductImportServiceImpl.class, "Error receiving product import", e);
+            throw new BusinessException(StatusCode.BAD_REQUEST,
+                    "Failed to receive import file: " + e.getMessage());
+        } finally {
+            // Still set only if the job was not queued
+            deleteQuietly(file);
+        }
+    }
+
+    @Override
+    public ProductImportJobDto getImportJob(String jobId) {
+        ProductImportJob job = jobs.getIfPresent(jobId);
+        // Other sellers' jobs are reported as missing rather than forbidden
+        if (job == null || !job.getSellerId().equals(AuthHelper.getUserId())) {
+            AppLogManager.warn(ProductImportServiceImpl.class, String.format(JOB_NOT_FOUND, jobId));
+            throw new BusinessException(StatusCode.PRODUCT_IMPORT_NOT_FOUND, String.format(JOB_NOT_FOUND, jobId));
+        }
+        return job.toDto();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Copies the upload to the file, stopping as soon as it is larger than the
+     * configured maximum.
+     */
+    private void copy(InputStream content, Path file) throws IOException {
+        long maxBytes = properties.maxFileSize().toBytes();
+        long copied = 0;
+        byte[] buffer = new byte[8192];
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                copied += read;
+                if (copied > maxBytes) {
+                    throw new BusinessException(StatusCode.PRODUCT_IMPORT_TOO_LARGE, String.format(
+                            "Import file is larger than %d MB", properties.maxFileSize().toMegabytes()));
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void run(ProductImportJob job, Path file) {
+        job.start();
+        // Slugs of the current chunk only; the writer finds duplicates of earlier
+        // chunks in the database, where they have been committed by then
+        Set<String> slugs = new HashSet<>();
+        List<ProductImportRow> chunk = new ArrayList<>(properties.chunkSize());
+        try (ProductImportReader reader = openReader(job, file)) {
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                job.rowRead();
+                String error = row.error() != null ? row.error() : validate(row.product());
+                if (error == null && !slugs.add(row.slug())) {
+                    error = "Duplicate slug in file";
+                }
+                if (error != null) {
+                    job.rowFailed(row.line(), row.slug(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == properties.chunkSize()) {
+                    writer.write(chunk, job.getSellerId(), job);
+                    chunk.clear();
+                    slugs.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writer.write(chunk, job.getSellerId(), job);
+            }
+            job.complete();
+            AppLogManager.info(ProductImportServiceImpl.class,
+                    String.format("Product import %s completed", job.getId()));
+        } catch (IllegalArgumentException e) {
+            job.fail(e.getMessage());
+            AppLogManager.warn(ProductImportServiceImpl.class,
+                    String.format("Product import %s rejected: %s", job.getId(), e.getMessage()));
+        } catch (Exception e) {
+            job.fail("Import aborted: " + ExceptionUtils.getRootCauseMessage(e));
+            AppLogManager.error(ProductImportServiceImpl.class, "Error running product import " + job.getId(), e);
+        } finally {
+            // Keep the finished job for the full retention period
+            jobs.put(job.getId(), job);
+            deleteQuietly(file);
+        }
+    }
+
+    private ProductImportReader openReader(ProductImportJob job, Path file) throws IOException {
+        BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            // Skip the byte order mark spreadsheet tools put in front of UTF-8 exports
+            in.mark(1);
+            if (in.read() != '\uFEFF') {
+                in.reset();
+            }
+            return switch (job.getFormat()) {
+                case CSV -> new CsvProductImportReader(in, job.getSellerId(), properties.maxFieldLength());
+                case NDJSON -> new NdjsonProductImportReader(in, objectMapper, job.getSellerId(),
+                        properties.maxFieldLength());
+            };
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Violations of the product and its images and variations, or null if valid
+     */
+    private String validate(ProductCreateRequestDto product) {
+        List<String> messages = new ArrayList<>();
+        addViolations(messages, "", validator.validate(product));
+        if (product.images() != null) {
+            for (int i = 0; i < product.images().size(); i++) {
+                validateElement(messages, "images[" + i + "]", product.images().get(i));
+            }
+        }
+        if (product.variations() != null) {
+            for (int i = 0; i < product.variations().size(); i++) {
+                validateElement(messages, "variations[" + i + "]", product.variations().get(i));
+            }
+        }
+        return messages.isEmpty() ? null : String.join("; ", messages);
+    }
+
+    private void validateElement(List<String> messages, String path, Object element) {
+        if (element == null) {
+            messages.add(path + " must not be null");
+        } else {
+            addViolations(messages, path + ".", validator.validate(element));
+        }
+    }
+
+    private static <T> void addViolations(List<String> messages, String prefix,
+            Set<ConstraintViolation<T>> violations) {
+        violations.stream()
+                .map(violation -> prefix + violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .forEach(messages::add);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            AppLogManager.warn(ProductImportServiceImpl.class, "Could not delete import file " + file);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.monkey_dev.domain.entity.ProductImage;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.domain.respository.CategoryRepository;
+import com.dev.monkey_dev.domain.respository.ProductImageRepository;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.domain.respository.ProductVariationRepository;
+import com.dev.monkey_dev.domain.respository.UserRepository;
+import com.dev.monkey_dev.dto.mapper.ProductMapper;
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.service.inventory.IStockLedgerService;
+import com.dev.monkey_dev.service.product.ProductChangedEvent;
+
+/**
+ * Writes one chunk of validated import rows.
+ *
+ * Slugs and category ids of the whole chunk are checked with one query each,
+ * then products, category links, images, variations and their inventory rows
+ * are saved in a single transaction. Sequence ids let Hibernate send each
+ * table as JDBC batches.
+ * If the transaction fails, the chunk is retried one row per transaction so
+ * only the offending rows are rejected.
+ */
+@Component
+class ProductImportWriter {
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ProductVariationRepository productVariationRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IStockLedgerService stockLedgerService;
+    private final TransactionTemplate transaction;
+
+    ProductImportWriter(ProductRepository productRepository, ProductImageRepository productImageRepository,
+            ProductVariationRepository productVariationRepository, CategoryRepository categoryRepository,
+            UserRepository userRepository, ProductMapper productMapper, ApplicationEventPublisher eventPublisher,
+            IStockLedgerService stockLedgerService, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.productVariationRepository = productVariationRepository;
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+        this.stockLedgerService = stockLedgerService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param rows     Rows that passed validation, each with a slug unique within the chunk
+     * @param sellerId Id of the importing seller
+     * @param job      Job to report imported and failed rows to
+     */
+    void write(List<ProductImportRow> rows, Long sellerId, ProductImportJob job) {
+        Set<String> existingSlugs = productRepository.findExistingSlugs(
+                rows.stream().map(ProductImportRow::slug).toList());
+        Set<Long> existingCategoryIds = categoryRepository.findExistingIds(rows.stream()
+                .flatMap(row -> row.product().categoryIds().stream())
+                .collect(Collectors.toSet()));
+
+        List<ProductImportRow> writable = new ArrayList<>(rows.size());
+        for (ProductImportRow row : rows) {
+            Set<Long> missingCategoryIds = new HashSet<>(row.product().categoryIds());
+            missingCategoryIds.removeAll(existingCategoryIds);
+            if (existingSlugs.contains(row.slug())) {
+                job.rowFailed(row.line(), row.slug(), "A product with this slug already exists");
+            } else if (!missingCategoryIds.isEmpty()) {
+                job.rowFailed(row.line(), row.slug(), "Categories not found: " + missingCategoryIds);
+            } else {
+                writable.add(row);
+            }
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+
+        try {
+            saved(transaction.execute(status -> save(writable, sellerId)), job);
+        } catch (RuntimeException e) {
+            AppLogManager.warn(ProductImportWriter.class, String.format(
+                    "Import %s: chunk of %d rows failed, retrying row by row: %s", job.getId(), writable.size(),
+                    ExceptionUtils.getRootCauseMessage(e)));
+            for (ProductImportRow row : writable) {
+                try {
+                    saved(transaction.execute(status -> save(List.of(row), sellerId)), job);
+                } catch (RuntimeException rowError) {
+                    job.rowFailed(row.line(), row.slug(),
+                            "Could not be saved: " + ExceptionUtils.getRootCauseMessage(rowError));
+                }
+            }
+        }
+    }
+
+    private List<Long> save(List<ProductImportRow> rows, Long sellerId) {
+        Users seller = userRepository.getReferenceById(sellerId);
+        List<Products> products = new ArrayList<>(rows.size());
+        List<ProductImage> images = new ArrayList<>();
+        List<ProductVariation> variations = new ArrayList<>();
+        for (ProductImportRow row : rows) {
+            ProductCreateRequestDto dto = row.product();
+            Products product = productMapper.toEntity(dto);
+            product.setUser(seller);
+            product.setCategories(dto.categoryIds().stream()
+                    .map(categoryRepository::getReferenceById)
+                    .collect(Collectors.toSet()));
+            if (dto.images() != null) {
+                if (!dto.images().isEmpty()) {
+                    product.setImageUrl(dto.images().get(0).imageUrl());
+                }
+                dto.images().forEach(image -> images.add(productMapper.toImageEntity(image, product)));
+            }
+            if (dto.variations() != null) {
+                dto.variations().forEach(variation -> variations.add(
+                        productMapper.toVariationEntity(variation, product)));
+            }
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+        productImageRepository.saveAll(images);
+        stockLedgerService.openStock(productVariationRepository.saveAll(variations));
+        return products.stream().map(Products::getId).toList();
+    }
+
+    private void saved(List<Long> productIds, ProductImportJob job) {
+        job.rowsImported(productIds.size());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productIds));
+    }
+}
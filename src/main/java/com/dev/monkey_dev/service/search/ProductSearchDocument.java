@@ -0,0 +1,19 @@
+package com.dev.monkey_dev.service.search;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * The searchable projection of an active product held by {@link ProductSearchIndex}.
+ *
+ * @param id            Product id
+ * @param title         Product title
+ * @param description   Product description
+ * @param sku           Product SKU (may be null)
+ * @param price         Product price, used for the price facet
+ * @param categorySlugs Slugs of the product's categories
+ */
+public record ProductSearchDocument(Long id, String title, String description, String sku, BigDecimal price,
+        Set<String> categorySlugs) {
+
+}
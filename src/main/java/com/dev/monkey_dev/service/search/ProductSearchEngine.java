@@ -0,0 +1,201 @@
+package com.dev.monkey_dev.service.search;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.logging.AppLogManager;
+import com.dev.monkey_dev.properties.ProductSearchProperties;
+import com.dev.monkey_dev.service.product.ProductChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Owns the in-memory {@link ProductSearchIndex}: builds it once the application
+ * is ready by streaming active products from the database, and keeps it current
+ * from {@link ProductChangedEvent}s after their transaction commits.
+ *
+ * All index writes run on a single background thread, so a rebuild and the
+ * incremental updates queued behind it are applied in order and never block
+ * the request that changed the product. A rebuild fills a fresh index and swaps
+ * it in, so searches keep using the previous one until it completes. A failed
+ * rebuild is retried after {@code app.search.product.rebuild-retry-delay},
+ * doubling up to {@code rebuild-retry-max-delay}, until one succeeds.
+ */
+@Component
+public class ProductSearchEngine {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService indexWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // null until the first build completes
+    private volatile ProductSearchIndex index;
+    // Only used on the indexer thread
+    private int failedRebuilds;
+    private ScheduledFuture<?> retry;
+
+    public ProductSearchEngine(ProductRepository productRepository, ProductSearchProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.enabled()) {
+            indexWriter.execute(this::rebuild);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (event.allProducts()) {
+            indexWriter.execute(this::rebuild);
+        } else {
+            Set<Long> productIds = event.productIds();
+            indexWriter.execute(() -> reindex(productIds));
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query        Raw user search text
+     * @param categorySlug Optional category slug filter
+     * @param offset       Number of best matches to skip
+     * @param limit        Maximum number of ids to return
+     * @return Matching product ids with facet counts
+     * @throws BusinessException if the index has not been built yet
+     */
+    public ProductSearchResult search(String query, String categorySlug, int offset, int limit) {
+        ProductSearchIndex current = index;
+        if (current == null) {
+            throw new BusinessException(StatusCode.SEARCH_INDEX_NOT_READY, "Search index is not ready");
+        }
+        return current.search(query, categorySlug, offset, limit);
+    }
+
+    private void rebuild() {
+        // A rebuild requested meanwhile replaces the pending retry
+        if (retry != null) {
+            retry.cancel(false);
+            retry = null;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            ProductSearchIndex fresh = new ProductSearchIndex(properties.priceBuckets(),
+                    properties.maxPrefixExpansions());
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = productRepository.streamActiveSearchDocumentRows()) {
+                    forEachDocument(rows.iterator(), fresh::index);
+                }
+            });
+            index = fresh;
+            failedRebuilds = 0;
+            AppLogManager.info(ProductSearchEngine.class,
+                    String.format("Product search index built with %d products in %d ms", fresh.size(),
+                            System.currentTimeMillis() - start));
+        } catch (Exception e) {
+            failedRebuilds++;
+            long delay = retryDelayMillis();
+            AppLogManager.error(ProductSearchEngine.class,
+                    String.format("Error building product search index (attempt %d), retrying in %d ms",
+                            failedRebuilds, delay), e);
+            retry = indexWriter.schedule(this::rebuild, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long retryDelayMillis() {
+        long maxDelay = properties.rebuildRetryMaxDelay().toMillis();
+        long delay = properties.rebuildRetryDelay().toMillis();
+        for (int i = 1; i < failedRebuilds && delay < maxDelay; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxDelay);
+    }
+
+    private void reindex(Set<Long> productIds) {
+        ProductSearchIndex current = index;
+        if (current == null || productIds.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Long> remaining = new HashSet<>(productIds);
+            readOnlyTransaction.executeWithoutResult(status -> forEachDocument(
+                    productRepository.findActiveSearchDocumentRowsByIdIn(productIds).iterator(),
+                    document -> {
+                        current.index(document);
+                        remaining.remove(document.id());
+                    }));
+            // Ids that are no longer returned were deactivated or deleted
+            remaining.forEach(current::remove);
+            AppLogManager.debug(ProductSearchEngine.class,
+                    "Product search index updated for ids: {}", productIds);
+        } catch (Exception e) {
+            AppLogManager.error(ProductSearchEngine.class,
+                    String.format("Error updating product search index for ids: %s", productIds), e);
+        }
+    }
+
+    // Folds the (product, category slug) rows of each product into one document
+    private static void forEachDocument(Iterator<Object[]> rows, Consumer<ProductSearchDocument> consumer) {
+        Object[] current = null;
+        Set<String> categorySlugs = new HashSet<>();
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            if (current != null && !current[0].equals(row[0])) {
+                consumer.accept(toDocument(current, categorySlugs));
+                current = null;
+                categorySlugs = new HashSet<>();
+            }
+            if (current == null) {
+                current = row;
+            }
+            if (row[5] != null) {
+                categorySlugs.add((String) row[5]);
+            }
+        }
+        if (current != null) {
+            consumer.accept(toDocument(current, categorySlugs));
+        }
+    }
+
+    private static ProductSearchDocument toDocument(Object[] row, Set<String> categorySlugs) {
+        return new ProductSearchDocument((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (BigDecimal) row[4], Set.copyOf(categorySlugs));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexWriter.shutdownNow();
+    }
+}
@@ -0,0 +1,246 @@
+package com.dev.monkey_dev.service.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.dev.monkey_dev.common.PriceBuckets;
+import com.dev.monkey_dev.util.StringUtils;
+
+/**
+ * In-memory inverted index over {@link ProductSearchDocument}s with BM25 ranking.
+ *
+ * Title and SKU terms count three times, category slug terms twice and
+ * description terms once, so a title match outranks the same word in a
+ * description. Every query word must match; the last word also matches as a
+ * prefix so results follow the user while they type. A prefix expands to at
+ * most {@code maxPrefixExpansions} terms, those found in the most products.
+ *
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKU_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // term -> (product id -> weighted term frequency); sorted for prefix lookups
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PriceBuckets priceBuckets;
+    private final int maxPrefixExpansions;
+    private long totalLength;
+
+    private record IndexedDocument(ProductSearchDocument source, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record ScoredId(Long id, double score) {
+    }
+
+    public ProductSearchIndex(List<BigDecimal> priceBuckets, int maxPrefixExpansions) {
+        this.priceBuckets = new PriceBuckets(priceBuckets);
+        this.maxPrefixExpansions = maxPrefixExpansions;
+    }
+
+    /**
+     * Adds a product, replacing any previous version of it.
+     *
+     * @param document Product to index
+     */
+    public void index(ProductSearchDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, document.title(), TITLE_WEIGHT);
+        addTerms(termFrequencies, document.sku(), SKU_WEIGHT);
+        document.categorySlugs().forEach(slug -> addTerms(termFrequencies, slug, CATEGORY_WEIGHT));
+        addTerms(termFrequencies, document.description(), DESCRIPTION_WEIGHT);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            documents.put(document.id(), new IndexedDocument(document, termFrequencies, length));
+            termFrequencies.forEach((term, frequency) -> postings
+                    .computeIfAbsent(term, key -> new HashMap<>())
+                    .put(document.id(), frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a product; unknown ids are ignored.
+     *
+     * @param productId Product id
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds products matching every word of the query.
+     *
+     * @param query        Raw user search text
+     * @param categorySlug Only return products in this category (null for all)
+     * @param offset       Number of best matches to skip
+     * @param limit        Maximum number of ids to return
+     * @return Page of ids with facet counts, empty if the query has no searchable words
+     */
+    public ProductSearchResult search(String query, String categorySlug, int offset, int limit) {
+        List<String> terms = StringUtils.toSearchTerms(query).stream()
+                .limit(StringUtils.MAX_SEARCH_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Double> termScores = scoreTerm(terms.get(i), i == terms.size() - 1);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return ProductSearchResult.empty();
+                }
+            }
+
+            Map<String, Long> categoryFacets = new HashMap<>();
+            Map<String, Long> priceFacets = new LinkedHashMap<>();
+            priceBuckets.getLabels().forEach(label -> priceFacets.put(label, 0L));
+            List<ScoredId> matches = new ArrayList<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                ProductSearchDocument document = documents.get(entry.getKey()).source();
+                document.categorySlugs().forEach(slug -> categoryFacets.merge(slug, 1L, Long::sum));
+                if (categorySlug != null && !document.categorySlugs().contains(categorySlug)) {
+                    continue;
+                }
+                if (document.price() != null) {
+                    priceFacets.merge(priceBuckets.label(priceBuckets.indexOf(document.price())), 1L, Long::sum);
+                }
+                matches.add(new ScoredId(entry.getKey(), entry.getValue()));
+            }
+
+            List<Long> page = matches.stream()
+                    .sorted(Comparator.comparingDouble(ScoredId::score).reversed()
+                            .thenComparing(ScoredId::id, Comparator.reverseOrder()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(ScoredId::id)
+                    .toList();
+            return new ProductSearchResult(page, matches.size(), sortByCountDesc(categoryFacets), priceFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25 score per product for one query word; a prefix word keeps its best expansion
+    private Map<Long, Double> scoreTerm(String term, boolean prefix) {
+        Map<String, Map<Long, Integer>> matchingTerms;
+        if (prefix) {
+            matchingTerms = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        } else {
+            Map<Long, Integer> exact = postings.get(term);
+            matchingTerms = exact != null ? Map.of(term, exact) : Map.of();
+        }
+
+        int documentCount = documents.size();
+        double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, Integer> termPostings : mostFrequent(matchingTerms.values())) {
+            int documentFrequency = termPostings.size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            termPostings.forEach((productId, frequency) -> {
+                double lengthNorm = 1 - B + B * documents.get(productId).length() / averageLength;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                scores.merge(productId, score, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    // The maxPrefixExpansions terms found in the most products, not the alphabetically first
+    private Collection<Map<Long, Integer>> mostFrequent(Collection<Map<Long, Integer>> matchingTerms) {
+        if (matchingTerms.size() <= maxPrefixExpansions) {
+            return matchingTerms;
+        }
+        PriorityQueue<Map<Long, Integer>> top = new PriorityQueue<>(Comparator.comparingInt(Map::size));
+        for (Map<Long, Integer> termPostings : matchingTerms) {
+            top.add(termPostings);
+            if (top.size() > maxPrefixExpansions) {
+                top.poll();
+            }
+        }
+        return top;
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> smaller = left.size() <= right.size() ? left : right;
+        Map<Long, Double> larger = smaller == left ? right : left;
+        Map<Long, Double> result = new HashMap<>();
+        smaller.forEach((productId, score) -> {
+            Double other = larger.get(productId);
+            if (other != null) {
+                result.put(productId, score + other);
+            }
+        });
+        return result;
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedDocument previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        previous.termFrequencies().keySet().forEach(term -> {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(productId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= previous.length();
+    }
+
+    private static void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        StringUtils.toSearchTerms(text).forEach(term -> termFrequencies.merge(term, weight, Integer::sum));
+    }
+
+    private static Map<String, Long> sortByCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dev.monkey_dev.service.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of product ids from {@link ProductSearchIndex}, best match first,
+ * together with facet counts over all matches.
+ *
+ * @param productIds     Ids of the requested page, in score order
+ * @param total          Number of matching products after filters
+ * @param categoryFacets Matching products per category slug, most frequent first.
+ *                       Counted before the category filter so other categories stay selectable.
+ * @param priceFacets    Matching products per price bucket (e.g. "25-50", "500+"), in price order
+ */
+public record ProductSearchResult(List<Long> productIds, long total, Map<String, Long> categoryFacets,
+        Map<String, Long> priceFacets) {
+
+    public static ProductSearchResult empty() {
+        return new ProductSearchResult(List.of(), 0, Map.of(), Map.of());
+    }
+}
@@ -10,27 +10,21 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 public class UserAuthServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
+    /**
+     * Loads the user once for the whole login; AuthServiceImpl.login reuses the
+     * returned entity instead of querying it again.
+     */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public SecurityUser loadUserByUsername(String username) {
-        List<Users> users = userRepository.findByUsername(username);
-
-        if (users.isEmpty()) {
-            throw new UsernameNotFoundException("User not found with username: " + username);
-        }
-
-        Users user = users.get(0);
-
-        return new SecurityUser(
-                user);
+        Users user = userRepository.findOneByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
+        return new SecurityUser(user);
     }
 }
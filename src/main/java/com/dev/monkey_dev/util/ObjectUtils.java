@@ -1,47 +1,89 @@
 package com.dev.monkey_dev.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.dev.monkey_dev.logging.AppLogManager;
 
 import org.springframework.http.HttpMethod;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * JSON helpers backed by one shared, fully configured {@link ObjectMapper}.
+ *
+ * The mapper is never reconfigured after class initialization. Each output
+ * style has its own immutable {@link ObjectWriter} (pretty, compact), so the
+ * helpers are safe to call from any thread. The writers also reuse Jackson's
+ * per-thread buffers instead of allocating new ones on each call.
+ */
 public class ObjectUtils {
+
+    /**
+     * Default maximum length of {@link #writeValueForLog(Object)} output.
+     */
+    public static final int DEFAULT_LOG_LIMIT = 2048;
+
+    private static final String TRUNCATED = "...(truncated)";
+
     static private final ObjectMapper mapper;
+    static private final ObjectWriter prettyWriter;
+    static private final ObjectWriter compactWriter;
+    static private final ObjectWriter streamWriter;
+    static private final ObjectReader reader;
 
     static {
         mapper = new ObjectMapper();
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
         mapper.setSerializationInclusion(JsonInclude.Include.ALWAYS);
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mapper.registerModule(new JavaTimeModule());
 
+        prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        compactWriter = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        streamWriter = compactWriter.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        reader = mapper.reader();
     }
 
+    /**
+     * Serializes a value as indented JSON.
+     *
+     * @return the JSON, or null if the value cannot be serialized
+     */
     public static String writeValueAsString(Object value) {
         try {
-            return mapper.writeValueAsString(value);
+            return prettyWriter.writeValueAsString(value);
         } catch (JsonProcessingException e) {
-            e.printStackTrace();
+            AppLogManager.error(e);
         }
 
         return null;
     }
 
+    /**
+     * Serializes a value as compact JSON straight to a stream, without building
+     * an intermediate String or byte array. The stream is left open.
+     *
+     * @throws IOException if the value cannot be serialized or the stream fails
+     */
+    public static void writeValue(OutputStream out, Object value) throws IOException {
+        streamWriter.writeValue(out, value);
+    }
+
     // Convert POJO to Map
     public static String convertPojoToMap(Object pojo) {
-        ObjectMapper mapper = new ObjectMapper();
         Map<String, Object> map = mapper.convertValue(pojo, new TypeReference<Map<String, Object>>() {
         });
         return map.entrySet().stream().map(x -> {
@@ -54,7 +96,7 @@ public class ObjectUtils {
 
     public static <T> T readValue(String str, TypeReference<T> tr) {
         try {
-            return mapper.readValue(str, tr);
+            return reader.forType(tr).readValue(str);
         } catch (Exception e) {
             AppLogManager.error(e);
         }
@@ -64,17 +106,16 @@ public class ObjectUtils {
 
     public static String writerWithDefaultPrettyPrinter(Object value) {
         try {
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+            return prettyWriter.writeValueAsString(value);
         } catch (JsonProcessingException e) {
-            e.printStackTrace();
+            AppLogManager.error(e);
         }
         return String.valueOf(value);
     }
 
     public static String writeValueAsSingleLineString(Object value) {
         try {
-            mapper.disable(SerializationFeature.INDENT_OUTPUT);
-            return mapper.writeValueAsString(value);
+            return compactWriter.writeValueAsString(value);
         } catch (JsonProcessingException e) {
             // AppLogManager.error(e);
         }
@@ -82,6 +123,35 @@ public class ObjectUtils {
         return String.valueOf(value);
     }
 
+    /**
+     * Serializes a value as compact JSON for a log line, capped at
+     * {@link #DEFAULT_LOG_LIMIT} characters.
+     */
+    public static String writeValueForLog(Object value) {
+        return writeValueForLog(value, DEFAULT_LOG_LIMIT);
+    }
+
+    /**
+     * Serializes a value as compact JSON for a log line. Serialization stops as
+     * soon as {@code maxChars} characters have been produced, so large values
+     * (e.g. a page of products) cost no more than the part that is kept.
+     *
+     * @param value    the value to serialize
+     * @param maxChars maximum number of JSON characters kept
+     * @return the JSON, suffixed with {@code ...(truncated)} if it was cut
+     */
+    public static String writeValueForLog(Object value, int maxChars) {
+        LimitedWriter out = new LimitedWriter(maxChars);
+        try {
+            compactWriter.writeValue(out, value);
+        } catch (IOException e) {
+            if (!out.isTruncated()) {
+                return String.valueOf(value);
+            }
+        }
+        return out.isTruncated() ? out + TRUNCATED : out.toString();
+    }
+
     public static StringBuilder logBeforeRequest(String url, HttpMethod httpMethod, Object request) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("\n[Request]\n")
@@ -108,4 +178,45 @@ public class ObjectUtils {
                 .append("]\n");
         return sb;
     }
+
+    /**
+     * Collects up to a fixed number of characters, then aborts serialization.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+        private boolean truncated;
+
+        LimitedWriter(int limit) {
+            this.limit = Math.max(limit, 0);
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            int keep = Math.min(len, limit - buffer.length());
+            buffer.append(cbuf, off, keep);
+            if (keep < len) {
+                truncated = true;
+                throw new IOException("Log limit of " + limit + " characters reached");
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
 }
@@ -4,23 +4,39 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.codec.Hex;
 import org.springframework.stereotype.Component;
 
+import com.dev.monkey_dev.logging.AppLogManager;
+
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.UUID;
 
+/**
+ * AES helper for the passwords the clients send encrypted.
+ *
+ * The key and IV are derived once, when the encryption key is set, and each
+ * thread keeps its own initialized {@link Cipher} pair. CBC with PKCS5 padding
+ * returns to its initial state after every {@code doFinal}, so a cipher is only
+ * initialized again after a failure or when the key changes.
+ */
 @Component
 public class PasswordUtils {
     private static final String CIPHER_INSTANCE_NAME = "AES/CBC/PKCS5Padding";
     private static final String SECRET_KEY_ALGORITHM = "AES";
     public static String ENCRYPTION_KEY;
 
+    private static volatile KeyMaterial keyMaterial;
+    private static final ThreadLocal<ThreadCiphers> CIPHERS = new ThreadLocal<>();
+
     @Value("${password.encryption.key}")
     public void setEncryptionKey(String encryptionKey) {
         ENCRYPTION_KEY = encryptionKey;
+        keyMaterial = KeyMaterial.derive(encryptionKey);
     }
 
     public static String generateKey() {
@@ -34,45 +50,34 @@ public class PasswordUtils {
             return new String(Hex.encode(hash));
 
         } catch (Exception e) {
-            e.printStackTrace();
+            AppLogManager.error(e);
         }
 
         return null;
     }
 
-    private static Cipher prepareAndInitCipher(int encryptionMode) throws Exception {
-        byte[] secretKey = getKey(ENCRYPTION_KEY);
-        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey, SECRET_KEY_ALGORITHM);
-
-        String iv = new String(Hex.encode(secretKey)).substring(0, 16);
-        IvParameterSpec algorithmParameters = new IvParameterSpec(iv.getBytes());
-
-        Cipher cipher = Cipher.getInstance(CIPHER_INSTANCE_NAME);
-        cipher.init(encryptionMode, secretKeySpec, algorithmParameters);
-
-        return cipher;
-    }
-
-    private static byte[] getKey(String originalKey) throws Exception {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        return digest.digest(originalKey.getBytes());
+    private static ThreadCiphers ciphers() throws GeneralSecurityException {
+        KeyMaterial current = keyMaterial;
+        if (current == null) {
+            throw new IllegalStateException("Password encryption key is not configured");
+        }
+        ThreadCiphers ciphers = CIPHERS.get();
+        if (ciphers == null || ciphers.keyMaterial != current) {
+            ciphers = new ThreadCiphers(current);
+            CIPHERS.set(ciphers);
+        }
+        return ciphers;
     }
 
     public static String encrypt(String plainText) {
         try {
-
-            byte[] dataBytes = plainText.getBytes();
-            int plaintextLength = dataBytes.length;
-            byte[] plaintext = new byte[plaintextLength];
-            System.arraycopy(dataBytes, 0, plaintext, 0, dataBytes.length);
-
-            Cipher cipher = prepareAndInitCipher(Cipher.ENCRYPT_MODE);
-
-            byte[] encrypted = cipher.doFinal(plaintext);
-            return new String(Base64.getEncoder().encode(encrypted));
+            byte[] encrypted = ciphers().encrypt.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(encrypted);
 
         } catch (Exception e) {
-            e.printStackTrace();
+            // A failed doFinal may leave the cipher mid-operation
+            CIPHERS.remove();
+            AppLogManager.error(e);
             return null;
         }
     }
@@ -80,10 +85,14 @@ public class PasswordUtils {
     public static String decrypt(String encryptedText) throws Exception {
         byte[] encrypted = Base64.getDecoder().decode(encryptedText);
 
-        Cipher cipher = prepareAndInitCipher(Cipher.DECRYPT_MODE);
-
-        byte[] original = cipher.doFinal(encrypted);
-        return new String(original);
+        try {
+            byte[] original = ciphers().decrypt.doFinal(encrypted);
+            return new String(original, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            // A failed doFinal may leave the cipher mid-operation
+            CIPHERS.remove();
+            throw e;
+        }
     }
 
     public static String byteArrayToHex(byte[] a) {
@@ -108,4 +117,38 @@ public class PasswordUtils {
         // System.out.println(Hex.encode(keyBtye));
         // System.out.println(byteArrayToHex(keyBtye));
     }
+
+    /**
+     * Key and IV derived from the configured encryption key: the key is the
+     * SHA-256 of the configured value and the IV the first 16 hex characters of
+     * that key.
+     */
+    private record KeyMaterial(SecretKeySpec key, IvParameterSpec iv) {
+
+        static KeyMaterial derive(String encryptionKey) {
+            try {
+                byte[] secretKey = MessageDigest.getInstance("SHA-256")
+                        .digest(encryptionKey.getBytes(StandardCharsets.UTF_8));
+                byte[] iv = new String(Hex.encode(secretKey), 0, 16).getBytes(StandardCharsets.US_ASCII);
+                return new KeyMaterial(new SecretKeySpec(secretKey, SECRET_KEY_ALGORITHM), new IvParameterSpec(iv));
+            } catch (NoSuchAlgorithmException e) {
+                // Every Java platform is required to support SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class ThreadCiphers {
+        private final KeyMaterial keyMaterial;
+        private final Cipher encrypt;
+        private final Cipher decrypt;
+
+        private ThreadCiphers(KeyMaterial keyMaterial) throws GeneralSecurityException {
+            this.keyMaterial = keyMaterial;
+            this.encrypt = Cipher.getInstance(CIPHER_INSTANCE_NAME);
+            this.encrypt.init(Cipher.ENCRYPT_MODE, keyMaterial.key(), keyMaterial.iv());
+            this.decrypt = Cipher.getInstance(CIPHER_INSTANCE_NAME);
+            this.decrypt.init(Cipher.DECRYPT_MODE, keyMaterial.key(), keyMaterial.iv());
+        }
+    }
 }
@@ -1,10 +1,15 @@
 package com.dev.monkey_dev.util;
 
 import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 public class StringUtils extends org.apache.commons.lang3.StringUtils {
     private static final String ZERO_WIDTH_SPACE = "\u200B";
     private static final String NON_BREAKING_SPACE = "\u00A0";
+    public static final int MAX_SEARCH_TERMS = 8;
 
     public static boolean isNotNullOrEmpty(String... strs) {
         for (String str : strs) {
@@ -46,4 +51,36 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
         return Normalizer.normalize(str, Normalizer.Form.NFD)
                 .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
     }
+
+    /**
+     * Splits text into lower-case search terms. Anything that is not a letter or
+     * digit is a separator, e.g. "Red T-Shirt" -> [red, t, shirt].
+     *
+     * @param input raw text
+     * @return search terms in input order, empty if there are none
+     */
+    public static List<String> toSearchTerms(String input) {
+        if (input == null) {
+            return List.of();
+        }
+        return Arrays.stream(input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Builds a PostgreSQL tsquery that prefix-matches every word of the input,
+     * e.g. "Red sho" -> "red:* & sho:*". Anything that is not a letter or digit
+     * (including tsquery operators) is treated as a separator.
+     *
+     * @param input raw user search text
+     * @return tsquery string, or null if the input contains no searchable words
+     */
+    public static String toPrefixTsQuery(String input) {
+        String query = toSearchTerms(input).stream()
+                .limit(MAX_SEARCH_TERMS)
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
 }
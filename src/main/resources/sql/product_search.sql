@@ -0,0 +1,116 @@
+-- Full-text search over products, applied by ProductSearchSchema on every startup
+-- and safe to run again (also by hand with psql -f). The column is not mapped on
+-- Products, so a schema created by Hibernate does not have it.
+--
+-- The column, indexes and triggers are only created when the catalog lacks them, so
+-- a start against an up-to-date schema takes no lock on products. Serialized with an
+-- advisory lock so instances starting together do not both try to create them; the
+-- caller runs the file in one transaction. Rows written before the triggers existed
+-- are backfilled afterwards by ProductSearchSchema, in batches outside this transaction.
+-- An existing trigger is never replaced, so a changed definition needs a new trigger name.
+SELECT pg_advisory_xact_lock(hashtext('products_search_vector'));
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                 WHERE table_schema = current_schema() AND table_name = 'products'
+                   AND column_name = 'search_vector') THEN
+    ALTER TABLE products ADD COLUMN search_vector TSVECTOR;
+  END IF;
+  IF to_regclass('idx_products_search_vector') IS NULL THEN
+    CREATE INDEX idx_products_search_vector ON products USING GIN (search_vector);
+  END IF;
+  -- Stays empty once the backfill is done, so finding rows to backfill costs nothing
+  IF to_regclass('idx_products_search_vector_missing') IS NULL THEN
+    CREATE INDEX idx_products_search_vector_missing ON products (id) WHERE search_vector IS NULL;
+  END IF;
+END
+$$;
+
+-- products.search_vector is maintained by the triggers below from title and sku (weight A),
+-- category names (weight B) and description (weight C). The 'simple' configuration is used
+-- so prefix (type-ahead) matching is not affected by stemming.
+CREATE OR REPLACE FUNCTION products_search_vector(p_id BIGINT, p_title TEXT, p_sku TEXT, p_description TEXT)
+RETURNS TSVECTOR LANGUAGE sql STABLE AS $$
+  SELECT setweight(to_tsvector('simple', coalesce(p_title, '')), 'A')
+      || setweight(to_tsvector('simple', coalesce(p_sku, '')), 'A')
+      || setweight(to_tsvector('simple', coalesce((
+           SELECT string_agg(c.name, ' ')
+           FROM product_categories pc
+           JOIN categories c ON c.id = pc.category_id
+           WHERE pc.product_id = p_id), '')), 'B')
+      || setweight(to_tsvector('simple', coalesce(p_description, '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION trg_products_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+  NEW.search_vector := products_search_vector(NEW.id, NEW.title, NEW.sku, NEW.description);
+  RETURN NEW;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                 WHERE tgname = 'trg_products_search_vector' AND tgrelid = 'products'::regclass) THEN
+    CREATE TRIGGER trg_products_search_vector
+      BEFORE INSERT OR UPDATE OF title, sku, description ON products
+      FOR EACH ROW EXECUTE FUNCTION trg_products_search_vector();
+  END IF;
+END
+$$;
+
+-- Statement-level so bulk membership changes refresh each product once
+CREATE OR REPLACE FUNCTION trg_product_categories_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+  UPDATE products p
+  SET search_vector = products_search_vector(p.id, p.title, p.sku, p.description)
+  WHERE p.id IN (SELECT DISTINCT product_id FROM changed_rows);
+  RETURN NULL;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                 WHERE tgname = 'trg_product_categories_insert_search_vector' AND tgrelid = 'product_categories'::regclass) THEN
+    CREATE TRIGGER trg_product_categories_insert_search_vector
+      AFTER INSERT ON product_categories
+      REFERENCING NEW TABLE AS changed_rows
+      FOR EACH STATEMENT EXECUTE FUNCTION trg_product_categories_search_vector();
+  END IF;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                 WHERE tgname = 'trg_product_categories_delete_search_vector' AND tgrelid = 'product_categories'::regclass) THEN
+    CREATE TRIGGER trg_product_categories_delete_search_vector
+      AFTER DELETE ON product_categories
+      REFERENCING OLD TABLE AS changed_rows
+      FOR EACH STATEMENT EXECUTE FUNCTION trg_product_categories_search_vector();
+  END IF;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION trg_categories_search_vector() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+  UPDATE products p
+  SET search_vector = products_search_vector(p.id, p.title, p.sku, p.description)
+  WHERE p.id IN (SELECT pc.product_id FROM product_categories pc WHERE pc.category_id = NEW.id);
+  RETURN NULL;
+END
+$$;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                 WHERE tgname = 'trg_categories_search_vector' AND tgrelid = 'categories'::regclass) THEN
+    CREATE TRIGGER trg_categories_search_vector
+      AFTER UPDATE OF name ON categories
+      FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+      EXECUTE FUNCTION trg_categories_search_vector();
+  END IF;
+END
+$$;
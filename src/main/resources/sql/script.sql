@@ -94,6 +94,7 @@ CREATE TABLE products (
   is_active BOOLEAN NOT NULL DEFAULT true,
   is_featured BOOLEAN NOT NULL DEFAULT false,
   is_new BOOLEAN NOT NULL DEFAULT false,
+  search_vector TSVECTOR,
   created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
   updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
   CONSTRAINT uk_product_slug UNIQUE (slug),
@@ -130,6 +131,17 @@ CREATE TABLE product_variations (
   CONSTRAINT chk_product_variations_stock_non_negative CHECK (stock_quantity >= 0)
 );
 
+-- Pooled ids: tables written in bulk take ids from a @SequenceGenerator with
+-- allocationSize = 50, so Hibernate reserves 50 ids per sequence call and can
+-- send the INSERTs as JDBC batches (IDENTITY ids would force one round trip per
+-- row). Hibernate refuses to start when a sequence's INCREMENT BY differs from
+-- its allocationSize, so on an existing database these ALTER SEQUENCE
+-- statements must run before the application is deployed. The same applies to
+-- every "INCREMENT BY 50" below.
+ALTER SEQUENCE products_id_seq INCREMENT BY 50;
+ALTER SEQUENCE product_images_id_seq INCREMENT BY 50;
+ALTER SEQUENCE product_variations_id_seq INCREMENT BY 50;
+
 CREATE TABLE inventory (
   id BIGSERIAL PRIMARY KEY,
   product_id BIGINT NOT NULL,
@@ -369,6 +381,9 @@ CREATE INDEX idx_products_user_id ON products (user_id);
 CREATE INDEX idx_products_is_active ON products (is_active) WHERE is_active = true;
 CREATE INDEX idx_products_is_featured ON products (is_featured) WHERE is_featured = true;
 CREATE INDEX idx_products_price_range ON products (price) WHERE is_active = true;
+CREATE INDEX idx_products_active_created_at_id
+  ON products (created_at DESC, id DESC) WHERE is_active = true;
+CREATE INDEX idx_products_search_vector ON products USING GIN (search_vector);
 
 CREATE INDEX idx_orders_user_id ON orders (user_id);
 CREATE INDEX idx_orders_status ON orders (status);
@@ -398,3 +413,144 @@ CREATE INDEX idx_cart_items_product_id ON cart_items (product_id);
 
 CREATE INDEX idx_order_items_order_id ON order_items (order_id);
 CREATE INDEX idx_order_items_product_id ON order_items (product_id);
+
+-- Full-text search: the functions and triggers that maintain products.search_vector
+-- are in product_search.sql, which ProductSearchSchema applies on every startup.
+
+-- Refresh tokens: only a SHA-256 hash of each token is stored, and a user's newest
+-- token supersedes the older ones (see RefreshTokenStore)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+  id BIGSERIAL PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  token_hash CHAR(64),
+  expires_at TIMESTAMPTZ NOT NULL,
+  is_revoked BOOLEAN NOT NULL DEFAULT false,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  CONSTRAINT fk_refresh_tokens_user_id
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Raw tokens stored before hashing cannot be converted; those sessions log in again
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash CHAR(64);
+DELETE FROM refresh_tokens WHERE token_hash IS NULL;
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+DROP INDEX IF EXISTS idx_refresh_token_token;
+DROP INDEX IF EXISTS idx_refresh_token_user_id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id_id ON refresh_tokens (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Inventory reservations: stock held for a buyer until it is committed, released
+-- or expired by the sweeper (see InventoryServiceImpl)
+CREATE TABLE IF NOT EXISTS inventory_reservations (
+  id BIGSERIAL PRIMARY KEY,
+  reservation_id VARCHAR(36) NOT NULL,
+  user_id BIGINT NOT NULL,
+  inventory_id BIGINT NOT NULL,
+  quantity INTEGER NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  expires_at TIMESTAMPTZ NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  CONSTRAINT fk_inventory_reservations_inventory_id
+    FOREIGN KEY (inventory_id) REFERENCES inventory (id) ON DELETE RESTRICT,
+  CONSTRAINT chk_inventory_reservations_quantity_positive CHECK (quantity > 0)
+);
+
+-- Must match allocationSize of the pooled @SequenceGenerator on InventoryReservation
+ALTER SEQUENCE inventory_reservations_id_seq INCREMENT BY 50;
+CREATE INDEX IF NOT EXISTS idx_inventory_reservations_reservation_id ON inventory_reservations (reservation_id);
+CREATE INDEX IF NOT EXISTS idx_inventory_reservations_status_expires_at
+  ON inventory_reservations (status, expires_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_inventory_reservations_user_id_status
+  ON inventory_reservations (user_id, status) WHERE status = 'PENDING';
+
+-- Flash sales: stock set aside for a sale and the number of units granted so far;
+-- a running sale is recovered from its row after a restart (see FlashSaleServiceImpl)
+CREATE TABLE IF NOT EXISTS flash_sales (
+  id BIGSERIAL PRIMARY KEY,
+  inventory_id BIGINT NOT NULL,
+  allocated INTEGER NOT NULL,
+  granted INTEGER NOT NULL DEFAULT 0,
+  is_active BOOLEAN NOT NULL DEFAULT true,
+  ended_at TIMESTAMPTZ,
+  owner VARCHAR(64),
+  owner_seen_at TIMESTAMPTZ,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  CONSTRAINT fk_flash_sales_inventory_id
+    FOREIGN KEY (inventory_id) REFERENCES inventory (id) ON DELETE RESTRICT,
+  CONSTRAINT chk_flash_sales_granted CHECK (granted >= 0 AND granted <= allocated)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_flash_sales_active_inventory_id
+  ON flash_sales (inventory_id) WHERE is_active;
+
+-- Stock ledger: every change of inventory.quantity or reserved_quantity is appended
+-- to stock_movements, and stock_snapshots periodically sums them (see StockLedgerServiceImpl)
+CREATE TABLE IF NOT EXISTS stock_movements (
+  id BIGSERIAL PRIMARY KEY,
+  inventory_id BIGINT NOT NULL,
+  movement_type VARCHAR(30) NOT NULL,
+  quantity_delta INTEGER NOT NULL,
+  reserved_delta INTEGER NOT NULL,
+  reference VARCHAR(64),
+  occurred_at TIMESTAMPTZ NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  CONSTRAINT fk_stock_movements_inventory_id
+    FOREIGN KEY (inventory_id) REFERENCES inventory (id) ON DELETE RESTRICT
+);
+
+CREATE TABLE IF NOT EXISTS stock_snapshots (
+  id BIGSERIAL PRIMARY KEY,
+  inventory_id BIGINT NOT NULL,
+  quantity BIGINT NOT NULL,
+  reserved_quantity BIGINT NOT NULL,
+  covers_until TIMESTAMPTZ NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  CONSTRAINT fk_stock_snapshots_inventory_id
+    FOREIGN KEY (inventory_id) REFERENCES inventory (id) ON DELETE RESTRICT
+);
+
+-- Must match allocationSize of the pooled @SequenceGenerator on Inventory/StockMovement/StockSnapshot
+ALTER SEQUENCE inventory_id_seq INCREMENT BY 50;
+ALTER SEQUENCE stock_movements_id_seq INCREMENT BY 50;
+ALTER SEQUENCE stock_snapshots_id_seq INCREMENT BY 50;
+
+CREATE INDEX IF NOT EXISTS idx_stock_movements_inventory_id_occurred_at
+  ON stock_movements (inventory_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_stock_movements_occurred_at ON stock_movements (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_stock_snapshots_inventory_id_covers_until
+  ON stock_snapshots (inventory_id, covers_until);
+CREATE INDEX IF NOT EXISTS idx_stock_snapshots_covers_until ON stock_snapshots (covers_until);
+
+-- Opening balance for inventory rows that existed before the ledger
+INSERT INTO stock_movements (inventory_id, movement_type, quantity_delta, reserved_delta, reference, occurred_at)
+SELECT i.id, 'ADJUSTMENT', i.quantity, i.reserved_quantity, 'opening-balance', now()
+FROM inventory i
+WHERE NOT EXISTS (SELECT 1 FROM stock_movements m WHERE m.inventory_id = i.id);
+
+-- Variations created before the ledger get an inventory row holding their stock
+INSERT INTO inventory (product_id, product_variation_id, quantity, reserved_quantity)
+SELECT pv.product_id, pv.id, pv.stock_quantity, 0
+FROM product_variations pv
+WHERE NOT EXISTS (SELECT 1 FROM inventory i WHERE i.product_variation_id = pv.id);
+INSERT INTO stock_movements (inventory_id, movement_type, quantity_delta, reserved_delta, reference, occurred_at)
+SELECT i.id, 'RECEIPT', i.quantity, 0, 'opening-balance', now()
+FROM inventory i
+WHERE i.quantity > 0
+  AND NOT EXISTS (SELECT 1 FROM stock_movements m WHERE m.inventory_id = i.id);
+
+-- Shopping carts are written in batches by CartServiceImpl; must match the pooled
+-- @SequenceGenerator allocationSize on ShoppingCart and CartItem
+ALTER SEQUENCE shopping_carts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE cart_items_id_seq INCREMENT BY 50;
+
+-- One cart per user, one line per product and variation
+CREATE UNIQUE INDEX IF NOT EXISTS uq_shopping_carts_user_id ON shopping_carts (user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_cart_items_cart_id_product_id_variation_id
+  ON cart_items (cart_id, product_id, COALESCE(product_variation_id, 0));
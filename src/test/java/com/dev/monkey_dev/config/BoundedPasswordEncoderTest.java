@@ -0,0 +1,97 @@
+package com.dev.monkey_dev.config;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.exception.BusinessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for BoundedPasswordEncoder
+ *
+ * The delegate blocks on a latch, so the tests control exactly how many hashes
+ * are running and queued.
+ */
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("matches should return the delegate's result")
+    void matches_shouldDelegate() {
+        // Arrange
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertTrue(encoder.matches("secret", "hash:secret"));
+        assertFalse(encoder.matches("secret", "hash:other"));
+    }
+
+    @Test
+    @DisplayName("matches should fail fast when every thread and queue slot is taken")
+    void matches_shouldThrowLoginBusy_whenSaturated() throws Exception {
+        // Arrange: one hash running, one queued
+        encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> encoder.matches("a", "hash:a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> encoder.matches("b", "hash:b"));
+        while (encoder.getExecutor().getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> encoder.matches("c", "hash:c"));
+        assertEquals(StatusCode.LOGIN_BUSY, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("matches should give up after the wait timeout")
+    void matches_shouldThrowLoginBusy_whenTimeoutElapses() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(50));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> encoder.matches("a", "hash:a"));
+        assertEquals(StatusCode.LOGIN_BUSY, exception.getStatusCode());
+    }
+}
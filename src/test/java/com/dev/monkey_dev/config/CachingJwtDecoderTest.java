@@ -0,0 +1,95 @@
+package com.dev.monkey_dev.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import com.dev.monkey_dev.properties.JwtCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CachingJwtDecoder
+ *
+ * The delegate stands in for NimbusJwtDecoder and counts how often it is asked
+ * to verify a token. Time is controlled through a fixed clock and a manual
+ * Caffeine ticker, so expiry can be tested without waiting.
+ */
+@DisplayName("CachingJwtDecoder Unit Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final AtomicLong tickerNanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        JwtDecoder delegate = token -> {
+            delegateCalls.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("Signature mismatch");
+            }
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("alice")
+                    .issuedAt(NOW)
+                    .expiresAt(NOW.plusSeconds(60))
+                    .build();
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(delegate, new JwtCacheProperties(100, Duration.ofMinutes(10)),
+                meterRegistry, tickerNanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("decode should verify a token once and serve repeats from the cache")
+    void decode_shouldVerifyOnce_whenTokenRepeated() {
+        // Act
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, delegateCalls.get());
+        assertEquals(2.0, meterRegistry.get("security.jwt.verifications").counter().count());
+    }
+
+    @Test
+    @DisplayName("decode should verify the token again once its exp has passed")
+    void decode_shouldVerifyAgain_afterTokenExpires() {
+        // Arrange
+        decoder.decode("token-a");
+
+        // Act
+        tickerNanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        decoder.decode("token-a");
+
+        // Assert
+        assertEquals(2, delegateCalls.get());
+    }
+
+    @Test
+    @DisplayName("decode should not cache tokens that fail verification")
+    void decode_shouldNotCache_whenVerificationFails() {
+        // Act & Assert
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad-token"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad-token"));
+        assertEquals(2, delegateCalls.get());
+    }
+}
@@ -0,0 +1,51 @@
+package com.dev.monkey_dev.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CustomJwtAuthenticationConverter
+ */
+@DisplayName("CustomJwtAuthenticationConverter Unit Tests")
+class CustomJwtAuthenticationConverterTest {
+
+    private final CustomJwtAuthenticationConverter converter = new CustomJwtAuthenticationConverter();
+
+    @Test
+    @DisplayName("convert - Should read the principal from the id claim")
+    void convert_withNumericId_shouldSetPrincipal() {
+        // Arrange
+        Jwt jwt = jwt("42");
+
+        // Act
+        PrincipalJwtAuthenticationToken token = (PrincipalJwtAuthenticationToken) converter.convert(jwt);
+
+        // Assert
+        assertEquals(42L, token.getCurrentPrincipal().id());
+        assertTrue(token.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+    }
+
+    @Test
+    @DisplayName("convert - Should reject a token whose id claim is not a number")
+    void convert_withNonNumericId_shouldThrowInvalidBearerToken() {
+        // Arrange
+        Jwt jwt = jwt("abc");
+
+        // Act & Assert
+        assertThrows(InvalidBearerTokenException.class, () -> converter.convert(jwt));
+    }
+
+    private static Jwt jwt(String id) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("buyer@example.com")
+                .claim("id", id)
+                .claim("username", "buyer")
+                .claim("role", "user")
+                .build();
+    }
+}
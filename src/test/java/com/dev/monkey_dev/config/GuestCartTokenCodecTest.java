@@ -0,0 +1,110 @@
+package com.dev.monkey_dev.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.GuestCartProperties;
+import com.dev.monkey_dev.properties.RsaKeyProperties;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for GuestCartTokenCodec
+ *
+ * Uses a fresh RSA key pair with the same encoder setup as SecurityConfig, so
+ * the tests also cover that guest cart tokens cannot pass as access tokens.
+ */
+@DisplayName("GuestCartTokenCodec Unit Tests")
+class GuestCartTokenCodecTest {
+
+    private static final List<GuestCartTokenCodec.Item> ITEMS = List.of(
+            new GuestCartTokenCodec.Item(1L, null, 2),
+            new GuestCartTokenCodec.Item(1L, 7L, 1),
+            new GuestCartTokenCodec.Item(42L, null, 5));
+
+    private RsaKeyProperties rsaKeys;
+    private JwtEncoder jwtEncoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        rsaKeys = new RsaKeyProperties((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+        jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(new RSAKey.Builder(rsaKeys.publicKey())
+                .privateKey(rsaKeys.privateKey())
+                .build())));
+    }
+
+    @Test
+    @DisplayName("decode should return the encoded items from signed and from encrypted tokens")
+    void decode_shouldReturnEncodedItems() {
+        // Arrange
+        GuestCartTokenCodec signed = codec(false);
+        GuestCartTokenCodec encrypted = codec(true);
+
+        // Act
+        String signedToken = signed.encode(ITEMS);
+        String encryptedToken = encrypted.encode(ITEMS);
+
+        // Assert: either codec reads both forms, so the setting can change
+        assertEquals(3, signedToken.split("\\.").length);
+        assertEquals(5, encryptedToken.split("\\.").length);
+        assertEquals(ITEMS, signed.decode(encryptedToken));
+        assertEquals(ITEMS, encrypted.decode(signedToken));
+    }
+
+    @Test
+    @DisplayName("decode should reject a token whose items were changed")
+    void decode_shouldThrowInvalidToken_whenTampered() {
+        // Arrange
+        String[] parts = codec(false).encode(ITEMS).split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("[42,0,5]", "[42,0,500]");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> codec(false).decode(tampered));
+        assertEquals(StatusCode.INVALID_TOKEN, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("The access token decoder should reject guest cart tokens")
+    void rejectGuestCarts_shouldFailAccessTokenDecoding() {
+        // Arrange: the same validators as SecurityConfig.jwtDecoder
+        NimbusJwtDecoder accessTokenDecoder = NimbusJwtDecoder.withPublicKey(rsaKeys.publicKey()).build();
+        accessTokenDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(),
+                GuestCartTokenCodec.rejectGuestCarts()));
+        String token = codec(false).encode(ITEMS);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> accessTokenDecoder.decode(token));
+    }
+
+    private GuestCartTokenCodec codec(boolean encrypted) {
+        return new GuestCartTokenCodec(jwtEncoder, rsaKeys, new GuestCartProperties(Duration.ofDays(30), encrypted));
+    }
+}
@@ -0,0 +1,211 @@
+package com.dev.monkey_dev.domain.respository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.MethodMode;
+
+import com.dev.monkey_dev.domain.entity.ProductImage;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Repository Tests for the product creation write path
+ *
+ * Saves a product with its images and variations the same way
+ * ProductServiceImpl.createProduct does and records every JDBC statement
+ * Hibernate prepares. This is the round-trip benchmark for product creation:
+ *
+ * - IDENTITY ids: every child row is inserted on save to read back its id,
+ * so 10 images and 30 variations cost 1 + 40 statements
+ * - pooled sequence ids + hibernate.jdbc.batch_size: one sequence call per
+ * 50 ids and one batched INSERT per table, whatever the number of children
+ * (products use a pooled sequence too, so bulk imports batch product rows)
+ *
+ * A batched INSERT is prepared once per batch, so one prepared INSERT per
+ * table for all of its rows means one JDBC batch.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProductChildrenBatchInsertTest.StatementRecorder.class)
+@DisplayName("Product images and variations batch insert Tests")
+class ProductChildrenBatchInsertTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private ProductImageRepository productImageRepository;
+
+        @Autowired
+        private ProductVariationRepository productVariationRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private StatementRecorder statementRecorder;
+
+        private Users seller;
+
+        @BeforeEach
+        void setUp() {
+                seller = entityManager.persist(Users.builder()
+                                .fullName("Seller One")
+                                .username("seller1")
+                                .email("seller1@example.com")
+                                .build());
+                entityManager.flush();
+        }
+
+        @Test
+        // A fresh context starts with empty id pools, so earlier tests cannot change the counts
+        @DirtiesContext(methodMode = MethodMode.BEFORE_METHOD)
+        @DisplayName("createProduct write path should issue one batched insert per table, whatever the child count")
+        void saveProductWithChildren_shouldIssueOneInsertPerTable_whateverTheChildCount() {
+                // Arrange: draw the id pools, then both products fit in what is left of them
+                saveProduct(1, 1);
+
+                // Act
+                Map<String, Integer> smallProduct = recordStatementsForProduct(2, 3);
+                Map<String, Integer> largeProduct = recordStatementsForProduct(10, 30);
+
+                // Assert: no sequence call and a single insert batch per table
+                Map<String, Integer> expected = Map.of(
+                                "insert into products", 1,
+                                "insert into product_images", 1,
+                                "insert into product_variations", 1);
+                assertEquals(expected, smallProduct);
+                assertEquals(expected, largeProduct);
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                assertEquals(3, statistics.getPrepareStatementCount());
+                assertEquals(10, statistics.getEntityStatistics(ProductImage.class.getName()).getInsertCount());
+                assertEquals(30, statistics.getEntityStatistics(ProductVariation.class.getName()).getInsertCount());
+        }
+
+        @Test
+        @DisplayName("Batched children should be persisted with distinct ids")
+        void saveProductWithChildren_shouldPersistAllChildren() {
+                // Arrange
+                Products product = saveProduct(10, 30);
+                entityManager.clear();
+
+                // Act
+                List<ProductImage> images = productImageRepository.findByProductId(product.getId());
+
+                // Assert
+                assertEquals(10, images.size());
+                assertEquals(10, images.stream().map(ProductImage::getId).distinct().count());
+                assertEquals(30, productVariationRepository.count());
+        }
+
+        private Map<String, Integer> recordStatementsForProduct(int imageCount, int variationCount) {
+                entityManager.clear();
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+                statementRecorder.clear();
+
+                saveProduct(imageCount, variationCount);
+
+                return statementRecorder.counts();
+        }
+
+        private Products saveProduct(int imageCount, int variationCount) {
+                String slug = "product-" + System.nanoTime();
+                Products saved = productRepository.save(Products.builder()
+                                .user(entityManager.getEntityManager().getReference(Users.class, seller.getId()))
+                                .slug(slug)
+                                .title("Product")
+                                .description("Description")
+                                .price(BigDecimal.TEN)
+                                .imageUrl("https://example.com/" + slug + ".png")
+                                .build());
+
+                List<ProductImage> images = new ArrayList<>();
+                for (int i = 0; i < imageCount; i++) {
+                        images.add(ProductImage.builder()
+                                        .product(saved)
+                                        .imageUrl("https://example.com/" + slug + "-" + i + ".png")
+                                        .altText("")
+                                        .displayOrder(i)
+                                        .isPrimary(i == 0)
+                                        .build());
+                }
+                productImageRepository.saveAll(images);
+
+                List<ProductVariation> variations = new ArrayList<>();
+                for (int i = 0; i < variationCount; i++) {
+                        variations.add(ProductVariation.builder()
+                                        .product(saved)
+                                        .name("Size")
+                                        .value("S" + i)
+                                        .priceAdjustment(0.0)
+                                        .sku(slug + "-" + i)
+                                        .stockQuantity(10)
+                                        .build());
+                }
+                productVariationRepository.saveAll(variations);
+
+                entityManager.flush();
+                return saved;
+        }
+
+        /**
+         * Counts the statements Hibernate prepares by kind and table, e.g.
+         * {@code insert into products} or {@code next value for products_id_seq}.
+         */
+        static class StatementRecorder implements StatementInspector, HibernatePropertiesCustomizer {
+
+                private static final Pattern STATEMENT = Pattern.compile(
+                                "(insert into|update|delete from|next value for) (\\w+)", Pattern.CASE_INSENSITIVE);
+
+                private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+                @Override
+                public void customize(Map<String, Object> hibernateProperties) {
+                        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+                }
+
+                @Override
+                public String inspect(String sql) {
+                        Matcher matcher = STATEMENT.matcher(sql);
+                        String key = matcher.find()
+                                        ? matcher.group(1).toLowerCase() + " " + matcher.group(2).toLowerCase()
+                                        : sql;
+                        counts.merge(key, 1, Integer::sum);
+                        return sql;
+                }
+
+                void clear() {
+                        counts.clear();
+                }
+
+                Map<String, Integer> counts() {
+                        return Map.copyOf(counts);
+                }
+        }
+}
@@ -0,0 +1,164 @@
+package com.dev.monkey_dev.domain.respository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.dev.monkey_dev.domain.entity.Category;
+import com.dev.monkey_dev.domain.entity.ProductImage;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.dto.mapper.ProductMapper;
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Repository Tests for the product read path
+ * 
+ * Uses @DataJpaTest (embedded database, JPA slice only) and Hibernate
+ * statistics to count the SQL statements issued while loading a page of
+ * products and mapping it with ProductMapper.toResponse, which walks
+ * categories, images and variations of every product.
+ * 
+ * The statement count must not depend on the page size: a growing count
+ * would mean lazy collections are being loaded one product at a time (N+1).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("ProductRepositoryCustomImpl Repository Tests")
+class ProductRepositoryCustomImplTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+        private Users seller;
+        private Category category;
+
+        @BeforeEach
+        void setUp() {
+                seller = entityManager.persist(Users.builder()
+                                .fullName("Seller One")
+                                .username("seller1")
+                                .email("seller1@example.com")
+                                .build());
+                category = entityManager.persist(Category.builder()
+                                .name("Shoes")
+                                .slug("shoes")
+                                .description("Shoes")
+                                .imageUrl("https://example.com/shoes.png")
+                                .isActive(true)
+                                .build());
+        }
+
+        @Test
+        @DisplayName("findAllWithDetailsByIdIn should use the same number of statements for any page size")
+        void findAllWithDetailsByIdIn_shouldUseConstantStatementCount_regardlessOfPageSize() {
+                // Arrange
+                List<Long> smallPage = persistProducts(2);
+                List<Long> largePage = persistProducts(20);
+
+                // Act
+                long smallPageStatements = countStatementsForPage(smallPage);
+                long largePageStatements = countStatementsForPage(largePage);
+
+                // Assert: one query each for products+categories, images and variations
+                assertEquals(smallPageStatements, largePageStatements,
+                                "Statement count should not grow with the number of products");
+                assertTrue(largePageStatements <= 3,
+                                "Expected at most 3 statements but was " + largePageStatements);
+        }
+
+        @Test
+        @DisplayName("findAllWithDetailsByIdIn should return products in the order of the given ids")
+        void findAllWithDetailsByIdIn_shouldPreserveIdOrder() {
+                // Arrange
+                List<Long> ids = new ArrayList<>(persistProducts(5));
+                Collections.reverse(ids);
+                entityManager.clear();
+
+                // Act
+                List<Products> products = productRepository.findAllWithDetailsByIdIn(ids);
+
+                // Assert
+                assertEquals(ids, products.stream().map(Products::getId).toList());
+        }
+
+        private long countStatementsForPage(List<Long> ids) {
+                entityManager.clear();
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+
+                List<ProductResponseDto> responses = productRepository.findAllWithDetailsByIdIn(ids).stream()
+                                .map(productMapper::toResponse)
+                                .toList();
+
+                assertEquals(ids.size(), responses.size());
+                responses.forEach(response -> {
+                        assertEquals(1, response.categories().size());
+                        assertEquals(2, response.images().size());
+                        assertEquals(2, response.variations().size());
+                });
+                return statistics.getPrepareStatementCount();
+        }
+
+        private List<Long> persistProducts(int count) {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                        String slug = "product-" + System.nanoTime() + "-" + i;
+                        Products product = entityManager.persist(Products.builder()
+                                        .user(seller)
+                                        .categories(new HashSet<>(Set.of(category)))
+                                        .slug(slug)
+                                        .title("Product " + i)
+                                        .description("Description " + i)
+                                        .price(BigDecimal.TEN)
+                                        .imageUrl("https://example.com/" + slug + ".png")
+                                        .build());
+                        for (int j = 0; j < 2; j++) {
+                                entityManager.persist(ProductImage.builder()
+                                                .product(product)
+                                                .imageUrl("https://example.com/" + slug + "-" + j + ".png")
+                                                .altText("")
+                                                .displayOrder(j)
+                                                .isPrimary(j == 0)
+                                                .build());
+                                entityManager.persist(ProductVariation.builder()
+                                                .product(product)
+                                                .name("Size")
+                                                .value("S" + j)
+                                                .priceAdjustment(0.0)
+                                                .sku(slug + "-" + j)
+                                                .stockQuantity(10)
+                                                .build());
+                        }
+                        ids.add(product.getId());
+                }
+                entityManager.flush();
+                return ids;
+        }
+}
@@ -0,0 +1,95 @@
+package com.dev.monkey_dev.domain.respository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.dev.monkey_dev.domain.entity.RefreshToken;
+import com.dev.monkey_dev.domain.entity.Users;
+
+/**
+ * Repository Tests for RefreshTokenRepository
+ *
+ * A user's newest refresh token supersedes the older ones without any UPDATE,
+ * so these tests check that lookups only find the newest token and that the
+ * purge removes superseded and expired rows in bounded chunks.
+ */
+@DataJpaTest
+@DisplayName("RefreshTokenRepository Tests")
+class RefreshTokenRepositoryTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private RefreshTokenRepository refreshTokenRepository;
+
+        private Users user;
+
+        @BeforeEach
+        void setUp() {
+                user = entityManager.persist(Users.builder()
+                                .fullName("User One")
+                                .username("user1")
+                                .email("user1@example.com")
+                                .build());
+                entityManager.flush();
+        }
+
+        @Test
+        @DisplayName("findCurrentByTokenHash should only find the user's newest token")
+        void findCurrentByTokenHash_shouldIgnoreSupersededTokens() {
+                // Arrange
+                Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+                persistToken(hash('a'), expiresAt);
+                persistToken(hash('b'), expiresAt);
+                entityManager.clear();
+
+                // Act & Assert
+                assertFalse(refreshTokenRepository.findCurrentByTokenHash(hash('a')).isPresent());
+                assertTrue(refreshTokenRepository.findCurrentByTokenHash(hash('b')).isPresent());
+        }
+
+        @Test
+        @DisplayName("deleteUnusableTokens should delete superseded and expired tokens in chunks")
+        void deleteUnusableTokens_shouldDeleteInChunks() {
+                // Arrange: three superseded tokens and an expired newest token
+                Instant now = Instant.now();
+                persistToken(hash('a'), now.plus(1, ChronoUnit.DAYS));
+                persistToken(hash('b'), now.plus(1, ChronoUnit.DAYS));
+                persistToken(hash('c'), now.plus(1, ChronoUnit.DAYS));
+                persistToken(hash('d'), now.minus(1, ChronoUnit.DAYS));
+
+                // Act
+                int firstChunk = refreshTokenRepository.deleteUnusableTokens(now, 3);
+                int secondChunk = refreshTokenRepository.deleteUnusableTokens(now, 3);
+
+                // Assert
+                assertEquals(3, firstChunk);
+                assertEquals(1, secondChunk);
+                assertEquals(0, refreshTokenRepository.count());
+        }
+
+        private void persistToken(String tokenHash, Instant expiresAt) {
+                entityManager.persist(RefreshToken.builder()
+                                .user(user)
+                                .tokenHash(tokenHash)
+                                .expiresAt(expiresAt)
+                                .build());
+                entityManager.flush();
+        }
+
+        private static String hash(char c) {
+                return String.valueOf(c).repeat(64);
+        }
+}
@@ -0,0 +1,70 @@
+package com.dev.monkey_dev.helper;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.dev.monkey_dev.enums.Roles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CurrentPrincipal
+ *
+ * Tokens are built with Jwt.withTokenValue, so the claims are exactly what
+ * the decoder would hand to CustomJwtAuthenticationConverter.
+ */
+@DisplayName("CurrentPrincipal Unit Tests")
+class CurrentPrincipalTest {
+
+    @Test
+    @DisplayName("from should read id, username and role from the claims")
+    void from_shouldReadClaims() {
+        // Arrange
+        Jwt jwt = jwt().claim("id", 42L).claim("username", "alice").claim("role", "seller").build();
+
+        // Act
+        CurrentPrincipal principal = CurrentPrincipal.from(jwt);
+
+        // Assert
+        assertEquals(42L, principal.id());
+        assertEquals("alice", principal.username());
+        assertEquals(Roles.SELLER, principal.role());
+    }
+
+    @Test
+    @DisplayName("from should fall back to the subject and tolerate an unknown role")
+    void from_shouldFallBack_whenUsernameMissingAndRoleUnknown() {
+        // Arrange
+        Jwt jwt = jwt().claim("id", "7").claim("role", "GUEST").build();
+
+        // Act
+        CurrentPrincipal principal = CurrentPrincipal.from(jwt);
+
+        // Assert
+        assertEquals(7L, principal.id());
+        assertEquals("subject", principal.username());
+        assertNull(principal.role());
+    }
+
+    @Test
+    @DisplayName("from should reject a token without an id claim")
+    void from_shouldThrow_whenIdMissing() {
+        // Arrange
+        Jwt jwt = jwt().claim("username", "alice").build();
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> CurrentPrincipal.from(jwt));
+        assertEquals("JWT does not contain 'id' claim.", exception.getMessage());
+    }
+
+    private static Jwt.Builder jwt() {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("subject")
+                .issuedAt(Instant.now());
+    }
+}
@@ -0,0 +1,89 @@
+package com.dev.monkey_dev.logging;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.dev.monkey_dev.properties.AccessLogProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for AccessLogWriter
+ *
+ * The writer thread is never started; the tests call drain() themselves and
+ * read what it wrote from a Logback ListAppender on the access logger.
+ */
+@DisplayName("AccessLogWriter Unit Tests")
+class AccessLogWriterTest {
+
+    private Logger accessLogger;
+    private ListAppender<ILoggingEvent> appender;
+    private AccessLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        accessLogger = (Logger) LoggerFactory.getLogger(AccessLogWriter.LOGGER_NAME);
+        appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+        AccessLogProperties properties = new AccessLogProperties(true, "/api/", 3, 2, Duration.ofSeconds(1), 0, 0);
+        writer = new AccessLogWriter(new ObjectMapper(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("offer should drop events once the queue is full instead of blocking")
+    void offer_shouldDropEvents_whenQueueFull() {
+        // Act
+        boolean first = writer.offer(event("/api/a"));
+        writer.offer(event("/api/b"));
+        writer.offer(event("/api/c"));
+        boolean overflow = writer.offer(event("/api/d"));
+
+        // Assert
+        assertTrue(first);
+        assertFalse(overflow);
+        writer.drain();
+        assertEquals("Access log queue full, dropped 1 events", appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("drain should write up to one batch of events as JSON lines in one log call")
+    void drain_shouldWriteBatchAsJsonLines() {
+        // Arrange
+        writer.offer(event("/api/a"));
+        writer.offer(event("/api/b"));
+        writer.offer(event("/api/c"));
+
+        // Act
+        int firstBatch = writer.drain();
+        int secondBatch = writer.drain();
+
+        // Assert
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        assertEquals(2, appender.list.size());
+        String[] lines = appender.list.get(0).getFormattedMessage().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"timestamp\":1,\"traceId\":\"t\",\"method\":\"GET\",\"route\":\"/api/a\""));
+        assertFalse(lines[0].contains("requestBody"));
+    }
+
+    private static AccessLogEvent event(String route) {
+        return new AccessLogEvent(1L, "t", "GET", route, 200, 5L, 0L, 10L, 7L, null, null);
+    }
+}
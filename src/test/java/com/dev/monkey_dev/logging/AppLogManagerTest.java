@@ -0,0 +1,90 @@
+package com.dev.monkey_dev.logging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for AppLogManager
+ *
+ * The tests attach a Logback ListAppender to this class's logger and set its
+ * level directly, so they can check both what is written and that nothing is
+ * built when the level is disabled.
+ */
+@DisplayName("AppLogManager Unit Tests")
+class AppLogManagerTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(AppLogManagerTest.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("debug should not build the message when DEBUG is disabled")
+    void debug_shouldNotInvokeSupplier_whenLevelDisabled() {
+        // Arrange
+        logger.setLevel(Level.INFO);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        AppLogManager.debug(AppLogManagerTest.class, () -> "built " + calls.incrementAndGet());
+
+        // Assert
+        assertEquals(0, calls.get());
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("info should prefix the message with the calling file and line")
+    void info_shouldPrefixCallerLocation() {
+        // Arrange
+        logger.setLevel(Level.INFO);
+        int line = new Throwable().getStackTrace()[0].getLineNumber() + 3;
+
+        // Act
+        AppLogManager.info(AppLogManagerTest.class, "hello");
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertEquals("AppLogManagerTest.java:" + line + " - hello", appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("debug should fill {} placeholders only when the line is written")
+    void debug_shouldFormatParameters_whenLevelEnabled() {
+        // Arrange
+        logger.setLevel(Level.DEBUG);
+
+        // Act
+        AppLogManager.debug(AppLogManagerTest.class, "Retrieved {} of {} products", 3, 10);
+        logger.setLevel(Level.WARN);
+        AppLogManager.debug(AppLogManagerTest.class, "Retrieved {} of {} products", 4, 10);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().endsWith(" - Retrieved 3 of 10 products"));
+    }
+}
@@ -0,0 +1,255 @@
+package com.dev.monkey_dev.service.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.CartItem;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.domain.respository.CartItemRepository;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.domain.respository.ProductVariationRepository;
+import com.dev.monkey_dev.domain.respository.ShoppingCartRepository;
+import com.dev.monkey_dev.domain.respository.UserRepository;
+import com.dev.monkey_dev.dto.request.CartItemAddRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemQuantityRequestDto;
+import com.dev.monkey_dev.dto.request.CartItemResponseDto;
+import com.dev.monkey_dev.dto.request.CartResponseDto;
+import com.dev.monkey_dev.enums.CartDurability;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.CartProperties;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for CartServiceImpl against a real database
+ *
+ * Counts the JDBC statements of the same quantity clicks with write-behind and
+ * with write-through durability. Write-through is the direct-write baseline:
+ * every click is one read of the cart's items and one UPDATE. Write-behind
+ * merges the clicks in memory and writes the final quantity once.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CartServiceImpl.class, CartStore.class })
+@EnableConfigurationProperties(CartProperties.class)
+@DisplayName("CartServiceImpl Tests")
+class CartServiceImplTest {
+
+        private static final int CLICKS = 100;
+
+        @Autowired
+        private CartServiceImpl cartService;
+
+        @Autowired
+        private CartStore cartStore;
+
+        @Autowired
+        private ShoppingCartRepository cartRepository;
+
+        @Autowired
+        private CartItemRepository cartItemRepository;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private ProductVariationRepository variationRepository;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private Users buyer;
+
+        private Products product;
+
+        @BeforeEach
+        void setUp() {
+                Users seller = userRepository.save(Users.builder()
+                                .fullName("Seller One")
+                                .username("seller1")
+                                .email("seller1@example.com")
+                                .build());
+                buyer = userRepository.save(Users.builder()
+                                .fullName("Buyer One")
+                                .username("buyer1")
+                                .email("buyer1@example.com")
+                                .build());
+                product = productRepository.save(Products.builder()
+                                .user(seller)
+                                .slug("product")
+                                .title("Product")
+                                .description("Description")
+                                .price(BigDecimal.TEN)
+                                .imageUrl("https://example.com/product.png")
+                                .build());
+        }
+
+        @AfterEach
+        void tearDown() {
+                cartItemRepository.deleteAll();
+                cartRepository.deleteAll();
+                variationRepository.deleteAll();
+                productRepository.deleteAll();
+                userRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Write-behind should write many quantity clicks as one UPDATE")
+        void setQuantity_shouldCoalesceClicks_comparedToWriteThrough() {
+                // Arrange
+                CartServiceImpl writeThrough = new CartServiceImpl(cartStore, properties(CartDurability.WRITE_THROUGH));
+                Users otherBuyer = userRepository.save(Users.builder()
+                                .fullName("Buyer Two")
+                                .username("buyer2")
+                                .email("buyer2@example.com")
+                                .build());
+
+                // Act
+                long writeBehindStatements = countStatementsForClicks(cartService, buyer.getId());
+                long writeThroughStatements = countStatementsForClicks(writeThrough, otherBuyer.getId());
+
+                // Assert: one read of the cart's items and one UPDATE against two per click
+                assertTrue(writeBehindStatements <= 3,
+                                "Expected at most 3 statements but was " + writeBehindStatements);
+                assertTrue(writeThroughStatements >= CLICKS,
+                                "Expected at least " + CLICKS + " statements but was " + writeThroughStatements);
+                List<CartItem> items = cartItemRepository.findAll();
+                assertEquals(4, items.size());
+                items.forEach(item -> assertEquals(CLICKS, item.getQuantity()));
+        }
+
+        @Test
+        @DisplayName("flushCart should write added and removed lines so a new instance loads them")
+        void flushCart_shouldPersistLines_forTheNextLoad() {
+                // Arrange
+                ProductVariation variation = variationRepository.save(ProductVariation.builder()
+                                .product(product)
+                                .name("Size")
+                                .value("Large")
+                                .priceAdjustment(2.5)
+                                .sku("PRODUCT-L")
+                                .stockQuantity(10)
+                                .build());
+                cartService.addItem(buyer.getId(), new CartItemAddRequestDto(product.getId(), null, 2));
+                cartService.addItem(buyer.getId(), new CartItemAddRequestDto(product.getId(), variation.getId(), 1));
+                cartService.addItem(buyer.getId(), new CartItemAddRequestDto(product.getId(), variation.getId(), 2));
+                cartService.removeItem(buyer.getId(), product.getId(), null);
+
+                // Act
+                CartResponseDto flushed = cartService.flushCart(buyer.getId());
+                CartResponseDto loaded = new CartServiceImpl(cartStore, properties(CartDurability.WRITE_BEHIND))
+                                .getCart(buyer.getId());
+
+                // Assert
+                assertNotNull(flushed.id());
+                assertEquals(flushed.id(), loaded.id());
+                assertEquals(1, loaded.items().size());
+                CartItemResponseDto line = loaded.items().get(0);
+                assertEquals(flushed.items().get(0).id(), line.id());
+                assertEquals(variation.getId(), line.productVariationId());
+                assertEquals("Size: Large", line.variationLabel());
+                assertEquals(3, line.quantity());
+                assertEquals(0, new BigDecimal("12.50").compareTo(line.priceAtAdd()));
+                assertEquals(0, new BigDecimal("37.50").compareTo(loaded.subtotal()));
+        }
+
+        @Test
+        @DisplayName("addItem should reject a quantity that would take the line above the maximum")
+        void addItem_shouldRejectQuantityAboveMaximum() {
+                // Arrange
+                cartService.addItem(buyer.getId(), new CartItemAddRequestDto(product.getId(), null,
+                                CartItemAddRequestDto.MAX_QUANTITY));
+
+                // Act
+                BusinessException exception = assertThrows(BusinessException.class, () -> cartService.addItem(
+                                buyer.getId(), new CartItemAddRequestDto(product.getId(), null, 1)));
+
+                // Assert
+                assertEquals(StatusCode.BAD_REQUEST, exception.getStatusCode());
+                assertEquals(CartItemAddRequestDto.MAX_QUANTITY,
+                                cartService.getCart(buyer.getId()).items().get(0).quantity());
+        }
+
+        @Test
+        @DisplayName("mergeItems should merge guest lines in one write, skip unknown products and be repeatable")
+        void mergeItems_shouldMergeLines_andSkipUnknownProducts() {
+                // Arrange
+                cartService.addItem(buyer.getId(), new CartItemAddRequestDto(product.getId(), null, 1));
+                cartService.flushCart(buyer.getId());
+
+                List<CartItemAddRequestDto> guestItems = List.of(
+                                new CartItemAddRequestDto(product.getId(), null, 2),
+                                new CartItemAddRequestDto(product.getId() + 1000, null, 1));
+
+                // Act: the second merge is a retried request
+                cartService.mergeItems(buyer.getId(), guestItems);
+                CartResponseDto merged = cartService.mergeItems(buyer.getId(), guestItems);
+
+                // Assert: the larger quantity wins, written without waiting for the flush
+                assertEquals(1, merged.items().size());
+                assertEquals(2, merged.items().get(0).quantity());
+                List<CartItem> items = cartItemRepository.findAll();
+                assertEquals(1, items.size());
+                assertEquals(2, items.get(0).getQuantity());
+        }
+
+        /**
+         * Adds two lines and writes them, then clicks both quantities up to
+         * {@link #CLICKS} and writes again.
+         *
+         * @return Number of statements run by the clicks and the second write
+         */
+        private long countStatementsForClicks(CartServiceImpl service, Long userId) {
+                ProductVariation variation = variationRepository.save(ProductVariation.builder()
+                                .product(product)
+                                .name("Color")
+                                .value("Red " + userId)
+                                .priceAdjustment(0.0)
+                                .sku("PRODUCT-RED-" + userId)
+                                .stockQuantity(10)
+                                .build());
+                service.addItem(userId, new CartItemAddRequestDto(product.getId(), null, 1));
+                service.addItem(userId, new CartItemAddRequestDto(product.getId(), variation.getId(), 1));
+                service.flushCart(userId);
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+
+                for (int quantity = 2; quantity <= CLICKS; quantity++) {
+                        service.setQuantity(userId, new CartItemQuantityRequestDto(product.getId(), null, quantity));
+                        service.setQuantity(userId,
+                                        new CartItemQuantityRequestDto(product.getId(), variation.getId(), quantity));
+                }
+                service.flush();
+
+                return statistics.getPrepareStatementCount();
+        }
+
+        private static CartProperties properties(CartDurability durability) {
+                return new CartProperties(durability, Duration.ofSeconds(1), 200, Duration.ofMinutes(30), 100);
+        }
+}
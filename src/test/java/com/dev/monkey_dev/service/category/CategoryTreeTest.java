@@ -0,0 +1,95 @@
+package com.dev.monkey_dev.service.category;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dev.monkey_dev.dto.response.CategoryTreeDto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CategoryTree
+ *
+ * The snapshot is built from plain rows, so no database is needed:
+ *
+ * clothing (1)
+ * ├── men (2)
+ * │   └── shirts (4)
+ * └── women (3, inactive)
+ *     └── dresses (5)
+ */
+@DisplayName("CategoryTree Unit Tests")
+class CategoryTreeTest {
+
+    private CategoryTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = CategoryTree.build(List.of(
+                new CategoryTree.Node(1L, null, "Clothing", "clothing", true),
+                new CategoryTree.Node(2L, 1L, "Men", "men", true),
+                new CategoryTree.Node(3L, 1L, "Women", "women", false),
+                new CategoryTree.Node(4L, 2L, "Shirts", "shirts", true),
+                new CategoryTree.Node(5L, 3L, "Dresses", "dresses", true)));
+    }
+
+    @Test
+    @DisplayName("getSubtreeIdsBySlug should include the category and all descendants")
+    void getSubtreeIdsBySlug_shouldIncludeDescendants() {
+        // Act & Assert
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), tree.getSubtreeIdsBySlug("clothing"));
+        assertEquals(Set.of(2L, 4L), tree.getSubtreeIdsBySlug("men"));
+        assertEquals(Set.of(4L), tree.getSubtreeIdsBySlug("shirts"));
+    }
+
+    @Test
+    @DisplayName("getSubtreeIdsBySlug should return an empty set for an unknown slug")
+    void getSubtreeIdsBySlug_shouldReturnEmpty_whenSlugUnknown() {
+        // Act & Assert
+        assertTrue(tree.getSubtreeIdsBySlug("shoes").isEmpty());
+        assertTrue(tree.getSubtreeIdsBySlug(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("getAncestorIds should return ancestors root first")
+    void getAncestorIds_shouldReturnRootFirst() {
+        // Act & Assert
+        assertEquals(List.of(1L, 2L), tree.getAncestorIds(4L));
+        assertEquals(List.of(), tree.getAncestorIds(1L));
+    }
+
+    @Test
+    @DisplayName("getRoots should leave out inactive categories and their descendants")
+    void getRoots_shouldSkipInactiveBranches() {
+        // Act
+        List<CategoryTreeDto> roots = tree.getRoots();
+
+        // Assert
+        assertEquals(1, roots.size());
+        CategoryTreeDto clothing = roots.get(0);
+        assertEquals("clothing", clothing.slug());
+        assertEquals(1, clothing.children().size());
+        assertEquals("men", clothing.children().get(0).slug());
+        assertEquals("shirts", clothing.children().get(0).children().get(0).slug());
+    }
+
+    @Test
+    @DisplayName("build should not loop on a parent cycle")
+    void build_shouldHandleParentCycle() {
+        // Arrange
+        List<CategoryTree.Node> nodes = List.of(
+                new CategoryTree.Node(1L, 2L, "A", "a", true),
+                new CategoryTree.Node(2L, 1L, "B", "b", true));
+
+        // Act
+        CategoryTree cyclic = CategoryTree.build(nodes);
+
+        // Assert
+        assertEquals(Set.of(1L, 2L), cyclic.getSubtreeIdsBySlug("a"));
+        assertTrue(cyclic.getRoots().isEmpty());
+    }
+}
@@ -0,0 +1,270 @@
+package com.dev.monkey_dev.service.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.monkey_dev.common.api.StatusCode;
+import com.dev.monkey_dev.domain.entity.Inventory;
+import com.dev.monkey_dev.domain.entity.InventoryReservation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.domain.respository.InventoryRepository;
+import com.dev.monkey_dev.domain.respository.InventoryReservationRepository;
+import com.dev.monkey_dev.domain.respository.ProductRepository;
+import com.dev.monkey_dev.domain.respository.StockMovementRepository;
+import com.dev.monkey_dev.domain.respository.UserRepository;
+import com.dev.monkey_dev.dto.request.InventoryReservationLineDto;
+import com.dev.monkey_dev.dto.response.InventoryReservationDto;
+import com.dev.monkey_dev.exception.BusinessException;
+import com.dev.monkey_dev.properties.InventoryReservationProperties;
+
+/**
+ * Tests for InventoryServiceImpl against a real database
+ *
+ * The tests are not transactional: every reservation commits on its own, the
+ * same as concurrent requests would, so the concurrency tests prove that the
+ * conditional UPDATEs never oversell however the buyers interleave.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(InventoryServiceImpl.class)
+@EnableConfigurationProperties(InventoryReservationProperties.class)
+@DisplayName("InventoryServiceImpl Tests")
+class InventoryServiceImplTest {
+
+        private static final int BUYERS = 300;
+        private static final Long BUYER_ID = 1L;
+
+        @Autowired
+        private IInventoryService inventoryService;
+
+        @Autowired
+        private InventoryRepository inventoryRepository;
+
+        @Autowired
+        private InventoryReservationRepository reservationRepository;
+
+        @Autowired
+        private StockMovementRepository stockMovementRepository;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        private Products product;
+
+        @BeforeEach
+        void setUp() {
+                Users seller = userRepository.save(Users.builder()
+                                .fullName("Seller One")
+                                .username("seller1")
+                                .email("seller1@example.com")
+                                .build());
+                product = productRepository.save(Products.builder()
+                                .user(seller)
+                                .slug("product")
+                                .title("Product")
+                                .description("Description")
+                                .price(BigDecimal.TEN)
+                                .imageUrl("https://example.com/product.png")
+                                .build());
+        }
+
+        @AfterEach
+        void tearDown() {
+                reservationRepository.deleteAll();
+                stockMovementRepository.deleteAll();
+                inventoryRepository.deleteAll();
+                productRepository.deleteAll();
+                userRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("reserve should sell exactly the available stock to parallel buyers")
+        void reserve_shouldNotOversell_withParallelBuyers() throws Exception {
+                // Arrange
+                Inventory inventory = saveInventory(100);
+
+                // Act
+                AtomicInteger rejected = new AtomicInteger();
+                int reserved = runBuyers(() -> List.of(new InventoryReservationLineDto(inventory.getId(), 1)), rejected);
+
+                // Assert
+                assertEquals(100, reserved);
+                assertEquals(BUYERS - 100, rejected.get());
+                assertEquals(100, inventoryRepository.findById(inventory.getId()).orElseThrow().getReservedQuantity());
+                assertEquals(100, reservationRepository.count());
+        }
+
+        @Test
+        @DisplayName("reserve should reserve all lines or none for parallel multi-line buyers")
+        void reserve_shouldNotOversell_withParallelMultiLineBuyers() throws Exception {
+                // Arrange: buyers list the same two rows in both orders
+                Inventory first = saveInventory(50);
+                Inventory second = saveInventory(80);
+                AtomicInteger buyer = new AtomicInteger();
+
+                // Act
+                AtomicInteger rejected = new AtomicInteger();
+                int reserved = runBuyers(() -> buyer.incrementAndGet() % 2 == 0
+                                ? List.of(new InventoryReservationLineDto(first.getId(), 1),
+                                                new InventoryReservationLineDto(second.getId(), 1))
+                                : List.of(new InventoryReservationLineDto(second.getId(), 1),
+                                                new InventoryReservationLineDto(first.getId(), 1)),
+                                rejected);
+
+                // Assert: the smaller row limits the orders and the larger one is not over-reserved
+                assertEquals(50, reserved);
+                assertEquals(BUYERS - 50, rejected.get());
+                assertEquals(50, inventoryRepository.findById(first.getId()).orElseThrow().getReservedQuantity());
+                assertEquals(50, inventoryRepository.findById(second.getId()).orElseThrow().getReservedQuantity());
+        }
+
+        @Test
+        @DisplayName("commit, release and expire should each apply a reservation only once")
+        void commitReleaseExpire_shouldApplyReservationOnce() {
+                // Arrange
+                Inventory inventory = saveInventory(10);
+                InventoryReservationDto committed = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 3)));
+                InventoryReservationDto released = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 2)));
+                InventoryReservationDto expired = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 4)));
+
+                // Act
+                inventoryService.commit(committed.reservationId());
+                inventoryService.release(BUYER_ID, released.reservationId());
+                assertTrue(inventoryService.expire(expired.reservationId()));
+
+                // Assert
+                Inventory result = inventoryRepository.findById(inventory.getId()).orElseThrow();
+                assertEquals(7, result.getQuantity());
+                assertEquals(0, result.getReservedQuantity());
+                assertFalse(inventoryService.expire(committed.reservationId()));
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> inventoryService.release(BUYER_ID, expired.reservationId()));
+                assertEquals(StatusCode.INVENTORY_RESERVATION_NOT_FOUND, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("release should not release the reservation of another user")
+        void release_shouldRejectOtherUser() {
+                // Arrange
+                Inventory inventory = saveInventory(10);
+                InventoryReservationDto reservation = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 3)));
+
+                // Act
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> inventoryService.release(2L, reservation.reservationId()));
+
+                // Assert
+                assertEquals(StatusCode.INVENTORY_RESERVATION_NOT_FOUND, exception.getStatusCode());
+                assertEquals(3, inventoryRepository.findById(inventory.getId()).orElseThrow().getReservedQuantity());
+        }
+
+        @Test
+        @DisplayName("commit should reject a reservation past its expiry that the sweeper has not reached yet")
+        void commit_shouldRejectExpiredReservation() {
+                // Arrange
+                Inventory inventory = saveInventory(10);
+                InventoryReservationDto reservation = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 3)));
+                List<InventoryReservation> lines = reservationRepository.findAll();
+                lines.forEach(line -> line.setExpiresAt(Instant.now().minusSeconds(1)));
+                reservationRepository.saveAll(lines);
+
+                // Act
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> inventoryService.commit(reservation.reservationId()));
+
+                // Assert: still reserved, and the sweeper can expire it
+                assertEquals(StatusCode.INVENTORY_RESERVATION_NOT_FOUND, exception.getStatusCode());
+                assertEquals(10, inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity());
+                assertTrue(inventoryService.expire(reservation.reservationId()));
+        }
+
+        @Test
+        @DisplayName("reserve should reject a line above the per-line limit")
+        void reserve_shouldRejectLineAboveLimit() {
+                // Arrange
+                Inventory inventory = saveInventory(1000);
+
+                // Act
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> inventoryService.reserve(BUYER_ID, List.of(
+                                                new InventoryReservationLineDto(inventory.getId(), 60),
+                                                new InventoryReservationLineDto(inventory.getId(), 60))));
+
+                // Assert: the two lines for the same row are merged before the check
+                assertEquals(StatusCode.BAD_REQUEST, exception.getStatusCode());
+                assertEquals(0, inventoryRepository.findById(inventory.getId()).orElseThrow().getReservedQuantity());
+        }
+
+        private Inventory saveInventory(int quantity) {
+                return inventoryRepository.save(Inventory.builder()
+                                .product(product)
+                                .quantity(quantity)
+                                .reservedQuantity(0)
+                                .lowStockThreshold(0)
+                                .build());
+        }
+
+        /**
+         * Runs {@link #BUYERS} reservations on 32 threads, all released at once.
+         *
+         * @return Number of successful reservations
+         */
+        private int runBuyers(Supplier<List<InventoryReservationLineDto>> order,
+                        AtomicInteger rejected) throws InterruptedException {
+                ExecutorService executor = Executors.newFixedThreadPool(32);
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger reserved = new AtomicInteger();
+                for (int i = 0; i < BUYERS; i++) {
+                        List<InventoryReservationLineDto> lines = order.get();
+                        executor.execute(() -> {
+                                try {
+                                        start.await();
+                                        inventoryService.reserve(BUYER_ID, lines);
+                                        reserved.incrementAndGet();
+                                } catch (BusinessException e) {
+                                        if (e.getStatusCode() == StatusCode.INSUFFICIENT_STOCK) {
+                                                rejected.incrementAndGet();
+                                        }
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                }
+                        });
+                }
+                start.countDown();
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+                return reserved.get();
+        }
+}
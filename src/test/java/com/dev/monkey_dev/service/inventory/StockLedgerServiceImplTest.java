@@ -0,0 +1,134 @@
+package com.dev.monkey_dev.service.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.dev.monkey_dev.domain.entity.Inventory;
+import com.dev.monkey_dev.domain.entity.ProductVariation;
+import com.dev.monkey_dev.domain.entity.Products;
+import com.dev.monkey_dev.domain.entity.Users;
+import com.dev.monkey_dev.domain.respository.InventoryRepository;
+import com.dev.monkey_dev.dto.request.InventoryReservationLineDto;
+import com.dev.monkey_dev.dto.response.StockLevelDto;
+import com.dev.monkey_dev.properties.InventoryReservationProperties;
+import com.dev.monkey_dev.properties.StockLedgerProperties;
+
+/**
+ * Tests for StockLedgerServiceImpl
+ *
+ * The stock level answered from the ledger must always equal the quantities on
+ * the inventory row, before and after a snapshot.
+ */
+@DataJpaTest(properties = "app.inventory.ledger.snapshot-lag=PT0S")
+@Import({ StockLedgerServiceImpl.class, InventoryServiceImpl.class })
+@EnableConfigurationProperties({ StockLedgerProperties.class, InventoryReservationProperties.class })
+@DisplayName("StockLedgerServiceImpl Tests")
+class StockLedgerServiceImplTest {
+
+        private static final Long BUYER_ID = 1L;
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private IStockLedgerService stockLedgerService;
+
+        @Autowired
+        private IInventoryService inventoryService;
+
+        @Autowired
+        private InventoryRepository inventoryRepository;
+
+        private Products product;
+
+        @BeforeEach
+        void setUp() {
+                Users seller = entityManager.persist(Users.builder()
+                                .fullName("Seller One")
+                                .username("seller1")
+                                .email("seller1@example.com")
+                                .build());
+                product = entityManager.persist(Products.builder()
+                                .user(seller)
+                                .slug("product")
+                                .title("Product")
+                                .description("Description")
+                                .price(BigDecimal.TEN)
+                                .imageUrl("https://example.com/product.png")
+                                .build());
+                entityManager.flush();
+        }
+
+        @Test
+        @DisplayName("getStockLevel should match the inventory row after receipts, reservations and sales")
+        void getStockLevel_shouldMatchInventory() {
+                // Arrange
+                Inventory inventory = entityManager.persistAndFlush(Inventory.builder()
+                                .product(product)
+                                .quantity(0)
+                                .reservedQuantity(0)
+                                .lowStockThreshold(0)
+                                .build());
+                stockLedgerService.receive(inventory.getId(), 10, "PO-1");
+                String sold = inventoryService.reserve(BUYER_ID,
+                                List.of(new InventoryReservationLineDto(inventory.getId(), 3))).reservationId();
+                inventoryService.commit(sold);
+                inventoryService.reserve(BUYER_ID, List.of(new InventoryReservationLineDto(inventory.getId(), 2)));
+                entityManager.clear();
+
+                // Act
+                StockLevelDto level = stockLedgerService.getStockLevel(inventory.getId());
+
+                // Assert
+                Inventory row = inventoryRepository.findById(inventory.getId()).orElseThrow();
+                assertEquals(7, level.quantity());
+                assertEquals(2, level.reservedQuantity());
+                assertEquals(row.getQuantity().longValue(), level.quantity());
+                assertEquals(row.getReservedQuantity().longValue(), level.reservedQuantity());
+                assertNull(level.snapshotUntil());
+        }
+
+        @Test
+        @DisplayName("takeSnapshots should snapshot the ledger and reconcile the variation stock")
+        void takeSnapshots_shouldReconcileVariationStock() throws Exception {
+                // Arrange
+                ProductVariation variation = entityManager.persistAndFlush(ProductVariation.builder()
+                                .product(product)
+                                .name("Size")
+                                .value("M")
+                                .priceAdjustment(0.0)
+                                .sku("SKU-M")
+                                .stockQuantity(20)
+                                .build());
+                stockLedgerService.openStock(List.of(variation));
+                Long inventoryId = inventoryRepository.findAll().get(0).getId();
+                inventoryService.reserve(BUYER_ID, List.of(new InventoryReservationLineDto(inventoryId, 5)));
+                // Movements are only snapshotted once they are older than the lag
+                Thread.sleep(5);
+
+                // Act
+                int snapshots = stockLedgerService.takeSnapshots();
+                entityManager.clear();
+
+                // Assert
+                assertEquals(1, snapshots);
+                StockLevelDto level = stockLedgerService.getStockLevel(inventoryId);
+                assertNotNull(level.snapshotUntil());
+                assertEquals(20, level.quantity());
+                assertEquals(5, level.reservedQuantity());
+                assertEquals(15, entityManager.find(ProductVariation.class, variation.getId()).getStockQuantity());
+        }
+}
@@ -0,0 +1,81 @@
+package com.dev.monkey_dev.service.inventory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for StripedStockCounter
+ */
+@DisplayName("StripedStockCounter Unit Tests")
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("tryAcquire should grant exactly the stock to many parallel buyers")
+    void tryAcquire_shouldNotOverGrant_withParallelBuyers() throws Exception {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(10_000, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+
+        // Act: 16 threads ask for twice the stock
+        for (int t = 0; t < 16; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_250; i++) {
+                    if (counter.tryAcquire(1)) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(10_000, granted.get());
+        assertEquals(0, counter.remaining());
+    }
+
+    @Test
+    @DisplayName("tryAcquire should take units from other stripes when its own runs out")
+    void tryAcquire_shouldUseOtherStripes() {
+        // Arrange: 5 units over 4 stripes
+        StripedStockCounter counter = new StripedStockCounter(5, 4);
+
+        // Act & Assert: one thread drains every stripe
+        for (int i = 0; i < 5; i++) {
+            assertTrue(counter.tryAcquire(1));
+        }
+        assertFalse(counter.tryAcquire(1));
+    }
+
+    @Test
+    @DisplayName("drain should take the remaining units and stop further grants")
+    void drain_shouldReturnRemainingUnits() {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+        counter.tryAcquire(3);
+
+        // Act
+        int drained = counter.drain();
+
+        // Assert
+        assertEquals(7, drained);
+        assertFalse(counter.tryAcquire(1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.dev.monkey_dev.service.product.exporter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dev.monkey_dev.dto.request.CategorySummaryDto;
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+import com.dev.monkey_dev.dto.request.ProductImageDto;
+import com.dev.monkey_dev.dto.request.ProductResponseDto;
+import com.dev.monkey_dev.dto.request.ProductVariationDto;
+import com.dev.monkey_dev.service.product.importer.CsvProductImportReader;
+import com.dev.monkey_dev.service.product.importer.ProductImportRow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CsvProductExportWriter
+ *
+ * The export uses the import's column layout, so the tests write products and
+ * read them back with CsvProductImportReader instead of comparing raw text.
+ */
+@DisplayName("CsvProductExportWriter Unit Tests")
+class CsvProductExportWriterTest {
+
+    @Test
+    @DisplayName("write should produce CSV that the bulk import reads back")
+    void write_shouldRoundTripThroughImportReader() throws IOException {
+        // Arrange
+        ProductResponseDto product = new ProductResponseDto(
+                42L, 7L, "mug", "Mug, \"large\"", "Line one\nline two",
+                new BigDecimal("12.50"), "MUG-1", "USD",
+                null, null, null, null, null,
+                true, false, true,
+                Set.of(new CategorySummaryDto(9L, "Kitchen", "kitchen"), new CategorySummaryDto(3L, "Home", "home")),
+                List.of(new ProductImageDto(1L, "https://a.png", "", 0, false),
+                        new ProductImageDto(2L, "https://b.png", "", 1, true)),
+                List.of(new ProductVariationDto(5L, "Size", "L", new BigDecimal("1.50"), "MUG-L", 10),
+                        new ProductVariationDto(6L, "Size", "XL", new BigDecimal("2"), "", 4)),
+                null, null);
+        StringWriter out = new StringWriter();
+        CsvProductExportWriter writer = new CsvProductExportWriter(out);
+
+        // Act
+        writer.write(product);
+        writer.flush();
+
+        // Assert
+        try (CsvProductImportReader reader = new CsvProductImportReader(
+                new BufferedReader(new StringReader(out.toString())), 7L, 1000)) {
+            ProductImportRow row = reader.next();
+            assertNull(row.error());
+            ProductCreateRequestDto imported = row.product();
+            assertEquals("mug", imported.slug());
+            assertEquals("Mug, \"large\"", imported.title());
+            assertEquals("Line one\nline two", imported.description());
+            assertEquals(new BigDecimal("12.50"), imported.price());
+            assertEquals(Boolean.TRUE, imported.isNew());
+            assertEquals(Set.of(3L, 9L), imported.categoryIds());
+            assertEquals("https://b.png", imported.images().get(0).imageUrl());
+            assertTrue(imported.images().get(0).isPrimary());
+            assertEquals("MUG-L", imported.variations().get(0).sku());
+            assertNull(imported.variations().get(1).sku());
+            assertEquals(4, imported.variations().get(1).stockQuantity());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("flush should write the header even when there are no products")
+    void flush_shouldWriteHeader_whenCatalogEmpty() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+        CsvProductExportWriter writer = new CsvProductExportWriter(out);
+
+        // Act
+        writer.flush();
+
+        // Assert
+        assertTrue(out.toString().startsWith("id,slug,title,"));
+        assertEquals(1, out.toString().lines().count());
+    }
+}
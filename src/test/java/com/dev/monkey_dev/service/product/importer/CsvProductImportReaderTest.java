@@ -0,0 +1,161 @@
+package com.dev.monkey_dev.service.product.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dev.monkey_dev.dto.request.ProductCreateRequestDto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for CsvProductImportReader
+ *
+ * The reader only needs a java.io.Reader, so the CSV is given inline.
+ * Every test checks the rows it reads and the line numbers reported for them,
+ * since those are what sellers see in the import job errors.
+ */
+@DisplayName("CsvProductImportReader Unit Tests")
+class CsvProductImportReaderTest {
+
+    private static final Long SELLER_ID = 7L;
+    private static final int MAX_FIELD_LENGTH = 100;
+
+    @Test
+    @DisplayName("next should map columns by header name and split list columns")
+    void next_shouldMapColumnsByHeader() throws IOException {
+        // Arrange
+        String csv = "Title,slug,price,currency,categoryIds,imageUrls,variations,isFeatured\n"
+                + "Shirt,shirt-1,19.90,USD,3|7,https://a.png|https://b.png,Size:L:1.50:10|Size:XL:2:4:SKU-XL,true\n";
+
+        try (CsvProductImportReader reader = reader(csv)) {
+            // Act
+            ProductImportRow row = reader.next();
+
+            // Assert
+            assertNull(row.error());
+            assertEquals(2, row.line());
+            ProductCreateRequestDto product = row.product();
+            assertEquals(SELLER_ID, product.userId());
+            assertEquals("shirt-1", product.slug());
+            assertEquals("Shirt", product.title());
+            assertEquals(new BigDecimal("19.90"), product.price());
+            assertEquals(Set.of(3L, 7L), product.categoryIds());
+            assertEquals(Boolean.TRUE, product.isFeatured());
+            assertNull(product.isNew());
+            assertEquals(2, product.images().size());
+            assertTrue(product.images().get(0).isPrimary());
+            assertEquals("https://b.png", product.images().get(1).imageUrl());
+            assertEquals(2, product.variations().size());
+            assertEquals("XL", product.variations().get(1).value());
+            assertEquals("SKU-XL", product.variations().get(1).sku());
+            assertEquals(4, product.variations().get(1).stockQuantity());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("next should read quoted fields containing commas, quotes and line breaks")
+    void next_shouldReadQuotedFields() throws IOException {
+        // Arrange
+        String csv = "slug,title,description,price\r\n"
+                + "mug,\"Mug, large\",\"Says \"\"hello\"\"\nand more\",5\r\n"
+                + "cup,Cup,,3\r\n";
+
+        try (CsvProductImportReader reader = reader(csv)) {
+            // Act
+            ProductImportRow mug = reader.next();
+            ProductImportRow cup = reader.next();
+
+            // Assert
+            assertEquals("Mug, large", mug.product().title());
+            assertEquals("Says \"hello\"\nand more", mug.product().description());
+            assertEquals(2, mug.line());
+            assertNull(cup.product().description());
+            assertEquals(4, cup.line());
+        }
+    }
+
+    @Test
+    @DisplayName("next should report a bad row and keep reading the following rows")
+    void next_shouldReportRowError_andContinue() throws IOException {
+        // Arrange
+        String csv = "slug,title,price\n"
+                + "a,A,cheap\n"
+                + "\n"
+                + "b,B\n"
+                + "c,C,1\n";
+
+        try (CsvProductImportReader reader = reader(csv)) {
+            // Act
+            ProductImportRow badPrice = reader.next();
+            ProductImportRow missingColumn = reader.next();
+            ProductImportRow valid = reader.next();
+
+            // Assert
+            assertEquals("a", badPrice.slug());
+            assertEquals("price: 'cheap' is not a number", badPrice.error());
+            assertEquals(4, missingColumn.line());
+            assertEquals("Expected 3 columns but found 2", missingColumn.error());
+            assertNull(valid.error());
+            assertEquals(5, valid.line());
+        }
+    }
+
+    @Test
+    @DisplayName("constructor should reject a header with an unknown column")
+    void constructor_shouldRejectUnknownColumn() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> reader("slug,colour\n"));
+        assertEquals("Unknown CSV column: colour", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("next should report an unterminated quoted field as a row error")
+    void next_shouldReportUnterminatedQuote_asRowError() throws IOException {
+        // Arrange
+        try (CsvProductImportReader reader = reader("slug,title\na,A\nb,\"open\nc,C\n")) {
+            // Act
+            ProductImportRow valid = reader.next();
+            ProductImportRow unterminated = reader.next();
+
+            // Assert: the open quote swallows the rest of the file
+            assertNull(valid.error());
+            assertEquals("b", unterminated.slug());
+            assertEquals(3, unterminated.line());
+            assertTrue(unterminated.error().startsWith("Unterminated quoted field"));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("next should report a field over the maximum length and keep reading")
+    void next_shouldReportLongField_andContinue() throws IOException {
+        // Arrange
+        String csv = "slug,title\n"
+                + "a,\"" + "x".repeat(MAX_FIELD_LENGTH + 1) + "\"\n"
+                + "b,B\n";
+
+        try (CsvProductImportReader reader = reader(csv)) {
+            // Act
+            ProductImportRow tooLong = reader.next();
+            ProductImportRow valid = reader.next();
+
+            // Assert
+            assertEquals("a", tooLong.slug());
+            assertEquals("A field is longer than " + MAX_FIELD_LENGTH + " characters", tooLong.error());
+            assertNull(valid.error());
+            assertEquals(3, valid.line());
+        }
+    }
+
+    private CsvProductImportReader reader(String csv) throws IOException {
+        return new CsvProductImportReader(new BufferedReader(new StringReader(csv)), SELLER_ID, MAX_FIELD_LENGTH);
+    }
+}
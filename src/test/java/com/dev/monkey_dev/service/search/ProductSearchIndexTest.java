@@ -0,0 +1,135 @@
+package com.dev.monkey_dev.service.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for ProductSearchIndex
+ *
+ * The index is a plain Java class, so it is tested without Spring:
+ *
+ * 1. RANKING: BM25 scores with field weights (title beats description)
+ * 2. MATCHING: every word must match, the last word also as a prefix
+ * 3. UPDATES: re-indexing and removing a product is reflected immediately
+ * 4. FACETS: category counts ignore the category filter, price counts respect it
+ */
+@DisplayName("ProductSearchIndex Unit Tests")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(List.of(new BigDecimal("25"), new BigDecimal("100")), 50);
+        index.index(document(1L, "Red running shoes", "Lightweight trainers", "9.99", "shoes"));
+        index.index(document(2L, "Blue jacket", "Pairs well with red shoes", "120.00", "jackets"));
+        index.index(document(3L, "Red wool socks", "Warm socks", "30.00", "socks", "shoes"));
+    }
+
+    @Test
+    @DisplayName("search should rank title matches above description matches")
+    void search_shouldRankTitleMatchesFirst() {
+        // Act
+        ProductSearchResult result = index.search("red shoes", null, 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 3L, 2L), result.productIds());
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    @DisplayName("search should match the last word as a prefix")
+    void search_shouldPrefixMatchLastWord() {
+        // Act
+        ProductSearchResult result = index.search("red sho", null, 0, 10);
+
+        // Assert
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(result.productIds()));
+    }
+
+    @Test
+    @DisplayName("search should keep the prefix expansions found in the most products")
+    void search_shouldKeepMostFrequentExpansions() {
+        // Arrange: "shark" sorts before "shoes" but is found in fewer products
+        ProductSearchIndex limited = new ProductSearchIndex(List.of(new BigDecimal("25")), 1);
+        limited.index(document(1L, "Shark toy", "Plush", "9.99", "toys"));
+        limited.index(document(2L, "Shoes", "Leather", "50.00", "shoes"));
+        limited.index(document(3L, "Red shoes", "Canvas", "40.00", "shoes"));
+
+        // Act
+        ProductSearchResult result = limited.search("sh", null, 0, 10);
+
+        // Assert
+        assertEquals(Set.of(2L, 3L), Set.copyOf(result.productIds()));
+    }
+
+    @Test
+    @DisplayName("search should require every word to match")
+    void search_shouldRequireEveryWord() {
+        // Act
+        ProductSearchResult result = index.search("red wool", null, 0, 10);
+
+        // Assert
+        assertEquals(List.of(3L), result.productIds());
+    }
+
+    @Test
+    @DisplayName("search should return an empty result when the query has no words")
+    void search_shouldReturnEmpty_whenQueryHasNoWords() {
+        // Act
+        ProductSearchResult result = index.search(" - ", null, 0, 10);
+
+        // Assert
+        assertTrue(result.productIds().isEmpty());
+        assertEquals(0, result.total());
+    }
+
+    @Test
+    @DisplayName("search should page through results in score order")
+    void search_shouldPageResults() {
+        // Act
+        ProductSearchResult result = index.search("red shoes", null, 1, 1);
+
+        // Assert
+        assertEquals(List.of(3L), result.productIds());
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    @DisplayName("search should count category facets before and price facets after the category filter")
+    void search_shouldComputeFacets() {
+        // Act
+        ProductSearchResult result = index.search("red", "shoes", 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), result.productIds());
+        assertEquals(Map.of("shoes", 2L, "socks", 1L, "jackets", 1L), result.categoryFacets());
+        assertEquals(Map.of("0-25", 1L, "25-100", 1L, "100+", 0L), result.priceFacets());
+    }
+
+    @Test
+    @DisplayName("index should replace a product and remove should drop it")
+    void index_shouldReflectUpdatesAndRemovals() {
+        // Act
+        index.index(document(1L, "Green hat", "Wool hat", "15.00", "hats"));
+        index.remove(3L);
+
+        // Assert
+        assertEquals(List.of(2L), index.search("red", null, 0, 10).productIds());
+        assertEquals(List.of(1L), index.search("hat", null, 0, 10).productIds());
+        assertEquals(2, index.size());
+    }
+
+    private static ProductSearchDocument document(Long id, String title, String description, String price,
+            String... categorySlugs) {
+        return new ProductSearchDocument(id, title, description, null, new BigDecimal(price), Set.of(categorySlugs));
+    }
+}
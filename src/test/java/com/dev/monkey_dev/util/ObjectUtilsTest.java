@@ -0,0 +1,94 @@
+package com.dev.monkey_dev.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for ObjectUtils
+ *
+ * The serialization helpers share one ObjectMapper, so besides checking each
+ * output style the tests call the pretty and compact helpers from several
+ * threads at once and check neither leaks into the other.
+ */
+@DisplayName("ObjectUtils Unit Tests")
+class ObjectUtilsTest {
+
+    private static final Map<String, Object> VALUE = Map.of("name", "Mug");
+
+    @Test
+    @DisplayName("pretty and compact helpers should not affect each other when used concurrently")
+    void writeHelpers_shouldKeepTheirFormat_whenCalledConcurrently() throws Exception {
+        // Arrange
+        String pretty = ObjectUtils.writeValueAsString(VALUE);
+        String compact = ObjectUtils.writeValueAsSingleLineString(VALUE);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            calls.add(i % 2 == 0
+                    ? () -> pretty.equals(ObjectUtils.writeValueAsString(VALUE))
+                    : () -> compact.equals(ObjectUtils.writeValueAsSingleLineString(VALUE)));
+        }
+
+        // Act
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(calls);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertTrue(pretty.contains("\n"));
+        assertEquals("{\"name\":\"Mug\"}", compact);
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+    }
+
+    @Test
+    @DisplayName("writeValueForLog should cut long output and mark it as truncated")
+    void writeValueForLog_shouldTruncate_whenOutputExceedsLimit() {
+        // Arrange
+        List<String> names = Collections.nCopies(10_000, "product");
+
+        // Act
+        String shortLog = ObjectUtils.writeValueForLog(VALUE, 100);
+        String longLog = ObjectUtils.writeValueForLog(names, 20);
+
+        // Assert
+        assertEquals("{\"name\":\"Mug\"}", shortLog);
+        assertEquals("[\"product\",\"product\"...(truncated)", longLog);
+    }
+
+    @Test
+    @DisplayName("writeValue should write compact UTF-8 JSON and leave the stream open")
+    void writeValue_shouldWriteJson_andLeaveStreamOpen() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Stream should not be closed");
+            }
+        };
+
+        // Act
+        ObjectUtils.writeValue(out, Map.of("name", "Café"));
+
+        // Assert
+        assertEquals("{\"name\":\"Café\"}", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.dev.monkey_dev.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PasswordUtils
+ *
+ * Clients encrypt passwords with the same derivation, so the reused ciphers
+ * must produce exactly what a freshly initialized cipher would.
+ */
+@DisplayName("PasswordUtils Unit Tests")
+class PasswordUtilsTest {
+
+    private static final String KEY = "test-encryption-key";
+
+    @BeforeEach
+    void setUp() {
+        new PasswordUtils().setEncryptionKey(KEY);
+    }
+
+    @Test
+    @DisplayName("decrypt should read what a freshly initialized client cipher encrypted")
+    void decrypt_shouldMatchClientCipher() throws Exception {
+        // Arrange
+        String encrypted = clientEncrypt(KEY, "p@ssw0rd");
+
+        // Act & Assert: twice, so the second call reuses the thread's cipher
+        assertEquals("p@ssw0rd", PasswordUtils.decrypt(encrypted));
+        assertEquals("p@ssw0rd", PasswordUtils.decrypt(encrypted));
+        assertEquals(encrypted, PasswordUtils.encrypt("p@ssw0rd"));
+    }
+
+    @Test
+    @DisplayName("decrypt should recover after a corrupt input")
+    void decrypt_shouldRecover_afterFailure() throws Exception {
+        // Arrange
+        String encrypted = PasswordUtils.encrypt("secret");
+        String corrupt = Base64.getEncoder().encodeToString(new byte[16]);
+
+        // Act & Assert
+        assertThrows(BadPaddingException.class, () -> PasswordUtils.decrypt(corrupt));
+        assertEquals("secret", PasswordUtils.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("encrypt should use the new key after the key changes")
+    void encrypt_shouldUseNewKey_whenKeyChanges() throws Exception {
+        // Arrange
+        PasswordUtils.encrypt("secret");
+
+        // Act
+        new PasswordUtils().setEncryptionKey("another-key");
+
+        // Assert
+        assertEquals(clientEncrypt("another-key", "secret"), PasswordUtils.encrypt("secret"));
+    }
+
+    private static String clientEncrypt(String key, String plainText) throws Exception {
+        byte[] secretKey = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        byte[] iv = HexFormat.of().formatHex(secretKey).substring(0, 16).getBytes(StandardCharsets.UTF_8);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey, "AES"), new IvParameterSpec(iv));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -368,4 +368,43 @@ class StringUtilsTest {
         // Assert
         assertEquals(textWithSpecialChars, result, "Should preserve special characters");
     }
+
+    // ============================================
+    // Testing toPrefixTsQuery() method
+    // ============================================
+
+    @Test
+    @DisplayName("toPrefixTsQuery should prefix-match and AND every word")
+    void toPrefixTsQuery_shouldPrefixMatchEveryWord() {
+        // Arrange
+        String input = "Red  Sho";
+
+        // Act
+        String result = StringUtils.toPrefixTsQuery(input);
+
+        // Assert
+        assertEquals("red:* & sho:*", result);
+    }
+
+    @Test
+    @DisplayName("toPrefixTsQuery should strip tsquery operators")
+    void toPrefixTsQuery_shouldStripTsQueryOperators() {
+        // Arrange
+        String input = "shoe & !(boot | sandal):*";
+
+        // Act
+        String result = StringUtils.toPrefixTsQuery(input);
+
+        // Assert
+        assertEquals("shoe:* & boot:* & sandal:*", result);
+    }
+
+    @Test
+    @DisplayName("toPrefixTsQuery should return null when there are no searchable words")
+    void toPrefixTsQuery_shouldReturnNull_whenNoSearchableWords() {
+        // Act & Assert
+        assertNull(StringUtils.toPrefixTsQuery(null));
+        assertNull(StringUtils.toPrefixTsQuery("  "));
+        assertNull(StringUtils.toPrefixTsQuery("&|!"));
+    }
 }